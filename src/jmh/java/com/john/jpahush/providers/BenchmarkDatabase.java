@@ -0,0 +1,149 @@
+package com.john.jpahush.providers;
+
+import com.querydsl.core.types.Projections;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.openjdk.jmh.annotations.*;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.Persistence;
+import java.util.Date;
+
+/**
+ * 벤치마크용 인메모리 (H2) 데이터베이스 상태
+ * 회원 데이터를 미리 저장해 두고, 벤치마크에서 사용할 기본 쿼리를 만든다.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkDatabase {
+
+    /**
+     * 저장할 회원 수
+     */
+    @Param({"2000"})
+    public int memberCount;
+
+    /**
+     * 엔티티 매니저 팩토리
+     */
+    public EntityManagerFactory entityManagerFactory;
+
+    /**
+     * 엔티티 매니저
+     */
+    public EntityManager entityManager;
+
+    /**
+     * 쿼리 팩토리
+     */
+    public JPAQueryFactory queryFactory;
+
+    /**
+     * 데이터베이스를 만들고 회원 데이터를 저장한다.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        this.entityManagerFactory = Persistence.createEntityManagerFactory("jpahush-benchmark");
+        this.entityManager = this.entityManagerFactory.createEntityManager();
+        this.queryFactory = new JPAQueryFactory(this.entityManager);
+
+        this.entityManager.getTransaction().begin();
+        for (int index = 0; index < memberCount; index++) {
+            this.entityManager.persist(createMember(index));
+            // 영속성 컨텍스트가 커지지 않도록 정리한다.
+            if(index % 500 == 499) {
+                this.entityManager.flush();
+                this.entityManager.clear();
+            }
+        }
+        this.entityManager.getTransaction().commit();
+        this.entityManager.clear();
+    }
+
+    /**
+     * 데이터베이스를 정리한다.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.entityManager.close();
+        this.entityManagerFactory.close();
+    }
+
+    /**
+     * 회원 응답 클래스로 조회하는 기본 쿼리를 만든다.
+     * @return 기본 쿼리
+     */
+    public JPAQuery<BenchmarkMemberResponse> createBaseQuery() {
+        QBenchmarkMember member = QBenchmarkMember.benchmarkMember;
+        return this.queryFactory
+                .select(Projections.bean(BenchmarkMemberResponse.class,
+                        member.id,
+                        member.name,
+                        member.email,
+                        member.phoneNo,
+                        member.address,
+                        member.city,
+                        member.country,
+                        member.nickname,
+                        member.department,
+                        member.jobTitle,
+                        member.memo,
+                        member.zipCode,
+                        member.referrer,
+                        member.age,
+                        member.grade,
+                        member.point,
+                        member.level,
+                        member.loginCount,
+                        member.orderCount,
+                        member.balance,
+                        member.active,
+                        member.verified,
+                        member.admin,
+                        member.marketingAgreed,
+                        member.status,
+                        member.memberType,
+                        member.createdAt,
+                        member.updatedAt,
+                        member.lastLoginAt))
+                .from(member);
+    }
+
+    /**
+     * 테스트 회원 정보를 만든다.
+     * @param index 순번
+     * @return 회원 엔티티
+     */
+    public static BenchmarkMember createMember(int index) {
+        BenchmarkMember member = new BenchmarkMember();
+        member.setName("회원" + index);
+        member.setEmail("member" + index + "@jpahush.com");
+        member.setPhoneNo(String.format("010%08d", index));
+        member.setAddress("서울시 강남구 테헤란로 " + index);
+        member.setCity(index % 2 == 0 ? "서울" : "부산");
+        member.setCountry("KR");
+        member.setNickname("nick" + index);
+        member.setDepartment("부서" + (index % 10));
+        member.setJobTitle("직책" + (index % 5));
+        member.setMemo("메모 " + index);
+        member.setZipCode(String.format("%05d", index % 100000));
+        member.setReferrer("회원" + (index / 2));
+        member.setAge(20 + index % 50);
+        member.setGrade(index % 5);
+        member.setPoint(index * 10);
+        member.setLevel(index % 100);
+        member.setLoginCount(index % 1000);
+        member.setOrderCount(index % 300);
+        member.setBalance(index * 1000L);
+        member.setActive(index % 3 != 0);
+        member.setVerified(index % 2 == 0);
+        member.setAdmin(index % 100 == 0);
+        member.setMarketingAgreed(index % 4 == 0);
+        member.setStatus(BenchmarkMember.Status.values()[index % BenchmarkMember.Status.values().length]);
+        member.setMemberType(BenchmarkMember.MemberType.values()[index % BenchmarkMember.MemberType.values().length]);
+        member.setCreatedAt(new Date(1_600_000_000_000L + index * 60_000L));
+        member.setUpdatedAt(new Date(1_600_000_000_000L + index * 120_000L));
+        member.setLastLoginAt(new Date(1_600_000_000_000L + index * 180_000L));
+        return member;
+    }
+}
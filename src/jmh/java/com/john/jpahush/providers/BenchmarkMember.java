@@ -0,0 +1,179 @@
+package com.john.jpahush.providers;
+
+import lombok.Getter;
+import lombok.Setter;
+
+import javax.persistence.*;
+import java.util.Date;
+
+/**
+ * 벤치마크용 회원 엔티티
+ */
+@Entity
+@Getter
+@Setter
+@Table(name = "benchmark_member")
+public class BenchmarkMember {
+
+    /**
+     * 회원 상태
+     */
+    public enum Status { ACTIVE, DORMANT, WITHDRAWN }
+
+    /**
+     * 회원 타입
+     */
+    public enum MemberType { PERSONAL, BUSINESS, PARTNER }
+
+    /**
+     * 아이디
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * 이름
+     */
+    private String name;
+
+    /**
+     * 이메일
+     */
+    private String email;
+
+    /**
+     * 전화번호
+     */
+    private String phoneNo;
+
+    /**
+     * 주소
+     */
+    private String address;
+
+    /**
+     * 도시
+     */
+    private String city;
+
+    /**
+     * 국가
+     */
+    private String country;
+
+    /**
+     * 닉네임
+     */
+    private String nickname;
+
+    /**
+     * 부서
+     */
+    private String department;
+
+    /**
+     * 직책
+     */
+    private String jobTitle;
+
+    /**
+     * 메모
+     */
+    private String memo;
+
+    /**
+     * 우편번호
+     */
+    private String zipCode;
+
+    /**
+     * 추천인
+     */
+    private String referrer;
+
+    /**
+     * 나이
+     */
+    private Integer age;
+
+    /**
+     * 등급
+     */
+    private Integer grade;
+
+    /**
+     * 포인트
+     */
+    private Integer point;
+
+    /**
+     * 레벨
+     */
+    private Integer level;
+
+    /**
+     * 로그인 수
+     */
+    private Integer loginCount;
+
+    /**
+     * 주문 수
+     */
+    private Integer orderCount;
+
+    /**
+     * 잔액
+     */
+    private Long balance;
+
+    /**
+     * 활성 여부
+     */
+    private Boolean active;
+
+    /**
+     * 인증 여부
+     */
+    private Boolean verified;
+
+    /**
+     * 관리자 여부
+     */
+    private Boolean admin;
+
+    /**
+     * 마케팅 동의 여부
+     */
+    private Boolean marketingAgreed;
+
+    /**
+     * 상태
+     */
+    @Enumerated(EnumType.STRING)
+    private Status status;
+
+    /**
+     * 회원 타입
+     */
+    @Enumerated(EnumType.STRING)
+    private MemberType memberType;
+
+    /**
+     * 등록 일시
+     */
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date createdAt;
+
+    /**
+     * 수정 일시
+     */
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date updatedAt;
+
+    /**
+     * 마지막 로그인 일시
+     */
+    @Temporal(TemporalType.TIMESTAMP)
+    private Date lastLoginAt;
+}
@@ -0,0 +1,192 @@
+package com.john.jpahush.providers;
+
+import com.john.jpahush.annotations.SearchFilter;
+import com.john.jpahush.data.commondata.enums.EnumFieldSearchType;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.Date;
+
+/**
+ * 벤치마크용 회원 응답 클래스
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class BenchmarkMemberResponse {
+
+    /**
+     * 아이디
+     */
+    @SearchFilter(searchType = EnumFieldSearchType.Number)
+    private Long id;
+
+    /**
+     * 이름
+     */
+    @SearchFilter(searchType = EnumFieldSearchType.StringLike)
+    private String name;
+
+    /**
+     * 이메일
+     */
+    @SearchFilter(searchType = EnumFieldSearchType.StringEqual)
+    private String email;
+
+    /**
+     * 전화번호
+     */
+    @SearchFilter(searchType = EnumFieldSearchType.PhoneNo)
+    private String phoneNo;
+
+    /**
+     * 주소
+     */
+    @SearchFilter(searchType = EnumFieldSearchType.StringLike)
+    private String address;
+
+    /**
+     * 도시
+     */
+    @SearchFilter(searchType = EnumFieldSearchType.StringLike)
+    private String city;
+
+    /**
+     * 국가
+     */
+    @SearchFilter(searchType = EnumFieldSearchType.StringEqual)
+    private String country;
+
+    /**
+     * 닉네임
+     */
+    @SearchFilter(searchType = EnumFieldSearchType.StringLike)
+    private String nickname;
+
+    /**
+     * 부서
+     */
+    @SearchFilter(searchType = EnumFieldSearchType.StringLike)
+    private String department;
+
+    /**
+     * 직책
+     */
+    @SearchFilter(searchType = EnumFieldSearchType.StringLike)
+    private String jobTitle;
+
+    /**
+     * 메모
+     */
+    @SearchFilter(searchType = EnumFieldSearchType.StringLike)
+    private String memo;
+
+    /**
+     * 우편번호
+     */
+    @SearchFilter(searchType = EnumFieldSearchType.StringEqual)
+    private String zipCode;
+
+    /**
+     * 추천인
+     */
+    @SearchFilter(searchType = EnumFieldSearchType.StringLike)
+    private String referrer;
+
+    /**
+     * 나이
+     */
+    @SearchFilter(searchType = EnumFieldSearchType.Number)
+    private Integer age;
+
+    /**
+     * 등급
+     */
+    @SearchFilter(searchType = EnumFieldSearchType.Number)
+    private Integer grade;
+
+    /**
+     * 포인트
+     */
+    @SearchFilter(searchType = EnumFieldSearchType.Number)
+    private Integer point;
+
+    /**
+     * 레벨
+     */
+    @SearchFilter(searchType = EnumFieldSearchType.Number)
+    private Integer level;
+
+    /**
+     * 로그인 수
+     */
+    @SearchFilter(searchType = EnumFieldSearchType.Number)
+    private Integer loginCount;
+
+    /**
+     * 주문 수
+     */
+    @SearchFilter(searchType = EnumFieldSearchType.Number)
+    private Integer orderCount;
+
+    /**
+     * 잔액
+     */
+    @SearchFilter(searchType = EnumFieldSearchType.Number)
+    private Long balance;
+
+    /**
+     * 활성 여부
+     */
+    @SearchFilter(searchType = EnumFieldSearchType.Boolean)
+    private Boolean active;
+
+    /**
+     * 인증 여부
+     */
+    @SearchFilter(searchType = EnumFieldSearchType.Boolean)
+    private Boolean verified;
+
+    /**
+     * 관리자 여부
+     */
+    @SearchFilter(searchType = EnumFieldSearchType.Boolean)
+    private Boolean admin;
+
+    /**
+     * 마케팅 동의 여부
+     */
+    @SearchFilter(searchType = EnumFieldSearchType.Boolean)
+    private Boolean marketingAgreed;
+
+    /**
+     * 상태
+     */
+    @SearchFilter(searchType = EnumFieldSearchType.Enum)
+    private BenchmarkMember.Status status;
+
+    /**
+     * 회원 타입
+     */
+    @SearchFilter(searchType = EnumFieldSearchType.Enum)
+    private BenchmarkMember.MemberType memberType;
+
+    /**
+     * 등록 일시
+     */
+    @SearchFilter(searchType = EnumFieldSearchType.Date, isDateOnly = false)
+    private Date createdAt;
+
+    /**
+     * 수정 일시
+     */
+    @SearchFilter(searchType = EnumFieldSearchType.Date, isDateOnly = false)
+    private Date updatedAt;
+
+    /**
+     * 마지막 로그인 일시
+     */
+    @SearchFilter(searchType = EnumFieldSearchType.Date, isDateOnly = false)
+    private Date lastLoginAt;
+}
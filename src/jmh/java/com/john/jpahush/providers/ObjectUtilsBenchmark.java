@@ -0,0 +1,53 @@
+package com.john.jpahush.providers;
+
+import com.john.jpahush.utils.ObjectUtils;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ObjectUtils.createAndCopy 레코드 단위 변환 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ObjectUtilsBenchmark {
+
+    /**
+     * 원본 엔티티
+     */
+    private BenchmarkMember member;
+
+    /**
+     * 원본 응답 객체
+     */
+    private BenchmarkMemberResponse response;
+
+    /**
+     * 벤치마크 상태를 준비한다.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        this.member = BenchmarkDatabase.createMember(1);
+        this.member.setId(1L);
+        this.response = ObjectUtils.createAndCopy(this.member, BenchmarkMemberResponse.class);
+    }
+
+    /**
+     * 엔티티를 응답 클래스로 변환한다.
+     * @return 응답 객체
+     */
+    @Benchmark
+    public BenchmarkMemberResponse entityToResponse() {
+        return ObjectUtils.createAndCopy(member, BenchmarkMemberResponse.class);
+    }
+
+    /**
+     * 응답 객체를 같은 타입으로 복사한다.
+     * @return 응답 객체
+     */
+    @Benchmark
+    public BenchmarkMemberResponse responseToResponse() {
+        return ObjectUtils.createAndCopy(response, BenchmarkMemberResponse.class);
+    }
+}
@@ -0,0 +1,159 @@
+package com.john.jpahush.providers;
+
+import com.john.jpahush.data.commondata.queries.KeywordSearchItem;
+import com.john.jpahush.data.commondata.queries.QueryContext;
+import com.john.jpahush.data.commondata.queries.SortItem;
+import com.john.jpahush.data.commondata.responses.QueryResults;
+import com.john.jpahush.interfaces.DatabaseCallbackProvider;
+import com.querydsl.core.JoinExpression;
+import com.querydsl.jpa.impl.JPAQuery;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 조회시 매번 수행되는 QueryDSLProvider 처리 과정 벤치마크
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class QueryDSLProviderBenchmark {
+
+    /**
+     * 검색 필드 목록
+     */
+    private static final String[] SEARCH_FIELDS = {
+            "name", "email", "phoneNo", "city", "department", "jobTitle"
+            , "age", "grade", "active", "verified", "status", "memberType"
+    };
+
+    /**
+     * 검색할 값 목록
+     */
+    private static final String[] SEARCH_VALUES = {
+            "회원1", "member1@jpahush.com", "010-0000-0001", "서울", "부서1", "직책1"
+            , "21", "1", "true", "false", "ACTIVE", "PERSONAL"
+    };
+
+    /**
+     * 정렬 필드 목록
+     */
+    private static final String[] ORDER_FIELDS = { "grade", "createdAt", "id" };
+
+    /**
+     * 정렬 방향 목록
+     */
+    private static final String[] ORDER_DIRECTIONS = { "desc", "asc", "asc" };
+
+    /**
+     * 프로바이더
+     */
+    private QueryDSLProvider provider;
+
+    /**
+     * 기본 쿼리
+     */
+    private JPAQuery<BenchmarkMemberResponse> baseQuery;
+
+    /**
+     * 쿼리 컨텍스트
+     */
+    private QueryContext context;
+
+    /**
+     * 쿼리 안 테이블 정보
+     */
+    private List<JoinExpression> queryTables;
+
+    /**
+     * 프로젝션 인덱스
+     */
+    private ProjectionIndex projection;
+
+    /**
+     * 테이블과 컬럼 매핑 목록
+     */
+    private Map<String, Object[]> tableAndColumns;
+
+    /**
+     * 벤치마크 상태를 준비한다.
+     * @param database 데이터베이스 상태
+     */
+    @Setup(Level.Trial)
+    public void setup(BenchmarkDatabase database) {
+        this.provider = new QueryDSLProvider(new DatabaseCallbackProvider());
+        this.baseQuery = database.createBaseQuery();
+        this.queryTables = this.baseQuery.getMetadata().getJoins();
+        this.projection = ProjectionIndex.of(this.baseQuery.getMetadata().getProjection());
+        this.context = QueryContext.builder()
+                .name("benchmark-members")
+                .skip(40)
+                .countPerPage(20)
+                .orderFields(ORDER_FIELDS)
+                .orderDirections(ORDER_DIRECTIONS)
+                .searchFields(SEARCH_FIELDS)
+                .searchValues(SEARCH_VALUES)
+                .searchPeriodFields(new String[] { "createdAt" })
+                .searchStartDates(new Date[] { new Date(1_600_000_000_000L) })
+                .searchEndDates(new Date[] { new Date(1_700_000_000_000L) })
+                .build();
+
+        this.tableAndColumns = new LinkedHashMap<>();
+        this.tableAndColumns.put("benchmarkMember", new String[] { "id", "name", "email", "grade", "createdAt" });
+    }
+
+    /**
+     * 사용자 검색 정보를 키워드 검색 목록으로 변환한다.
+     * @return 키워드 검색 목록
+     */
+    @Benchmark
+    public List<KeywordSearchItem> getSearchFields() {
+        return provider.getSearchFields(context, queryTables, BenchmarkMemberResponse.class, projection);
+    }
+
+    /**
+     * 검색 조건을 쿼리에 추가한다.
+     * @return 쿼리
+     */
+    @Benchmark
+    public JPAQuery<BenchmarkMemberResponse> getWhereQueries() {
+        return provider.getWhereQueries(context, baseQuery.clone(), BenchmarkMemberResponse.class);
+    }
+
+    /**
+     * 정렬 조건을 쿼리에 추가한다.
+     * @return 쿼리
+     */
+    @Benchmark
+    public JPAQuery<BenchmarkMemberResponse> getOrderByQueries() {
+        return provider.getOrderByQueries(context, baseQuery.clone());
+    }
+
+    /**
+     * 정렬 필드 목록을 정렬 정보 목록으로 변환한다.
+     * @return 정렬 정보 목록
+     */
+    @Benchmark
+    public List<SortItem> getSortOrders() {
+        return provider.getSortOrders("benchmarkMember", tableAndColumns, ORDER_FIELDS, ORDER_DIRECTIONS, new SortItem("id", "desc"));
+    }
+
+    /**
+     * 필드명을 테이블명과 함께 변환한다.
+     * @return 필드 경로
+     */
+    @Benchmark
+    public String getFieldPath() {
+        return provider.getFieldPath("benchmarkMember", tableAndColumns, "createdAt");
+    }
+
+    /**
+     * 조건/정렬/페이징을 적용하여 H2 에서 목록과 전체 레코드 수를 조회한다.
+     * @return 조회 결과
+     */
+    @Benchmark
+    public QueryResults<BenchmarkMemberResponse> createQueryResults() {
+        return provider.createQueryResults(context, BenchmarkMemberResponse.class, baseQuery.clone(), QBenchmarkMember.benchmarkMember.count());
+    }
+}
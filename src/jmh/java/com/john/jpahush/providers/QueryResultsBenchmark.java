@@ -0,0 +1,50 @@
+package com.john.jpahush.providers;
+
+import com.john.jpahush.data.commondata.responses.QueryResults;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * QueryResults 페이징 값 조회 벤치마크 (응답 직렬화시 모든 getter 가 호출된다.)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class QueryResultsBenchmark {
+
+    /**
+     * 조회 결과
+     */
+    private QueryResults<BenchmarkMemberResponse> results;
+
+    /**
+     * 벤치마크 상태를 준비한다.
+     */
+    @Setup(Level.Trial)
+    public void setup() {
+        List<BenchmarkMemberResponse> items = new ArrayList<>();
+        for (int index = 0; index < 20; index++)
+            items.add(new BenchmarkMemberResponse());
+        this.results = new QueryResults<>(items, 1_234_567L, 4_000L, 20, 10);
+    }
+
+    /**
+     * 모든 페이징 값을 조회한다.
+     * @param blackhole 결과 소비 객체
+     */
+    @Benchmark
+    public void pagingGetters(Blackhole blackhole) {
+        blackhole.consume(results.getTotalPage());
+        blackhole.consume(results.getStartPageNo());
+        blackhole.consume(results.getEndPageNo());
+        blackhole.consume(results.getPageNos());
+        blackhole.consume(results.isHavePreviousPage());
+        blackhole.consume(results.isHaveNextPage());
+        blackhole.consume(results.isHavePreviousPageSection());
+        blackhole.consume(results.isHaveNextPageSection());
+    }
+}
@@ -2,6 +2,7 @@ package com.john.jpahush.annotations;
 
 
 import com.john.jpahush.data.commondata.enums.EnumFieldSearchType;
+import com.john.jpahush.data.commondata.enums.EnumSearchStrategy;
 
 import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
@@ -37,4 +38,31 @@ public @interface SearchFilter {
      * @return
      */
     boolean isDateOnly() default true;
+
+    /**
+     * 문자열 (StringLike / PhoneNo) 검색에 사용할 수 있는 검색 전략 목록 ( 기본 : 포함 검색 )
+     * 검색어 별로 사용할 수 있는 전략 중 비용이 가장 낮은 전략을 선택한다.
+     */
+    EnumSearchStrategy[] strategies() default {};
+
+    /**
+     * 정규화된 값을 가진 필드명 (NormalizedEqual 전략에서 사용, 없는 경우 검색 필드를 사용한다.)
+     * 전화번호인 경우 숫자만, 그 외에는 소문자로 정규화된 값이 저장되어 있어야 한다.
+     */
+    String normalizedField() default "";
+
+    /**
+     * 전문 검색 함수명 (FullText 전략에서 사용, 방언에 (컬럼, 검색어) 를 받아 점수를 반환하는 함수로 등록되어 있어야 한다.)
+     */
+    String fullTextFunction() default "fulltext_match";
+
+    /**
+     * 선택도 힌트 ( 값이 클수록 더 많은 레코드를 걸러내는 조건으로 보고 먼저 평가되도록 앞에 배치한다. )
+     */
+    int selectivity() default 0;
+
+    /**
+     * 기간 검색 시 파티션 제거 힌트를 사용할지 여부 ( 시간으로 파티션된 테이블인 경우, 여러 기간을 OR 로 묶을 때 전체 기간 조건을 함께 추가한다. )
+     */
+    boolean partitionHint() default false;
 }
@@ -1,6 +1,7 @@
 package com.john.jpahush.annotations;
 
 import com.john.jpahush.data.commondata.enums.EnumFieldSearchType;
+import com.john.jpahush.data.commondata.enums.EnumSearchStrategy;
 
 import java.lang.annotation.Annotation;
 
@@ -12,6 +13,25 @@ public class SearchFilterImplement implements SearchFilter{
         this.isDateOnly = isDateOnly;
     }
 
+    public SearchFilterImplement(Class type, String stringPath, EnumFieldSearchType searchType, boolean isDateOnly, EnumSearchStrategy[] strategies, String normalizedField, String fullTextFunction, int selectivity, boolean partitionHint) {
+        this(type, stringPath, searchType, isDateOnly);
+        this.strategies = strategies == null ? new EnumSearchStrategy[0] : strategies.clone();
+        this.normalizedField = normalizedField == null ? "" : normalizedField;
+        this.fullTextFunction = fullTextFunction == null ? "" : fullTextFunction;
+        this.selectivity = selectivity;
+        this.partitionHint = partitionHint;
+    }
+
+    /**
+     * 검색 필터 어노테이션으로 부터 생성한다.
+     * @param type 클래스타입
+     * @param filter 검색 필터 어노테이션
+     * @return 검색 필터
+     */
+    public static SearchFilterImplement of(Class type, SearchFilter filter) {
+        return new SearchFilterImplement(type, "", filter.searchType(), filter.isDateOnly(), filter.strategies(), filter.normalizedField(), filter.fullTextFunction(), filter.selectivity(), filter.partitionHint());
+    }
+
     public Class getType() {
         return type;
     }
@@ -38,6 +58,31 @@ public class SearchFilterImplement implements SearchFilter{
      */
     boolean isDateOnly = true;
 
+    /**
+     * 문자열 검색에 사용할 수 있는 검색 전략 목록
+     */
+    EnumSearchStrategy[] strategies = new EnumSearchStrategy[0];
+
+    /**
+     * 정규화된 값을 가진 필드명
+     */
+    String normalizedField = "";
+
+    /**
+     * 전문 검색 함수명
+     */
+    String fullTextFunction = "fulltext_match";
+
+    /**
+     * 선택도 힌트
+     */
+    int selectivity = 0;
+
+    /**
+     * 기간 검색 시 파티션 제거 힌트를 사용할지 여부
+     */
+    boolean partitionHint = false;
+
     @Override
     public String stringPath() {
         return this.stringPath;
@@ -53,6 +98,31 @@ public class SearchFilterImplement implements SearchFilter{
         return this.isDateOnly;
     }
 
+    @Override
+    public EnumSearchStrategy[] strategies() {
+        return this.strategies.clone();
+    }
+
+    @Override
+    public String normalizedField() {
+        return this.normalizedField;
+    }
+
+    @Override
+    public String fullTextFunction() {
+        return this.fullTextFunction;
+    }
+
+    @Override
+    public int selectivity() {
+        return this.selectivity;
+    }
+
+    @Override
+    public boolean partitionHint() {
+        return this.partitionHint;
+    }
+
     @Override
     public Class<? extends Annotation> annotationType() {
         return this.annotationType();
@@ -0,0 +1,36 @@
+package com.john.jpahush.data.commondata.enums;
+
+import lombok.Getter;
+
+/**
+ * 전체 레코드 수 조회 방식
+ */
+public enum EnumCountMode {
+	/**
+	 * 정확한 전체 레코드 수를 조회한다. (COUNT 쿼리)
+	 */
+	Exact(1),
+	/**
+	 * 전체 레코드 수를 조회하지 않는다. (페이지 당 레코드 수 + 1 건을 조회하여 다음 페이지 존재 여부만 확인한다.)
+	 */
+	None(2),
+	/**
+	 * 현재 페이지 섹션을 표시하는데 필요한 수 까지만 조회한다. (제한 수에 도달한 경우 추정치로 표시한다.)
+	 * 제한 수는 QueryDSLProvider.MAX_ESTIMATED_COUNT_LIMIT 를 넘지 않으며, Exact 와 같이 쿼리 원본을 기준으로 센다. (컨텍스트의 검색/기간 조건은 포함되지 않는다.)
+	 */
+	Estimated(3);
+
+	/**
+	 * 정수 값
+	 */
+	@Getter
+	private final int value;
+
+	/**
+	 * 생성자
+	 * @param value 초기화 값
+	 */
+	EnumCountMode(int value) {
+		this.value = value;
+	}
+}
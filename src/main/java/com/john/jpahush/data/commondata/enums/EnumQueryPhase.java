@@ -0,0 +1,47 @@
+package com.john.jpahush.data.commondata.enums;
+
+import lombok.Getter;
+
+/**
+ * 목록 조회 처리 단계
+ */
+public enum EnumQueryPhase {
+	/**
+	 * 프로젝션 분석
+	 */
+	ProjectionParse(1),
+	/**
+	 * 검색/정렬 필드 해석
+	 */
+	FieldResolution(2),
+	/**
+	 * 조건 생성
+	 */
+	PredicateBuild(3),
+	/**
+	 * 목록 조회
+	 */
+	Fetch(11),
+	/**
+	 * 전체 레코드 수 조회
+	 */
+	Count(12),
+	/**
+	 * 응답 객체 변환
+	 */
+	Mapping(21);
+
+	/**
+	 * 정수 값
+	 */
+	@Getter
+	private final int value;
+
+	/**
+	 * 생성자
+	 * @param value 초기화 값
+	 */
+	EnumQueryPhase(int value) {
+		this.value = value;
+	}
+}
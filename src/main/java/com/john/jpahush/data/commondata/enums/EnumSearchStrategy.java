@@ -0,0 +1,43 @@
+package com.john.jpahush.data.commondata.enums;
+
+import lombok.Getter;
+
+/**
+ * 문자열 검색 전략 (비용이 낮은 순서)
+ */
+public enum EnumSearchStrategy {
+	/**
+	 * 정규화된 컬럼 일치 (인덱스 탐색)
+	 */
+	NormalizedEqual(1),
+	/**
+	 * 앞부분 일치 LIKE 'x%' (인덱스 범위 탐색)
+	 */
+	Prefix(2),
+	/**
+	 * 전문 검색 (MySQL MATCH AGAINST / PostgreSQL tsvector, 방언에 등록된 함수 사용)
+	 */
+	FullText(3),
+	/**
+	 * 트라이그램 인덱스를 사용하는 포함 검색 LIKE '%x%' (PostgreSQL pg_trgm, 3글자 이상)
+	 */
+	Trigram(4),
+	/**
+	 * 포함 검색 LIKE '%x%' (전체 탐색)
+	 */
+	Contains(5);
+
+	/**
+	 * 정수 값
+	 */
+	@Getter
+	private final int value;
+
+	/**
+	 * 생성자
+	 * @param value 초기화 값
+	 */
+	EnumSearchStrategy(int value) {
+		this.value = value;
+	}
+}
@@ -1,6 +1,8 @@
 package com.john.jpahush.data.commondata.queries;
 
 import com.john.jpahush.data.commondata.enums.EnumFieldSearchType;
+import com.john.jpahush.data.commondata.enums.EnumSearchStrategy;
+import com.querydsl.core.types.Expression;
 import io.swagger.annotations.ApiModelProperty;
 import lombok.Getter;
 import lombok.Setter;
@@ -70,4 +72,34 @@ public class KeywordSearchItem {
      */
     @SuppressWarnings("rawtypes")
     Class convertTypeClass;
+
+    /**
+     * 검색 필드의 실제 경로 (찾지 못한 경우 null, 검색 필드명으로 구문을 만든다.)
+     */
+    @ApiModelProperty(hidden = true)
+    Expression<?> path;
+
+    /**
+     * 문자열 검색에 사용할 수 있는 검색 전략 목록 (없는 경우 포함 검색)
+     */
+    @ApiModelProperty(hidden = true)
+    EnumSearchStrategy[] strategies;
+
+    /**
+     * 정규화된 값을 가진 필드명
+     */
+    @ApiModelProperty(hidden = true)
+    String normalizedField;
+
+    /**
+     * 전문 검색 함수명
+     */
+    @ApiModelProperty(hidden = true)
+    String fullTextFunction;
+
+    /**
+     * 선택도 힌트 (값이 클수록 조건을 앞에 배치한다.)
+     */
+    @ApiModelProperty(hidden = true)
+    int selectivity;
 }
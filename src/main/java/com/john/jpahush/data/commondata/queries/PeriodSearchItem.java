@@ -1,6 +1,7 @@
 package com.john.jpahush.data.commondata.queries;
 
 import com.john.jpahush.utils.DateUtils;
+import com.querydsl.core.types.Expression;
 import io.swagger.annotations.ApiModelProperty;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -33,19 +34,19 @@ public class PeriodSearchItem {
     public PeriodSearchItem(String field, Date searchStartDate, Date searchEndDate, boolean dateOnly) {
         this.field = field;
         this.dateOnly = dateOnly;
-        // 날짜만 사용하는 경우
+        // 날짜만 사용하는 경우 (종료 일자의 다음날 0시 전까지)
         if(dateOnly) {
             if(searchStartDate != null)
-                this.searchStartDate = DateUtils.toDateOnly(searchStartDate);
+                this.searchStartDate = DateUtils.toStartOfDay(searchStartDate, 0);
             if(searchEndDate != null)
-                this.searchEndDate = DateUtils.addDays(DateUtils.toDateOnly(searchEndDate), 1);
+                this.searchEndDate = DateUtils.toStartOfDay(searchEndDate, 1);
         }
-        // 시간도 사용하는 경우
+        // 시간도 사용하는 경우 (종료 일시의 1초 후 전까지)
         else {
             if(searchStartDate != null)
                this.searchStartDate = searchStartDate;
             if(searchEndDate != null)
-                this.searchEndDate = DateUtils.addSeconds(searchEndDate, 1);
+                this.searchEndDate = new Date(searchEndDate.getTime() + 1000L);
         }
     }
 
@@ -73,6 +74,18 @@ public class PeriodSearchItem {
     @ApiModelProperty(value = "검색 종료 일시", position = 2)
     Date searchEndDate;
 
+    /**
+     * 검색 필드의 실제 경로 (찾지 못한 경우 null, 검색 필드명으로 구문을 만든다.)
+     */
+    @ApiModelProperty(hidden = true)
+    Expression<?> path;
+
+    /**
+     * 파티션 제거 (partition pruning) 힌트 사용 여부 (여러 기간인 경우 전체 기간 조건을 함께 추가한다.)
+     */
+    @ApiModelProperty(hidden = true)
+    boolean partitionHint;
+
     /**
      * 문자열로 변환
      * @return 객체 내용이 담겨있는 문자열
@@ -0,0 +1,381 @@
+package com.john.jpahush.data.commondata.queries;
+
+import com.john.jpahush.data.commondata.enums.EnumCountMode;
+import com.john.jpahush.utils.DateUtils;
+import com.querydsl.core.types.Predicate;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.temporal.Temporal;
+import java.util.*;
+
+/**
+ * 요청 단위의 쿼리 정보를 가지는 불변 클래스
+ * 프로바이더의 상태를 변경하지 않으므로 하나의 프로바이더 인스턴스를 여러 요청이 동시에 사용할 수 있다.
+ */
+@Getter
+@SuppressWarnings("unused")
+public class QueryContext {
+
+    /**
+     * 생성자
+     * @param name               쿼리명
+     * @param onlyProjections    프로젝션의 셀렉팅 된 컬럼만 허용하지여부
+     * @param skip               건너뛸 레코드 수
+     * @param countPerPage       페이지 당 레코드 수
+     * @param orderFields        정렬 필드 목록
+     * @param orderDirections    정렬 방향 목록 (asc / desc)
+     * @param searchFields       검색 필드 목록
+     * @param searchValues       검색할 값 목록
+     * @param searchPeriodFields 기간 검색 필드 목록
+     * @param searchStartDates   검색 시작 일시 목록
+     * @param searchEndDates     검색 종료 일시 목록
+     * @param baseSorts          기본 정렬 목록
+     * @param predicates         추가 조건 목록
+     * @param parallelCount      전체 레코드 수 조회를 목록 조회와 동시에 수행할지 여부
+     * @param cacheCount         전체 레코드 수 조회 결과를 캐시할지 여부
+     * @param keyset             키셋 (seek) 페이징을 사용할지 여부
+     * @param cursor             키셋 페이징의 이전 페이지 다음 커서 (없는 경우 첫 페이지)
+     * @param countMode          전체 레코드 수 조회 방식 (없는 경우 Exact)
+     * @param pagePerSection     페이지 섹션 당 페이지 수 (0 이하인 경우 20)
+     * @param countLimit         Estimated 조회 방식의 최대 조회 수 (0 이하인 경우 현재 페이지 섹션을 표시하는데 필요한 수)
+     */
+    @Builder(toBuilder = true)
+    public QueryContext(String name, boolean onlyProjections, int skip, int countPerPage
+            , String[] orderFields, String[] orderDirections
+            , String[] searchFields, String[] searchValues
+            , String[] searchPeriodFields, Date[] searchStartDates, Date[] searchEndDates
+            , List<SortItem> baseSorts, List<Predicate> predicates, boolean parallelCount, boolean cacheCount
+            , boolean keyset, String cursor
+            , EnumCountMode countMode, int pagePerSection, long countLimit) {
+        this.name = name == null ? "" : name;
+        this.onlyProjections = onlyProjections;
+        this.skip = Math.max(skip, 0);
+        this.countPerPage = countPerPage <= 0 ? 20 : countPerPage;
+        this.orderFields = orderFields == null ? new String[0] : orderFields.clone();
+        this.orderDirections = orderDirections == null ? new String[0] : orderDirections.clone();
+        this.searchFields = searchFields == null ? new String[0] : searchFields.clone();
+        this.searchValues = searchValues == null ? new String[0] : searchValues.clone();
+        this.searchPeriodFields = searchPeriodFields == null ? new String[0] : searchPeriodFields.clone();
+        this.searchStartDates = copyDates(searchStartDates);
+        this.searchEndDates = copyDates(searchEndDates);
+        this.baseSorts = baseSorts == null ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(baseSorts));
+        this.predicates = predicates == null ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(predicates));
+        this.parallelCount = parallelCount;
+        this.cacheCount = cacheCount;
+        this.keyset = keyset;
+        this.cursor = cursor;
+        this.countMode = countMode == null ? EnumCountMode.Exact : countMode;
+        this.pagePerSection = pagePerSection <= 0 ? 20 : pagePerSection;
+        this.countLimit = Math.max(countLimit, 0L);
+    }
+
+    /**
+     * 쿼리명
+     */
+    private final String name;
+
+    /**
+     * true 인경우 프로젝션에 포함된 항목만 Select/OrderBy 처리한다.
+     */
+    private final boolean onlyProjections;
+
+    /**
+     * 건너뛸 레코드 수
+     */
+    private final int skip;
+
+    /**
+     * 페이지 당 레코드 수
+     */
+    private final int countPerPage;
+
+    /**
+     * 정렬 필드 목록
+     */
+    @Getter(AccessLevel.NONE)
+    private final String[] orderFields;
+
+    /**
+     * 정렬 방향 목록 (asc / desc)
+     */
+    @Getter(AccessLevel.NONE)
+    private final String[] orderDirections;
+
+    /**
+     * 검색 필드 목록
+     */
+    @Getter(AccessLevel.NONE)
+    private final String[] searchFields;
+
+    /**
+     * 검색할 값 목록
+     */
+    @Getter(AccessLevel.NONE)
+    private final String[] searchValues;
+
+    /**
+     * 기간 검색 필드 목록
+     */
+    @Getter(AccessLevel.NONE)
+    private final String[] searchPeriodFields;
+
+    /**
+     * 검색 시작 일시 목록
+     */
+    @Getter(AccessLevel.NONE)
+    private final Date[] searchStartDates;
+
+    /**
+     * 검색 종료 일시 목록
+     */
+    @Getter(AccessLevel.NONE)
+    private final Date[] searchEndDates;
+
+    /**
+     * 기본 정렬 목록 (사용자 정렬보다 먼저 적용된다.)
+     */
+    private final List<SortItem> baseSorts;
+
+    /**
+     * 추가 조건 목록
+     */
+    private final List<Predicate> predicates;
+
+    /**
+     * true 인경우 전체 레코드 수 조회를 별도 엔티티 매니저로 목록 조회와 동시에 수행한다.
+     */
+    private final boolean parallelCount;
+
+    /**
+     * true 인경우 같은 검색 조건의 전체 레코드 수 조회 결과를 캐시에서 재사용한다.
+     */
+    private final boolean cacheCount;
+
+    /**
+     * true 인경우 skip 대신 정렬 값 기준의 키셋 (seek) 페이징을 사용한다.
+     */
+    private final boolean keyset;
+
+    /**
+     * 키셋 페이징의 이전 페이지 다음 커서 (없는 경우 첫 페이지)
+     */
+    private final String cursor;
+
+    /**
+     * 전체 레코드 수 조회 방식
+     */
+    private final EnumCountMode countMode;
+
+    /**
+     * 페이지 섹션 당 페이지 수
+     */
+    private final int pagePerSection;
+
+    /**
+     * Estimated 조회 방식의 최대 조회 수 (0 인 경우 현재 페이지 섹션을 표시하는데 필요한 수, QueryDSLProvider.MAX_ESTIMATED_COUNT_LIMIT 를 넘는 경우 상한 값을 사용한다.)
+     */
+    private final long countLimit;
+
+    /**
+     * 정렬 필드 목록을 반환한다.
+     * @return 정렬 필드 목록 복사본
+     */
+    public String[] getOrderFields() {
+        return orderFields.clone();
+    }
+
+    /**
+     * 정렬 방향 목록을 반환한다.
+     * @return 정렬 방향 목록 복사본
+     */
+    public String[] getOrderDirections() {
+        return orderDirections.clone();
+    }
+
+    /**
+     * 검색 필드 목록을 반환한다.
+     * @return 검색 필드 목록 복사본
+     */
+    public String[] getSearchFields() {
+        return searchFields.clone();
+    }
+
+    /**
+     * 검색할 값 목록을 반환한다.
+     * @return 검색할 값 목록 복사본
+     */
+    public String[] getSearchValues() {
+        return searchValues.clone();
+    }
+
+    /**
+     * 기간 검색 필드 목록을 반환한다.
+     * @return 기간 검색 필드 목록 복사본
+     */
+    public String[] getSearchPeriodFields() {
+        return searchPeriodFields.clone();
+    }
+
+    /**
+     * 검색 시작 일시 목록을 반환한다.
+     * @return 검색 시작 일시 목록 복사본
+     */
+    public Date[] getSearchStartDates() {
+        return copyDates(searchStartDates);
+    }
+
+    /**
+     * 검색 종료 일시 목록을 반환한다.
+     * @return 검색 종료 일시 목록 복사본
+     */
+    public Date[] getSearchEndDates() {
+        return copyDates(searchEndDates);
+    }
+
+    /**
+     * 정렬 필드 목록을 복사하지 않고 읽기 전용 목록으로 반환한다. (조회 처리용)
+     * @return 정렬 필드 목록 (읽기 전용)
+     */
+    public List<String> getOrderFieldList() {
+        return Collections.unmodifiableList(Arrays.asList(orderFields));
+    }
+
+    /**
+     * 정렬 방향 목록을 복사하지 않고 읽기 전용 목록으로 반환한다. (조회 처리용)
+     * @return 정렬 방향 목록 (읽기 전용)
+     */
+    public List<String> getOrderDirectionList() {
+        return Collections.unmodifiableList(Arrays.asList(orderDirections));
+    }
+
+    /**
+     * 검색 필드 목록을 복사하지 않고 읽기 전용 목록으로 반환한다. (조회 처리용)
+     * @return 검색 필드 목록 (읽기 전용)
+     */
+    public List<String> getSearchFieldList() {
+        return Collections.unmodifiableList(Arrays.asList(searchFields));
+    }
+
+    /**
+     * 검색할 값 목록을 복사하지 않고 읽기 전용 목록으로 반환한다. (조회 처리용)
+     * @return 검색할 값 목록 (읽기 전용)
+     */
+    public List<String> getSearchValueList() {
+        return Collections.unmodifiableList(Arrays.asList(searchValues));
+    }
+
+    /**
+     * 기간 검색 필드 목록을 복사하지 않고 읽기 전용 목록으로 반환한다. (조회 처리용)
+     * @return 기간 검색 필드 목록 (읽기 전용)
+     */
+    public List<String> getSearchPeriodFieldList() {
+        return Collections.unmodifiableList(Arrays.asList(searchPeriodFields));
+    }
+
+    /**
+     * 검색 시작 일시 목록을 복사하지 않고 읽기 전용 목록으로 반환한다. (조회 처리용, 날짜 객체를 변경하지 않아야 한다.)
+     * @return 검색 시작 일시 목록 (읽기 전용)
+     */
+    public List<Date> getSearchStartDateList() {
+        return Collections.unmodifiableList(Arrays.asList(searchStartDates));
+    }
+
+    /**
+     * 검색 종료 일시 목록을 복사하지 않고 읽기 전용 목록으로 반환한다. (조회 처리용, 날짜 객체를 변경하지 않아야 한다.)
+     * @return 검색 종료 일시 목록 (읽기 전용)
+     */
+    public List<Date> getSearchEndDateList() {
+        return Collections.unmodifiableList(Arrays.asList(searchEndDates));
+    }
+
+    /**
+     * 기본 정렬 아이템과 기본 정렬 방향을 추가한 새 컨텍스트를 반환한다.
+     * 사용자가 지정한 정렬 필드가 있는 경우 현재 컨텍스트를 그대로 반환한다.
+     * @param column 컬럼 명
+     * @param orderBy asc/desc
+     * @return 쿼리 컨텍스트
+     */
+    public QueryContext withBaseSort(String column, String orderBy) {
+        // 사용자가 지정한 OrderBy 구문이 있는경우
+        if(this.orderFields.length > 0)
+            return this;
+
+        List<SortItem> sorts = new ArrayList<>(this.baseSorts);
+        sorts.add(new SortItem(column, orderBy));
+        return this.toBuilder().baseSorts(sorts).build();
+    }
+
+    /**
+     * 정렬아이템을 추가한 새 컨텍스트를 반환한다.
+     * @param sortItems SortItem 가변인자 전달
+     * @return 쿼리 컨텍스트
+     */
+    public QueryContext withBaseSort(SortItem... sortItems) {
+        // 정렬 정보가 존재하지 않는 경우
+        if(sortItems == null || sortItems.length == 0 || sortItems[0] == null)
+            return this;
+
+        List<SortItem> sorts = new ArrayList<>(this.baseSorts);
+        sorts.addAll(Arrays.asList(sortItems));
+        return this.toBuilder().baseSorts(sorts).build();
+    }
+
+    /**
+     * 추가 조건 목록을 교체한 새 컨텍스트를 반환한다.
+     * @param predicates 조건 목록
+     * @return 쿼리 컨텍스트
+     */
+    public QueryContext withOtherConditions(Predicate... predicates) {
+        // 조건이 존재하지 않는 경우
+        if(predicates == null || predicates.length == 0 || predicates[0] == null)
+            return this.toBuilder().predicates(null).build();
+
+        return this.toBuilder().predicates(Arrays.asList(predicates)).build();
+    }
+
+    /**
+     * 쿼리 컨텍스트 빌더
+     */
+    public static class QueryContextBuilder {
+
+        /**
+         * 기간 검색 조건을 추가한다.
+         * Instant / LocalDate / LocalDateTime / OffsetDateTime / ZonedDateTime 을 사용할 수 있으며, 조건은 컬럼 타입에 맞는 값으로 만들어진다.
+         * @param field 기간 검색 필드명
+         * @param start 검색 시작 일시 (null 인 경우 제한 없음)
+         * @param end 검색 종료 일시 (null 인 경우 제한 없음)
+         * @return 빌더
+         */
+        public QueryContextBuilder searchPeriod(String field, Temporal start, Temporal end) {
+            String[] fields = this.searchPeriodFields == null ? new String[0] : this.searchPeriodFields;
+            int index = fields.length;
+
+            // 기존 목록을 변경하지 않도록 새 배열에 추가한다.
+            this.searchPeriodFields = Arrays.copyOf(fields, index + 1);
+            this.searchStartDates = Arrays.copyOf(this.searchStartDates == null ? new Date[0] : this.searchStartDates, index + 1);
+            this.searchEndDates = Arrays.copyOf(this.searchEndDates == null ? new Date[0] : this.searchEndDates, index + 1);
+
+            this.searchPeriodFields[index] = field;
+            this.searchStartDates[index] = DateUtils.toDate(start);
+            this.searchEndDates[index] = DateUtils.toDate(end);
+            return this;
+        }
+    }
+
+    /**
+     * 날짜 배열을 복사한다.
+     * @param source 원본 날짜 배열
+     * @return 복사된 날짜 배열
+     */
+    private static Date[] copyDates(Date[] source) {
+        if(source == null)
+            return new Date[0];
+
+        Date[] result = new Date[source.length];
+        for(int index = 0; index < source.length; index++)
+            result[index] = source[index] == null ? null : (Date) source[index].clone();
+        return result;
+    }
+}
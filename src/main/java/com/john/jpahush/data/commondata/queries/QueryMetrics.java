@@ -0,0 +1,160 @@
+package com.john.jpahush.data.commondata.queries;
+
+import com.john.jpahush.data.commondata.enums.EnumQueryPhase;
+import com.querydsl.core.QueryMetadata;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 목록 조회 처리 단계별 측정 정보 클래스
+ * 처리 단계별 소요 시간 (나노초) 과 조회 레코드 수를 가진다.
+ */
+@Getter
+@SuppressWarnings({"unused", "rawtypes"})
+public class QueryMetrics {
+
+    /**
+     * 처리 단계 목록
+     */
+    private static final EnumQueryPhase[] PHASES = EnumQueryPhase.values();
+
+    /**
+     * 쿼리명
+     */
+    private final String name;
+
+    /**
+     * 응답 클래스
+     */
+    private final Class clazz;
+
+    /**
+     * 측정 시작 일시 (밀리초)
+     */
+    private final long startedAt;
+
+    /**
+     * 처리 단계별 소요 시간 (나노초)
+     */
+    private final long[] elapsedNanos = new long[PHASES.length];
+
+    /**
+     * 조회된 레코드 수
+     */
+    @Setter
+    private long rowCount = 0;
+
+    /**
+     * 전체 레코드 수
+     */
+    @Setter
+    private long totalCount = 0;
+
+    /**
+     * 전체 레코드 수를 캐시에서 가져왔는지 여부
+     */
+    @Setter
+    private boolean countCached = false;
+
+    /**
+     * 전체 레코드 수를 동시에 조회했는지 여부
+     */
+    @Setter
+    private boolean countParallel = false;
+
+    /**
+     * 처리 중 발생한 예외 (없는 경우 null)
+     */
+    @Setter
+    private Exception exception = null;
+
+    /**
+     * 목록 조회 쿼리 메타 정보 (조건 / 정렬 / 페이징이 적용된 쿼리, 조회 전에 실패한 경우 null)
+     * 리스너 호출 중에만 유효하므로 보관하지 않는다.
+     */
+    @Setter
+    private QueryMetadata queryMetadata = null;
+
+    /**
+     * 생성자
+     * @param name 쿼리명
+     * @param clazz 응답 클래스
+     */
+    public QueryMetrics(String name, Class clazz) {
+        this.name = name == null ? "" : name;
+        this.clazz = clazz;
+        this.startedAt = System.currentTimeMillis();
+    }
+
+    /**
+     * 처리 단계의 소요 시간을 더한다.
+     * @param phase 처리 단계
+     * @param nanos 소요 시간 (나노초)
+     */
+    public void add(EnumQueryPhase phase, long nanos) {
+        elapsedNanos[phase.ordinal()] += nanos;
+    }
+
+    /**
+     * 시작 시각부터 현재까지의 시간을 처리 단계의 소요 시간에 더한다.
+     * @param phase 처리 단계
+     * @param startNanos 시작 시각 (System.nanoTime)
+     * @return 현재 시각 (다음 단계의 시작 시각으로 사용한다.)
+     */
+    public long record(EnumQueryPhase phase, long startNanos) {
+        long now = System.nanoTime();
+        elapsedNanos[phase.ordinal()] += now - startNanos;
+        return now;
+    }
+
+    /**
+     * 처리 단계의 소요 시간을 반환한다.
+     * @param phase 처리 단계
+     * @return 소요 시간 (나노초)
+     */
+    public long getElapsedNanos(EnumQueryPhase phase) {
+        return elapsedNanos[phase.ordinal()];
+    }
+
+    /**
+     * 전체 처리 단계의 소요 시간 합계를 반환한다.
+     * @return 소요 시간 (나노초)
+     */
+    public long getTotalElapsedNanos() {
+        long result = 0;
+        for (long nanos : elapsedNanos)
+            result += nanos;
+        return result;
+    }
+
+    /**
+     * 데이터베이스 (목록 / 전체 레코드 수 조회) 에서 소요된 시간을 반환한다.
+     * @return 소요 시간 (나노초)
+     */
+    public long getDatabaseElapsedNanos() {
+        return getElapsedNanos(EnumQueryPhase.Fetch) + getElapsedNanos(EnumQueryPhase.Count);
+    }
+
+    /**
+     * 프로바이더 (프로젝션 분석 / 필드 해석 / 조건 생성 / 변환) 에서 소요된 시간을 반환한다.
+     * @return 소요 시간 (나노초)
+     */
+    public long getProviderElapsedNanos() {
+        return getTotalElapsedNanos() - getDatabaseElapsedNanos();
+    }
+
+    /**
+     * 문자열로 반환한다.
+     * @return 처리 단계별 소요 시간 (밀리초) 문자열
+     */
+    @Override
+    public String toString() {
+        StringBuilder builder = new StringBuilder(128);
+        builder.append("QueryMetrics(name=").append(name)
+                .append(", rows=").append(rowCount)
+                .append(", total=").append(totalCount);
+        for (EnumQueryPhase phase : PHASES)
+            builder.append(", ").append(phase).append('=').append(elapsedNanos[phase.ordinal()] / 1_000_000.0).append("ms");
+        return builder.append(')').toString();
+    }
+}
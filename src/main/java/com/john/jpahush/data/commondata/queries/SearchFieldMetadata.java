@@ -0,0 +1,31 @@
+package com.john.jpahush.data.commondata.queries;
+
+import com.john.jpahush.annotations.SearchFilterImplement;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.lang.reflect.Field;
+
+/**
+ * 검색 필드에 대한 리플렉션 메타 정보 클래스
+ * 클래스별로 한번만 만들어져 공유되므로 값을 변경하지 않는다.
+ */
+@Getter
+@AllArgsConstructor
+public class SearchFieldMetadata {
+
+	/**
+	 * 리플렉션 필드 정보
+	 */
+	private final Field field;
+
+	/**
+	 * 필드에 선언된 검색 필터 정보 (SearchFilter 가 없는 경우 null)
+	 */
+	private final SearchFilterImplement filter;
+
+	/**
+	 * 컬럼 경로 (엔티티 필드인 경우 "엔티티별칭.필드명", 그 외 빈 문자열)
+	 */
+	private final String columnPath;
+}
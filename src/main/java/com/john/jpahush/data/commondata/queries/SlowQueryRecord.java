@@ -0,0 +1,89 @@
+package com.john.jpahush.data.commondata.queries;
+
+import io.swagger.annotations.ApiModelProperty;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.Date;
+import java.util.List;
+
+/**
+ * 느린 목록 조회 기록 클래스
+ */
+@Getter
+@AllArgsConstructor
+@SuppressWarnings("unused")
+public class SlowQueryRecord {
+
+    /**
+     * 쿼리명
+     */
+    @ApiModelProperty(value = "쿼리명", position = 0)
+    private final String name;
+
+    /**
+     * 기록 일시
+     */
+    @ApiModelProperty(value = "기록 일시", position = 1)
+    private final Date capturedAt;
+
+    /**
+     * 목록 조회 소요 시간 (밀리초)
+     */
+    @ApiModelProperty(value = "목록 조회 소요 시간 (밀리초)", position = 2)
+    private final double fetchMillis;
+
+    /**
+     * 전체 레코드 수 조회 소요 시간 (밀리초)
+     */
+    @ApiModelProperty(value = "전체 레코드 수 조회 소요 시간 (밀리초)", position = 3)
+    private final double countMillis;
+
+    /**
+     * 전체 소요 시간 (밀리초)
+     */
+    @ApiModelProperty(value = "전체 소요 시간 (밀리초)", position = 4)
+    private final double totalMillis;
+
+    /**
+     * 조회된 레코드 수
+     */
+    @ApiModelProperty(value = "조회된 레코드 수", position = 5)
+    private final long rowCount;
+
+    /**
+     * 전체 레코드 수
+     */
+    @ApiModelProperty(value = "전체 레코드 수", position = 6)
+    private final long totalCount;
+
+    /**
+     * 목록 조회 JPQL
+     */
+    @ApiModelProperty(value = "목록 조회 JPQL", position = 7)
+    private final String jpql;
+
+    /**
+     * 바인딩된 파라미터 목록 (마스킹된 값)
+     */
+    @ApiModelProperty(value = "바인딩된 파라미터 목록 (마스킹된 값)", position = 8)
+    private final List<String> parameters;
+
+    /**
+     * 요청한 검색 필드 목록
+     */
+    @ApiModelProperty(value = "요청한 검색 필드 목록", position = 9)
+    private final List<String> searchFields;
+
+    /**
+     * 요청한 기간 검색 필드 목록
+     */
+    @ApiModelProperty(value = "요청한 기간 검색 필드 목록", position = 10)
+    private final List<String> searchPeriodFields;
+
+    /**
+     * 요청한 정렬 필드 목록
+     */
+    @ApiModelProperty(value = "요청한 정렬 필드 목록", position = 11)
+    private final List<String> orderFields;
+}
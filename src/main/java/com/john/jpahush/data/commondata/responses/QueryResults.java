@@ -1,11 +1,15 @@
 package com.john.jpahush.data.commondata.responses;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import com.john.jpahush.utils.MoreExceptionHandler;
 import io.swagger.annotations.ApiModelProperty;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 
 /**
@@ -92,6 +96,71 @@ public class QueryResults<T> implements IQueryResults<T> {
 		}
 	}
 
+	/**
+	 * 목록을 복사하지 않고 그대로 사용하는 (소유권을 넘겨받는) 객체를 생성한다.
+	 * 호출한 쪽은 전달한 목록을 더 이상 사용하거나 변경하지 않아야 한다. (결과 목록이 함께 변경된다.)
+	 * @param data 데이터 목록 (소유권이 넘어간다.)
+	 * @param <T> 데이터 타입
+	 * @return QueryResults 객체 (아이템 목록으로 페이징 값을 설정한다.)
+	 */
+	public static <T> QueryResults<T> adopt(List<T> data) {
+		QueryResults<T> result = new QueryResults<>();
+		result.setItems(data);
+		result.ResetWithItems();
+		return result;
+	}
+
+	/**
+	 * 목록을 복사하지 않고 그대로 사용하는 (소유권을 넘겨받는) 객체를 생성한다.
+	 * 호출한 쪽은 전달한 목록을 더 이상 사용하거나 변경하지 않아야 한다. (결과 목록이 함께 변경된다.)
+	 * @param data 데이터 목록 (소유권이 넘어간다.)
+	 * @param totalCount 전체 데이터 개수
+	 * @param skip 건너뛸 레코드 수
+	 * @param countPerPage 페이지 당 레코드 수
+	 * @param pagePerSection 페이지 섹션 당 페이지 수
+	 * @param <T> 데이터 타입
+	 * @return QueryResults 객체
+	 */
+	public static <T> QueryResults<T> adopt(List<T> data, long totalCount, long skip, int countPerPage, int pagePerSection) {
+		QueryResults<T> result = new QueryResults<>();
+		result.setPaging(totalCount, skip, countPerPage, pagePerSection);
+		result.setItems(data);
+		return result;
+	}
+
+	/**
+	 * 목록을 복사하지 않고 변경할 수 없는 보기 (view) 로 사용하는 객체를 생성한다.
+	 * 결과 목록을 통해 원본 목록을 변경할 수 없으며, 원본 목록을 변경하는 경우 결과 목록에 반영된다.
+	 * @param data 데이터 목록
+	 * @param totalCount 전체 데이터 개수
+	 * @param skip 건너뛸 레코드 수
+	 * @param countPerPage 페이지 당 레코드 수
+	 * @param pagePerSection 페이지 섹션 당 페이지 수
+	 * @param <T> 데이터 타입
+	 * @return QueryResults 객체
+	 */
+	public static <T> QueryResults<T> unmodifiableView(List<T> data, long totalCount, long skip, int countPerPage, int pagePerSection) {
+		QueryResults<T> result = new QueryResults<>();
+		result.setPaging(totalCount, skip, countPerPage, pagePerSection);
+		result.items = data == null ? Collections.emptyList() : Collections.unmodifiableList(data);
+		return result;
+	}
+
+	/**
+	 * 페이징 값을 설정한다.
+	 * @param totalCount 전체 데이터 개수
+	 * @param skip 건너뛸 레코드 수
+	 * @param countPerPage 페이지 당 레코드 수
+	 * @param pagePerSection 페이지 섹션 당 페이지 수
+	 */
+	private void setPaging(long totalCount, long skip, int countPerPage, int pagePerSection) {
+		this.skips = skip;
+		this.totalCount = totalCount;
+		this.pageNo = countPerPage > 0 ? (int)(skip / countPerPage) + 1 : 1;
+		this.countPerPage = countPerPage;
+		this.pagePerSection = pagePerSection;
+	}
+
 	/**
 	* 전체 레코드 개수
 	*/
@@ -129,13 +198,7 @@ public class QueryResults<T> implements IQueryResults<T> {
 	@ApiModelProperty(value = "전체 페이지 수", dataType = "int", required = true)
 	int totalPage = 0;
 	public int getTotalPage() {
-		if(totalPage > 0) return totalPage;
-
-		// 페이지당 레코드 수가 0인 경우 전체 데이터 (따라서 페이지 수는 1)
-		if (totalCount == 0 || countPerPage <= 0)
-			return 1;
-
-		return (int) Math.ceil(totalCount / (double) countPerPage);
+		return getPagingWindow().totalPage;
 	}
 	public void setTotalPage(int value) {
 		this.totalPage = value;
@@ -147,22 +210,7 @@ public class QueryResults<T> implements IQueryResults<T> {
 	@ApiModelProperty(value = "현재 섹션 내의 시작 페이지 번호", dataType = "int", required = true)
 	int startPageNo = 0;
 	public int getStartPageNo() {
-		if(startPageNo > 0) return startPageNo;
-
-		// 레코드가 존재하지 않는 경우
-		if (totalCount <= 0)
-			return 1;
-
-		// 섹션 당 페이지 수가 없는 경우
-		if (pagePerSection <= 0)
-			return 1;
-
-		// 현재 섹션 번호
-		int currentSection = pageNo / pagePerSection;
-		if (pageNo % pagePerSection > 0)
-			currentSection++;
-
-		return (currentSection - 1) * pagePerSection + 1;
+		return getPagingWindow().startPageNo;
 	}
 	public void setStartPageNo(int value) {
 		this.startPageNo = value;
@@ -174,22 +222,7 @@ public class QueryResults<T> implements IQueryResults<T> {
 	@ApiModelProperty(value = "현재 섹션 내의 마지막 페이지 번호", dataType = "int", required = true)
 	int endPageNo = 0;
 	public int getEndPageNo() {
-
-		if(endPageNo > 0) return endPageNo;
-
-		// 레코드가 존재하지 않는 경우
-		if (totalCount <= 0)
-			return 1;
-
-		// 페이지 당 레코드 수가 없는 경우
-		if (countPerPage <= 0)
-			return 1;
-
-		int lastPageNo = (int)(totalCount / countPerPage);
-		if (totalCount % countPerPage > 0)
-			lastPageNo++;
-
-		return Math.min(lastPageNo, this.getStartPageNo() + pagePerSection - 1);
+		return getPagingWindow().endPageNo;
 	}
 	public void setEndPageNo(int value) {
 		this.endPageNo = value;
@@ -204,15 +237,27 @@ public class QueryResults<T> implements IQueryResults<T> {
 
 		if(pageNos != null && pageNos.size() > 0) return pageNos;
 
-		List<Integer> result = new ArrayList<>();
-		for (int pageNo = getStartPageNo(); pageNo <= getEndPageNo(); pageNo++)
-			result.add(pageNo);
-		return result;
+		return getPagingWindow().getPageNos();
 	}
 	public void setPageNos(List<Integer> value) {
 		this.pageNos = value;
 	}
 
+	/**
+	 * 표시될 페이지 번호 목록을 int 배열로 반환한다. (박싱 없이 사용하거나 직렬화하는 경우 사용한다.)
+	 * @return 표시될 페이지 번호 배열 (공유되는 배열이므로 변경하지 않는다.)
+	 */
+	@JsonIgnore
+	public int[] getPageNoArray() {
+		if(pageNos != null && pageNos.size() > 0) {
+			int[] result = new int[pageNos.size()];
+			for (int index = 0; index < result.length; index++)
+				result[index] = pageNos.get(index);
+			return result;
+		}
+		return getPagingWindow().pageNoArray;
+	}
+
 	/**
 	 * 이전 페이지가 존재하는지 여부를 반환한다.
 	 */
@@ -256,31 +301,32 @@ public class QueryResults<T> implements IQueryResults<T> {
 	@ApiModelProperty(value = "마지막 페이지 섹션인지 여부", dataType = "boolean", required = true)
 	boolean haveNextPageSection = false;
 	public boolean isHaveNextPageSection() {
-		// 레코드가 존재하지 않는 경우
-		if (totalCount <= 0)
-			return false;
-
-		// 섹션 당 페이지 수가 없는 경우
-		if (pagePerSection <= 0)
-			return false;
-
-		// 전체 섹션 수
-		int sectionCount = getTotalPage() / pagePerSection;
-		if (getTotalPage() % pagePerSection > 0)
-			sectionCount++;
-
-		// 현재 섹션 번호
-		int currentSection = pageNo / pagePerSection;
-		if (pageNo % pagePerSection > 0)
-			currentSection++;
-
-		// 마지막 섹션이 아닌 경우 true, 마지막 섹션인 경우 false
-		return sectionCount != currentSection;
+		return getPagingWindow().haveNextPageSection;
 	}
 	public void setHaveNextPageSection(boolean value) {
 		this.haveNextPageSection = value;
 	}
 
+	/**
+	 * 계산된 페이징 값 (페이징 입력 값이 바뀐 경우 다시 계산한다.)
+	 */
+	@Getter(AccessLevel.NONE)
+	@Setter(AccessLevel.NONE)
+	private transient PagingWindow pagingWindow = null;
+
+	/**
+	 * 현재 페이징 입력 값에 해당하는 계산된 페이징 값을 반환한다.
+	 * @return 계산된 페이징 값
+	 */
+	private PagingWindow getPagingWindow() {
+		PagingWindow result = this.pagingWindow;
+		if(result == null || !result.isSameInput(this)) {
+			result = new PagingWindow(this);
+			this.pagingWindow = result;
+		}
+		return result;
+	}
+
 	/**
 	 * 아이템 목록으로 페이징 값을 재설정한다.
 	 */
@@ -292,6 +338,18 @@ public class QueryResults<T> implements IQueryResults<T> {
 		this.pagePerSection = 1;
 	}
 
+	/**
+	 * 전체 레코드 개수가 추정치인지 여부 (전체 레코드 수를 조회하지 않았거나 제한 수 까지만 조회한 경우 true, 실제 개수는 더 많을 수 있다.)
+	 */
+	@ApiModelProperty(value = "전체 레코드 개수가 추정치인지 여부", dataType = "boolean")
+	private boolean totalCountEstimated = false;
+
+	/**
+	 * 키셋 페이징의 다음 페이지 커서 (키셋 페이징이 아니거나 다음 페이지가 없는 경우 null)
+	 */
+	@ApiModelProperty(value = "다음 페이지 커서", dataType = "string")
+	private String nextCursor = null;
+
 	/**
 	 * 결과 목록
 	 */
@@ -299,13 +357,169 @@ public class QueryResults<T> implements IQueryResults<T> {
 	private List<T> items = new ArrayList<>();
 
 	/**
-	 * 결과 목록을 설정한다.
+	 * 결과 목록을 설정한다. (목록을 복사하지 않고 그대로 사용한다.)
 	 * @param items 설정할 결과 목록
 	 */
 	public void setItems(List<T> items) {
 		if(items == null)
-			this.items.clear();
+			this.items = new ArrayList<>();
 		else
 			this.items = items;
 	}
+
+	/**
+	 * 페이징 입력 값으로 한번만 계산한 페이징 값 (불변)
+	 * 직렬화시 모든 getter 가 호출되므로 getter 마다 다시 계산하거나 목록을 만들지 않도록 한다.
+	 */
+	private static final class PagingWindow {
+		/**
+		 * 입력 값 : 전체 레코드 개수
+		 */
+		final long totalCount;
+
+		/**
+		 * 입력 값 : 페이지 번호
+		 */
+		final int pageNo;
+
+		/**
+		 * 입력 값 : 페이지당 개수
+		 */
+		final int countPerPage;
+
+		/**
+		 * 입력 값 : 섹션당 페이지 수
+		 */
+		final int pagePerSection;
+
+		/**
+		 * 입력 값 : 지정된 전체 페이지 수 / 시작 페이지 번호 / 마지막 페이지 번호
+		 */
+		final int fixedTotalPage, fixedStartPageNo, fixedEndPageNo;
+
+		/**
+		 * 전체 페이지 수
+		 */
+		final int totalPage;
+
+		/**
+		 * 현재 섹션 내의 시작 페이지 번호
+		 */
+		final int startPageNo;
+
+		/**
+		 * 현재 섹션 내의 마지막 페이지 번호
+		 */
+		final int endPageNo;
+
+		/**
+		 * 다음 페이지 섹션이 존재하는지 여부
+		 */
+		final boolean haveNextPageSection;
+
+		/**
+		 * 표시될 페이지 번호 배열
+		 */
+		final int[] pageNoArray;
+
+		/**
+		 * 표시될 페이지 번호 목록 (최초 사용시 생성된다.)
+		 */
+		List<Integer> pageNos;
+
+		/**
+		 * 생성자
+		 * @param source 조회 결과
+		 */
+		PagingWindow(QueryResults<?> source) {
+			this.totalCount = source.totalCount;
+			this.pageNo = source.pageNo;
+			this.countPerPage = source.countPerPage;
+			this.pagePerSection = source.pagePerSection;
+			this.fixedTotalPage = source.totalPage;
+			this.fixedStartPageNo = source.startPageNo;
+			this.fixedEndPageNo = source.endPageNo;
+
+			// 전체 페이지 수 (페이지당 레코드 수가 0인 경우 전체 데이터 이므로 페이지 수는 1)
+			if(fixedTotalPage > 0)
+				this.totalPage = fixedTotalPage;
+			else if (totalCount == 0 || countPerPage <= 0)
+				this.totalPage = 1;
+			else
+				this.totalPage = (int) Math.ceil(totalCount / (double) countPerPage);
+
+			// 현재 섹션 번호
+			int currentSection = 0;
+			if (pagePerSection > 0) {
+				currentSection = pageNo / pagePerSection;
+				if (pageNo % pagePerSection > 0)
+					currentSection++;
+			}
+
+			// 시작 페이지 번호 (레코드가 존재하지 않거나 섹션 당 페이지 수가 없는 경우 1)
+			if(fixedStartPageNo > 0)
+				this.startPageNo = fixedStartPageNo;
+			else if (totalCount <= 0 || pagePerSection <= 0)
+				this.startPageNo = 1;
+			else
+				this.startPageNo = (currentSection - 1) * pagePerSection + 1;
+
+			// 마지막 페이지 번호 (레코드가 존재하지 않거나 페이지 당 레코드 수가 없는 경우 1)
+			if(fixedEndPageNo > 0)
+				this.endPageNo = fixedEndPageNo;
+			else if (totalCount <= 0 || countPerPage <= 0)
+				this.endPageNo = 1;
+			else {
+				int lastPageNo = (int)(totalCount / countPerPage);
+				if (totalCount % countPerPage > 0)
+					lastPageNo++;
+				this.endPageNo = Math.min(lastPageNo, this.startPageNo + pagePerSection - 1);
+			}
+
+			// 다음 섹션 존재 여부 (레코드가 존재하지 않거나 섹션 당 페이지 수가 없는 경우 false)
+			if (totalCount <= 0 || pagePerSection <= 0)
+				this.haveNextPageSection = false;
+			else {
+				// 전체 섹션 수
+				int sectionCount = totalPage / pagePerSection;
+				if (totalPage % pagePerSection > 0)
+					sectionCount++;
+
+				// 마지막 섹션이 아닌 경우 true, 마지막 섹션인 경우 false
+				this.haveNextPageSection = sectionCount != currentSection;
+			}
+
+			// 표시될 페이지 번호 배열
+			this.pageNoArray = new int[Math.max(endPageNo - startPageNo + 1, 0)];
+			for (int index = 0; index < pageNoArray.length; index++)
+				pageNoArray[index] = startPageNo + index;
+		}
+
+		/**
+		 * 조회 결과의 페이징 입력 값이 계산에 사용한 값과 같은지 여부를 반환한다.
+		 * @param source 조회 결과
+		 * @return 같은 경우 true
+		 */
+		boolean isSameInput(QueryResults<?> source) {
+			return totalCount == source.totalCount && pageNo == source.pageNo
+					&& countPerPage == source.countPerPage && pagePerSection == source.pagePerSection
+					&& fixedTotalPage == source.totalPage && fixedStartPageNo == source.startPageNo && fixedEndPageNo == source.endPageNo;
+		}
+
+		/**
+		 * 표시될 페이지 번호 목록을 반환한다.
+		 * @return 표시될 페이지 번호 목록 (변경할 수 없는 목록)
+		 */
+		List<Integer> getPageNos() {
+			List<Integer> result = this.pageNos;
+			if(result == null) {
+				Integer[] values = new Integer[pageNoArray.length];
+				for (int index = 0; index < values.length; index++)
+					values[index] = pageNoArray[index];
+				result = Collections.unmodifiableList(Arrays.asList(values));
+				this.pageNos = result;
+			}
+			return result;
+		}
+	}
 }
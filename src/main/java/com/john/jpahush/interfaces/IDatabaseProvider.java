@@ -1,19 +1,23 @@
 package com.john.jpahush.interfaces;
 
+import com.john.jpahush.data.commondata.queries.QueryContext;
 import com.john.jpahush.data.commondata.queries.SortItem;
 import com.john.jpahush.data.commondata.responses.QueryResults;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.Predicate;
 import com.querydsl.jpa.impl.JPAQuery;
 
+import java.nio.channels.WritableByteChannel;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 /**
  * 데이터베이스 프로바이더 인터페이스
  */
-@SuppressWarnings("rawtypes,unused")
+@SuppressWarnings({"rawtypes", "unused"})
 public interface IDatabaseProvider {
     /**
      * 기본 쿼리에 필요한 사용자 입력 값을 변경한다.
@@ -38,6 +42,18 @@ public interface IDatabaseProvider {
             , String[] searchPeriodFields, Date[] searchStartDates, Date[] searchEndDates
     );
 
+    /**
+     * 쿼리명에 해당하는 전체 레코드 수 캐시를 삭제한다. (데이터가 변경된 경우 호출한다.)
+     * @param name 쿼리명
+     */
+    void invalidateCountCache(String name);
+
+    /**
+     * 목록 조회 처리 단계별 측정 정보를 전달받을 리스너를 추가한다.
+     * @param listener 리스너
+     */
+    void addMetricsListener(IQueryMetricsListener listener);
+
     /**
      * 주어진 쿼리 원본으로 부터 skip 만큼 건너뛰고 countPerPage 만큼의 레코드를 가져와 QueryResults 객체를 반환한다.
      * @param clazz 기본 테이블 클래스 객체
@@ -48,6 +64,30 @@ public interface IDatabaseProvider {
      */
     <T> QueryResults<T> createQueryResults(Class clazz, JPAQuery<T> source, Expression<Long> totalCountExpression);
 
+    /**
+     * 주어진 쿼리 컨텍스트와 쿼리 원본으로 부터 skip 만큼 건너뛰고 countPerPage 만큼의 레코드를 가져와 QueryResults 객체를 반환한다.
+     * 프로바이더의 상태를 사용하지 않으므로 동시에 여러 요청에서 호출할 수 있다.
+     * @param context 쿼리 컨텍스트
+     * @param clazz 기본 테이블 클래스 객체
+     * @param source JPAQuery<T> 객체
+     * @param totalCountExpression 전체 레코드 수 조회 식
+     * @param <T> 원본 타입
+     * @return QueryResults<D> 객체
+     */
+    <T> QueryResults<T> createQueryResults(QueryContext context, Class clazz, JPAQuery<T> source, Expression<Long> totalCountExpression);
+
+    /**
+     * 주어진 쿼리 컨텍스트와 쿼리 원본으로 부터 skip 만큼 건너뛰고 countPerPage 만큼의 레코드를 가져와 QueryResults 객체를 비동기로 반환한다.
+     * 조회는 별도 엔티티 매니저로 수행되며, 가상 스레드를 사용하는 경우 가상 스레드에서 수행된다.
+     * @param context 쿼리 컨텍스트
+     * @param clazz 기본 테이블 클래스 객체
+     * @param source JPAQuery<T> 객체
+     * @param totalCountExpression 전체 레코드 수 조회 식
+     * @param <T> 원본 타입
+     * @return QueryResults<D> 조회 작업
+     */
+    <T> CompletableFuture<QueryResults<T>> createQueryResultsAsync(QueryContext context, Class clazz, JPAQuery<T> source, Expression<Long> totalCountExpression);
+
     /**
      * 주어진 쿼리 원본으로 부터 전체 레코드가 담긴 QueryResults 객체를 반환한다.
      * @param source JPAQuery<T> 객체
@@ -128,6 +168,16 @@ public interface IDatabaseProvider {
      */
     <T> JPAQuery<T> getWhereQueries(Object[] projectionArgs, JPAQuery<T> query, Class clazz);
 
+    /**
+     * 쿼리 컨텍스트와 쿼리 그리고 응답 클래스 정보로 부터 Where 쿼리를 가져온다.
+     * 프로젝션 정보는 쿼리의 프로젝션 식에서 가져온다.
+     * @param context 쿼리 컨텍스트
+     * @param query JPA 쿼리 클래스
+     * @param clazz 응답 클래스 정보
+     * @return JPA쿼리 객체
+     */
+    <T> JPAQuery<T> getWhereQueries(QueryContext context, JPAQuery<T> query, Class clazz);
+
     /**
      * Projections 과 쿼리 그리고 응답 클래스 정보로 부터 OrderBy 쿼리를 가져온다.
      * @param projectionArgs 프로젝션 정보
@@ -136,6 +186,15 @@ public interface IDatabaseProvider {
      */
     <T> JPAQuery<T> getOrderByQueries(Object[] projectionArgs, JPAQuery<T> query);
 
+    /**
+     * 쿼리 컨텍스트와 쿼리 정보로 부터 OrderBy 쿼리를 가져온다.
+     * 프로젝션 정보는 쿼리의 프로젝션 식에서 가져온다.
+     * @param context 쿼리 컨텍스트
+     * @param query JPA 쿼리 클래스
+     * @return JPA쿼리 객체
+     */
+    <T> JPAQuery<T> getOrderByQueries(QueryContext context, JPAQuery<T> query);
+
     /**
      * 주어진 쿼리 원본으로 부터 전체 레코드를 가져와 형 변환 후 QueryResults 객체를 반환한다.
      * @param source JPAQuery<T> 객체
@@ -156,6 +215,43 @@ public interface IDatabaseProvider {
      */
     <T> QueryResults<T> createQueryResults(JPAQuery<T> source, List<SortItem> orders);
 
+    /**
+     * 주어진 쿼리 원본으로 부터 전체 레코드를 목록으로 만들지 않고 스트림으로 반환한다.
+     * 스트림은 커서 (ScrollableResults) 기반이므로 사용 후 반드시 닫아야 한다. (try-with-resources)
+     * @param source JPAQuery<T> 객체
+     * @param orders 정렬필드 정보 목록
+     * @param fetchSize 한번에 가져올 레코드 수 (0 이하인 경우 기본값)
+     * @param <T> 원본 타입
+     * @return 레코드 스트림
+     */
+    <T> Stream<T> createQueryStream(JPAQuery<T> source, List<SortItem> orders, int fetchSize);
+
+    /**
+     * 주어진 쿼리 원본으로 부터 전체 레코드를 목록으로 만들지 않고 레코드 별로 형 변환하는 스트림을 반환한다.
+     * 스트림은 커서 (ScrollableResults) 기반이므로 사용 후 반드시 닫아야 한다. (try-with-resources)
+     * @param source JPAQuery<T> 객체
+     * @param orders 정렬필드 정보 목록
+     * @param destClazz 대상 타입 클래스 객체
+     * @param fetchSize 한번에 가져올 레코드 수 (0 이하인 경우 기본값)
+     * @param <T> 원본 타입
+     * @param <D> 대상 타입
+     * @return 레코드 스트림
+     */
+    <T, D> Stream<D> createQueryStream(JPAQuery<T> source, List<SortItem> orders, Class<D> destClazz, int fetchSize);
+
+    /**
+     * 주어진 쿼리 원본의 전체 레코드를 응답 객체로 만들지 않고 CSV 로 채널에 쓴다. (첫 줄은 컬럼명, 채널은 닫지 않는다.)
+     * 컬럼명과 값 형식은 프로젝션의 인자 식 (Q 클래스 경로 / 별칭) 으로 정한다.
+     * 정렬 정보만 적용되며, 검색/기간 조건 (setRequestResources / QueryContext) 은 적용되지 않으므로 필요한 조건은 쿼리 원본에 포함해야 한다.
+     * @param source JPAQuery<T> 객체 (프로젝션이 있어야 한다.)
+     * @param orders 정렬필드 정보 목록
+     * @param channel 출력 채널 (FileChannel / Channels.newChannel(OutputStream) 등)
+     * @param fetchSize 한번에 가져올 레코드 수 (0 이하인 경우 기본값)
+     * @param <T> 원본 타입
+     * @return 내보낸 레코드 수 (실패한 경우 -1)
+     */
+    <T> long exportCsv(JPAQuery<T> source, List<SortItem> orders, WritableByteChannel channel, int fetchSize);
+
     /**
      * 필드명 및 정렬 방향 문자열로 쿼리를 작성한다.
      * @param source 쿼리 소스
@@ -0,0 +1,26 @@
+package com.john.jpahush.interfaces;
+
+import com.john.jpahush.data.commondata.queries.QueryContext;
+import com.john.jpahush.data.commondata.queries.QueryMetrics;
+
+/**
+ * 목록 조회 (createQueryResults) 의 처리 단계별 측정 정보를 전달받는 리스너 인터페이스
+ * 빈으로 등록된 경우 QueryDSLProvider 에 자동 등록된다.
+ */
+@SuppressWarnings({"rawtypes", "unused"})
+public interface IQueryMetricsListener {
+    /**
+     * 목록 조회를 시작하기 전에 호출되는 메서드
+     * @param context 쿼리 컨텍스트
+     * @param clazz   응답 리스폰스 클래스
+     */
+    default void beforeCreateQueryResults(QueryContext context, Class clazz) {
+    }
+
+    /**
+     * 목록 조회가 끝난 후 호출되는 메서드 (실패한 경우에도 호출된다.)
+     * @param context 쿼리 컨텍스트
+     * @param metrics 처리 단계별 측정 정보
+     */
+    void afterCreateQueryResults(QueryContext context, QueryMetrics metrics);
+}
@@ -0,0 +1,63 @@
+package com.john.jpahush.interfaces;
+
+import com.john.jpahush.data.commondata.queries.QueryContext;
+import com.john.jpahush.data.commondata.queries.SortItem;
+import com.john.jpahush.data.commondata.responses.QueryResults;
+import com.querydsl.core.types.Expression;
+import com.querydsl.jpa.impl.JPAQuery;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.List;
+
+/**
+ * 리액티브 (WebFlux) 데이터베이스 프로바이더 인터페이스
+ * 블로킹 JPA 조회를 전용 스케줄러에서 수행하고 결과를 Mono / Flux 로 반환한다.
+ */
+@SuppressWarnings({"rawtypes", "unused"})
+public interface IReactiveDatabaseProvider {
+    /**
+     * 쿼리명 별 최대 동시 조회 수를 지정한다.
+     * @param name 쿼리명
+     * @param maxConcurrency 최대 동시 조회 수 (0 이하인 경우 기본값을 사용한다.)
+     */
+    void setMaxConcurrency(String name, int maxConcurrency);
+
+    /**
+     * 주어진 쿼리 컨텍스트와 쿼리 원본으로 부터 skip 만큼 건너뛰고 countPerPage 만큼의 레코드를 가져와 QueryResults 객체를 발행한다.
+     * 구독할 때 조회하며, 조회는 별도 엔티티 매니저로 전용 스케줄러에서 수행된다.
+     * @param context 쿼리 컨텍스트
+     * @param clazz 기본 테이블 클래스 객체
+     * @param source JPAQuery<T> 객체
+     * @param totalCountExpression 전체 레코드 수 조회 식
+     * @param <T> 원본 타입
+     * @return QueryResults<T> 를 발행하는 Mono
+     */
+    <T> Mono<QueryResults<T>> createQueryResults(QueryContext context, Class clazz, JPAQuery<T> source, Expression<Long> totalCountExpression);
+
+    /**
+     * 주어진 쿼리 원본으로 부터 전체 레코드를 요청 (request) 된 만큼씩 커서에서 읽어 발행한다.
+     * 구독이 끝나거나 취소되면 커서와 엔티티 매니저를 닫는다.
+     * @param name 쿼리명 (동시 조회 수 제한에 사용한다.)
+     * @param source JPAQuery<T> 객체
+     * @param orders 정렬필드 정보 목록
+     * @param fetchSize 한번에 가져올 레코드 수 (0 이하인 경우 기본값)
+     * @param <T> 원본 타입
+     * @return 레코드를 발행하는 Flux
+     */
+    <T> Flux<T> createQueryFlux(String name, JPAQuery<T> source, List<SortItem> orders, int fetchSize);
+
+    /**
+     * 주어진 쿼리 원본으로 부터 전체 레코드를 요청 (request) 된 만큼씩 커서에서 읽어 형 변환 후 발행한다.
+     * 구독이 끝나거나 취소되면 커서와 엔티티 매니저를 닫는다.
+     * @param name 쿼리명 (동시 조회 수 제한에 사용한다.)
+     * @param source JPAQuery<T> 객체
+     * @param orders 정렬필드 정보 목록
+     * @param destClazz 대상 타입 클래스 객체
+     * @param fetchSize 한번에 가져올 레코드 수 (0 이하인 경우 기본값)
+     * @param <T> 원본 타입
+     * @param <D> 대상 타입
+     * @return 레코드를 발행하는 Flux
+     */
+    <T, D> Flux<D> createQueryFlux(String name, JPAQuery<T> source, List<SortItem> orders, Class<D> destClazz, int fetchSize);
+}
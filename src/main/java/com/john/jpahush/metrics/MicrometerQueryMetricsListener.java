@@ -0,0 +1,191 @@
+package com.john.jpahush.metrics;
+
+import com.john.jpahush.data.commondata.enums.EnumCountMode;
+import com.john.jpahush.data.commondata.enums.EnumQueryPhase;
+import com.john.jpahush.data.commondata.queries.QueryContext;
+import com.john.jpahush.data.commondata.queries.QueryMetrics;
+import com.john.jpahush.interfaces.IQueryMetricsListener;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 목록 조회 측정 정보를 Micrometer 로 기록하는 리스너
+ * 쿼리명 (query) 과 처리 단계 (phase) 태그로 처리 단계별 소요 시간 백분위를 기록한다.
+ * micrometer-core 는 선택 의존성이므로 사용하는 프로젝트에서 의존성을 추가하고 빈으로 등록한다.
+ *   - jpahush.query.phase : 처리 단계별 소요 시간 (phase = ProjectionParse / FieldResolution / PredicateBuild / Fetch / Count / Mapping)
+ *   - jpahush.query       : 전체 소요 시간 (outcome = success / error)
+ *   - jpahush.query.rows  : 조회된 레코드 수
+ */
+public class MicrometerQueryMetricsListener implements IQueryMetricsListener {
+
+    /**
+     * 기본 백분위 목록
+     */
+    public static final double[] DEFAULT_PERCENTILES = { 0.5, 0.95, 0.99 };
+
+    /**
+     * 쿼리명이 없는 경우 사용할 태그 값
+     */
+    public static final String UNNAMED = "unnamed";
+
+    /**
+     * 처리 단계 목록
+     */
+    private static final EnumQueryPhase[] PHASES = EnumQueryPhase.values();
+
+    /**
+     * 미터 레지스트리
+     */
+    private final MeterRegistry registry;
+
+    /**
+     * 백분위 목록
+     */
+    private final double[] percentiles;
+
+    /**
+     * 쿼리명 별 미터 목록 (매 요청마다 미터를 찾지 않도록 캐시한다.)
+     */
+    private final Map<String, Meters> meters = new ConcurrentHashMap<>();
+
+    /**
+     * 생성자
+     * @param registry 미터 레지스트리
+     */
+    public MicrometerQueryMetricsListener(MeterRegistry registry) {
+        this(registry, DEFAULT_PERCENTILES);
+    }
+
+    /**
+     * 생성자
+     * @param registry 미터 레지스트리
+     * @param percentiles 기록할 백분위 목록
+     */
+    public MicrometerQueryMetricsListener(MeterRegistry registry, double... percentiles) {
+        this.registry = registry;
+        this.percentiles = percentiles == null || percentiles.length == 0 ? DEFAULT_PERCENTILES : percentiles.clone();
+    }
+
+    /**
+     * 목록 조회가 끝난 후 처리 단계별 소요 시간을 기록한다.
+     * @param context 쿼리 컨텍스트
+     * @param metrics 처리 단계별 측정 정보
+     */
+    @Override
+    public void afterCreateQueryResults(QueryContext context, QueryMetrics metrics) {
+        // 쿼리명이 없는 경우 (ConcurrentHashMap 은 null 키를 허용하지 않는다.)
+        String name = metrics.getName() == null ? UNNAMED : metrics.getName();
+        Meters target = meters.computeIfAbsent(name, this::createMeters);
+
+        // 수행되지 않은 단계는 0 으로 기록하지 않는다. (백분위가 낮아지지 않도록 한다.)
+        for (EnumQueryPhase phase : PHASES) {
+            if(isExecuted(context, metrics, phase))
+                target.phases[phase.ordinal()].record(metrics.getElapsedNanos(phase), TimeUnit.NANOSECONDS);
+        }
+
+        (metrics.getException() == null ? target.success : target.error).record(metrics.getTotalElapsedNanos(), TimeUnit.NANOSECONDS);
+        target.rows.record(metrics.getRowCount());
+    }
+
+    /**
+     * 처리 단계가 수행되었는지 여부를 반환한다.
+     * 전체 레코드 수를 캐시에서 가져왔거나 조회하지 않는 방식 (None) 인 경우 Count 단계는 수행되지 않은 것으로 본다.
+     * @param context 쿼리 컨텍스트
+     * @param metrics 처리 단계별 측정 정보
+     * @param phase 처리 단계
+     * @return 수행된 경우 true
+     */
+    private static boolean isExecuted(QueryContext context, QueryMetrics metrics, EnumQueryPhase phase) {
+        if(metrics.getElapsedNanos(phase) <= 0)
+            return false;
+        if(phase == EnumQueryPhase.Count)
+            return !metrics.isCountCached() && (context == null || context.getCountMode() != EnumCountMode.None);
+        return true;
+    }
+
+    /**
+     * 쿼리명에 해당하는 미터 목록을 만든다.
+     * @param name 쿼리명
+     * @return 미터 목록
+     */
+    private Meters createMeters(String name) {
+        Timer[] phases = new Timer[PHASES.length];
+        for (EnumQueryPhase phase : PHASES) {
+            phases[phase.ordinal()] = Timer.builder("jpahush.query.phase")
+                    .description("목록 조회 처리 단계별 소요 시간")
+                    .tag("query", name)
+                    .tag("phase", phase.name())
+                    .publishPercentiles(percentiles)
+                    .register(registry);
+        }
+
+        Timer success = createTotalTimer(name, "success");
+        Timer error = createTotalTimer(name, "error");
+        DistributionSummary rows = DistributionSummary.builder("jpahush.query.rows")
+                .description("목록 조회 레코드 수")
+                .tag("query", name)
+                .publishPercentiles(percentiles)
+                .register(registry);
+
+        return new Meters(phases, success, error, rows);
+    }
+
+    /**
+     * 전체 소요 시간 타이머를 만든다.
+     * @param name 쿼리명
+     * @param outcome 결과 (success / error)
+     * @return 타이머
+     */
+    private Timer createTotalTimer(String name, String outcome) {
+        return Timer.builder("jpahush.query")
+                .description("목록 조회 전체 소요 시간")
+                .tag("query", name)
+                .tag("outcome", outcome)
+                .publishPercentiles(percentiles)
+                .register(registry);
+    }
+
+    /**
+     * 쿼리명 별 미터 목록
+     */
+    private static final class Meters {
+        /**
+         * 처리 단계별 타이머
+         */
+        final Timer[] phases;
+
+        /**
+         * 성공한 조회의 전체 소요 시간 타이머
+         */
+        final Timer success;
+
+        /**
+         * 실패한 조회의 전체 소요 시간 타이머
+         */
+        final Timer error;
+
+        /**
+         * 조회 레코드 수
+         */
+        final DistributionSummary rows;
+
+        /**
+         * 생성자
+         * @param phases 처리 단계별 타이머
+         * @param success 성공한 조회의 전체 소요 시간 타이머
+         * @param error 실패한 조회의 전체 소요 시간 타이머
+         * @param rows 조회 레코드 수
+         */
+        Meters(Timer[] phases, Timer success, Timer error, DistributionSummary rows) {
+            this.phases = phases;
+            this.success = success;
+            this.error = error;
+            this.rows = rows;
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package com.john.jpahush.metrics;
+
+import com.john.jpahush.data.commondata.enums.EnumQueryPhase;
+import com.john.jpahush.data.commondata.queries.QueryContext;
+import com.john.jpahush.data.commondata.queries.QueryMetrics;
+import com.john.jpahush.data.commondata.queries.SlowQueryRecord;
+import com.john.jpahush.interfaces.IQueryMetricsListener;
+import com.john.jpahush.utils.MaskingUtils;
+import com.john.jpahush.utils.MoreExceptionHandler;
+import com.querydsl.core.QueryMetadata;
+import com.querydsl.jpa.JPQLSerializer;
+import com.querydsl.jpa.JPQLTemplates;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 느린 목록 조회 감지기
+ * 목록 조회 또는 전체 레코드 수 조회 시간이 쿼리명 별 임계 시간을 넘는 경우 JPQL, 마스킹된 파라미터, 레코드 수, 요청 검색 필드를
+ * 고정 크기의 링 버퍼에 기록한다. JPQL 은 느린 조회에 대해서만 만들어지므로 일반 조회에는 비용이 없다.
+ * 빈으로 등록하면 QueryDSLProvider 의 측정 리스너로 자동 등록된다.
+ */
+public class SlowQueryDetector implements IQueryMetricsListener {
+
+    /**
+     * 기본 임계 시간
+     */
+    public static final Duration DEFAULT_THRESHOLD = Duration.ofSeconds(1);
+
+    /**
+     * 기본 기록 수
+     */
+    public static final int DEFAULT_CAPACITY = 256;
+
+    /**
+     * 쿼리명 별 임계 시간 (나노초)
+     */
+    private final Map<String, Long> thresholds = new ConcurrentHashMap<>();
+
+    /**
+     * 기본 임계 시간 (나노초)
+     */
+    private volatile long defaultThresholdNanos;
+
+    /**
+     * 기록 링 버퍼
+     */
+    private final AtomicReferenceArray<SlowQueryRecord> records;
+
+    /**
+     * 다음 기록 순번
+     */
+    private final AtomicLong sequence = new AtomicLong();
+
+    /**
+     * 생성자
+     */
+    public SlowQueryDetector() {
+        this(DEFAULT_THRESHOLD, DEFAULT_CAPACITY);
+    }
+
+    /**
+     * 생성자
+     * @param defaultThreshold 기본 임계 시간
+     * @param capacity 기록 수 (넘는 경우 오래된 기록부터 덮어쓴다.)
+     */
+    public SlowQueryDetector(Duration defaultThreshold, int capacity) {
+        this.defaultThresholdNanos = defaultThreshold.toNanos();
+        this.records = new AtomicReferenceArray<>(Math.max(capacity, 1));
+    }
+
+    /**
+     * 기본 임계 시간을 변경한다.
+     * @param threshold 임계 시간
+     */
+    public void setDefaultThreshold(Duration threshold) {
+        this.defaultThresholdNanos = threshold.toNanos();
+    }
+
+    /**
+     * 쿼리명 별 임계 시간을 지정한다.
+     * @param name 쿼리명
+     * @param threshold 임계 시간 (null 인 경우 기본 임계 시간을 사용한다.)
+     */
+    public void setThreshold(String name, Duration threshold) {
+        String key = name == null ? "" : name;
+        if(threshold == null)
+            thresholds.remove(key);
+        else
+            thresholds.put(key, threshold.toNanos());
+    }
+
+    /**
+     * 쿼리명에 해당하는 임계 시간을 반환한다.
+     * @param name 쿼리명
+     * @return 임계 시간
+     */
+    public Duration getThreshold(String name) {
+        return Duration.ofNanos(thresholds.getOrDefault(name == null ? "" : name, defaultThresholdNanos));
+    }
+
+    /**
+     * 목록 조회가 끝난 후 임계 시간을 넘은 경우 기록한다.
+     * @param context 쿼리 컨텍스트
+     * @param metrics 처리 단계별 측정 정보
+     */
+    @Override
+    public void afterCreateQueryResults(QueryContext context, QueryMetrics metrics) {
+        long threshold = thresholds.getOrDefault(metrics.getName() == null ? "" : metrics.getName(), defaultThresholdNanos);
+        long fetchNanos = metrics.getElapsedNanos(EnumQueryPhase.Fetch);
+        long countNanos = metrics.getElapsedNanos(EnumQueryPhase.Count);
+
+        // 임계 시간을 넘지 않은 경우
+        if(fetchNanos <= threshold && countNanos <= threshold)
+            return;
+
+        // 기록할 위치에 덮어쓴다.
+        SlowQueryRecord record = this.createRecord(context, metrics);
+        long index = sequence.getAndIncrement();
+        records.set((int) (index % records.length()), record);
+    }
+
+    /**
+     * 기록 목록을 최근 순으로 반환한다.
+     * @return 기록 목록
+     */
+    public List<SlowQueryRecord> getRecords() {
+        return this.getRecords(null);
+    }
+
+    /**
+     * 쿼리명에 해당하는 기록 목록을 최근 순으로 반환한다.
+     * @param name 쿼리명 (null 인 경우 전체)
+     * @return 기록 목록
+     */
+    public List<SlowQueryRecord> getRecords(String name) {
+        List<SlowQueryRecord> result = new ArrayList<>();
+        long last = sequence.get();
+        int capacity = records.length();
+
+        // 최근 기록부터 버퍼 크기만큼 확인한다.
+        for (long index = last - 1; index >= 0 && index >= last - capacity; index--) {
+            SlowQueryRecord record = records.get((int) (index % capacity));
+            if(record != null && (name == null || name.equals(record.getName())))
+                result.add(record);
+        }
+        return result;
+    }
+
+    /**
+     * 모든 기록을 삭제한다.
+     */
+    public void clear() {
+        for (int index = 0; index < records.length(); index++)
+            records.set(index, null);
+    }
+
+    /**
+     * 측정 정보로 부터 기록을 만든다.
+     * @param context 쿼리 컨텍스트
+     * @param metrics 처리 단계별 측정 정보
+     * @return 기록
+     */
+    private SlowQueryRecord createRecord(QueryContext context, QueryMetrics metrics) {
+        String jpql = null;
+        List<String> parameters = new ArrayList<>();
+
+        // 쿼리 메타 정보가 있는 경우 JPQL 과 파라미터를 만든다.
+        QueryMetadata metadata = metrics.getQueryMetadata();
+        if(metadata != null) {
+            try {
+                JPQLSerializer serializer = new JPQLSerializer(JPQLTemplates.DEFAULT);
+                serializer.serialize(metadata, false, null);
+                jpql = serializer.toString();
+                for (Object constant : serializer.getConstants())
+                    parameters.add(MaskingUtils.maskingParameter(constant));
+            } catch (Exception e) {
+                MoreExceptionHandler.Log(e);
+            }
+        }
+
+        return new SlowQueryRecord(metrics.getName()
+                , new Date(metrics.getStartedAt())
+                , toMillis(metrics.getElapsedNanos(EnumQueryPhase.Fetch))
+                , toMillis(metrics.getElapsedNanos(EnumQueryPhase.Count))
+                , toMillis(metrics.getTotalElapsedNanos())
+                , metrics.getRowCount(), metrics.getTotalCount()
+                , jpql, parameters
+                , context == null ? List.of() : context.getSearchFieldList()
+                , context == null ? List.of() : context.getSearchPeriodFieldList()
+                , context == null ? List.of() : context.getOrderFieldList());
+    }
+
+    /**
+     * 나노초를 밀리초로 변환한다.
+     * @param nanos 나노초
+     * @return 밀리초
+     */
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
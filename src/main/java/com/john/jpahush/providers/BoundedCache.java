@@ -0,0 +1,158 @@
+package com.john.jpahush.providers;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 최대 항목 수를 넘으면 최근에 사용되지 않은 항목부터 제거하는 캐시 (클럭 방식의 근사 LRU)
+ * 조회는 잠금 없이 ConcurrentHashMap 에서 읽고 사용 표시만 남기며, 제거는 저장하는 스레드 중 하나만 수행한다.
+ * 제거 중인 동안 저장된 항목으로 인해 최대 항목 수를 잠시 넘을 수 있다.
+ * 가상 스레드가 고정되지 않도록 synchronized 대신 ReentrantLock 을 사용한다.
+ * @param <K> 키 타입
+ * @param <V> 값 타입
+ */
+final class BoundedCache<K, V> {
+
+    /**
+     * 최대 항목 수
+     */
+    private final int maxSize;
+
+    /**
+     * 캐시 항목 목록
+     */
+    private final Map<K, Entry<V>> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 제거 잠금 (제거는 한 스레드만 수행한다.)
+     */
+    private final ReentrantLock evictionLock = new ReentrantLock();
+
+    /**
+     * 다음에 제거 대상을 확인할 위치 (클럭 바늘, evictionLock 안에서만 사용한다.)
+     */
+    private Iterator<Map.Entry<K, Entry<V>>> hand;
+
+    /**
+     * 생성자
+     * @param maxSize 최대 항목 수
+     */
+    BoundedCache(int maxSize) {
+        this.maxSize = Math.max(maxSize, 1);
+    }
+
+    /**
+     * 키에 해당하는 값을 가져온다. (잠금 없이 읽는다.)
+     * @param key 키
+     * @return 값 (없는 경우 null)
+     */
+    V get(K key) {
+        Entry<V> entry = entries.get(key);
+        if(entry == null)
+            return null;
+
+        entry.touch();
+        return entry.value;
+    }
+
+    /**
+     * 키에 해당하는 값이 없는 경우 저장한다. (최대 항목 수를 넘는 경우 최근에 사용되지 않은 항목이 제거된다.)
+     * @param key 키
+     * @param value 값
+     * @return 이미 저장된 값이 있는 경우 저장된 값, 없는 경우 주어진 값
+     */
+    V putIfAbsent(K key, V value) {
+        Entry<V> previous = entries.putIfAbsent(key, new Entry<>(value));
+        if(previous != null) {
+            previous.touch();
+            return previous.value;
+        }
+
+        if(entries.size() > maxSize)
+            this.evict();
+        return value;
+    }
+
+    /**
+     * 저장된 항목 수를 반환한다.
+     * @return 항목 수
+     */
+    int size() {
+        return entries.size();
+    }
+
+    /**
+     * 저장된 항목을 모두 삭제한다.
+     */
+    void clear() {
+        evictionLock.lock();
+        try {
+            entries.clear();
+            hand = null;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * 최대 항목 수 이하가 될 때까지 최근에 사용되지 않은 항목을 제거한다.
+     * 사용 표시가 있는 항목은 표시만 지우고 넘어가므로, 한 바퀴 안에 다시 사용되지 않은 항목이 제거된다.
+     * 다른 스레드가 제거 중인 경우 기다리지 않는다.
+     */
+    private void evict() {
+        if(!evictionLock.tryLock())
+            return;
+
+        try {
+            while (entries.size() > maxSize) {
+                if(hand == null || !hand.hasNext()) {
+                    hand = entries.entrySet().iterator();
+                    if(!hand.hasNext())
+                        return;
+                }
+
+                Map.Entry<K, Entry<V>> candidate = hand.next();
+                if(candidate.getValue().referenced)
+                    candidate.getValue().referenced = false;
+                else
+                    entries.remove(candidate.getKey(), candidate.getValue());
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * 캐시 항목
+     * @param <V> 값 타입
+     */
+    private static final class Entry<V> {
+        /**
+         * 값
+         */
+        final V value;
+
+        /**
+         * 마지막 제거 확인 이후 사용되었는지 여부
+         */
+        volatile boolean referenced;
+
+        /**
+         * 생성자
+         * @param value 값
+         */
+        Entry(V value) {
+            this.value = value;
+        }
+
+        /**
+         * 사용 표시를 남긴다. (이미 표시된 경우 쓰지 않는다.)
+         */
+        void touch() {
+            if(!referenced)
+                referenced = true;
+        }
+    }
+}
@@ -0,0 +1,217 @@
+package com.john.jpahush.providers;
+
+import com.john.jpahush.data.commondata.queries.QueryContext;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Predicate;
+import com.querydsl.jpa.impl.JPAQuery;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 전체 레코드 수 조회 결과 캐시
+ * 쿼리명, 응답 클래스, 정규화된 검색/기간 조건이 같은 경우 만료 시간 동안 전체 레코드 수를 재사용한다.
+ */
+public class CountCache {
+
+    /**
+     * 기본 만료 시간 (밀리초)
+     */
+    public static final long DEFAULT_TTL_MILLIS = 30_000L;
+
+    /**
+     * 기본 최대 항목 수
+     */
+    public static final int DEFAULT_MAX_SIZE = 1024;
+
+    /**
+     * 키 구분자
+     */
+    private static final char SEPARATOR = '\u001F';
+
+    /**
+     * 캐시 항목 목록
+     */
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * 만료 시간 (밀리초)
+     */
+    private final long ttlMillis;
+
+    /**
+     * 최대 항목 수
+     */
+    private final int maxSize;
+
+    /**
+     * 생성자
+     */
+    public CountCache() {
+        this(DEFAULT_TTL_MILLIS, DEFAULT_MAX_SIZE);
+    }
+
+    /**
+     * 생성자
+     * @param ttlMillis 만료 시간 (밀리초)
+     * @param maxSize 최대 항목 수
+     */
+    public CountCache(long ttlMillis, int maxSize) {
+        this.ttlMillis = Math.max(ttlMillis, 0L);
+        this.maxSize = Math.max(maxSize, 1);
+    }
+
+    /**
+     * 쿼리 컨텍스트와 쿼리 정보로 부터 캐시 키를 만든다.
+     * 검색 필드/값과 기간 조건은 순서와 대소문자에 상관없이 같은 키가 되도록 정규화한다.
+     * @param context 쿼리 컨텍스트
+     * @param clazz 응답 클래스 정보
+     * @param source JPAQuery<T> 객체
+     * @param totalCountExpression 전체 레코드 수 조회 식
+     * @return 캐시 키
+     */
+    @SuppressWarnings("rawtypes")
+    public static String createKey(QueryContext context, Class clazz, JPAQuery<?> source, Expression<Long> totalCountExpression) {
+        StringBuilder builder = new StringBuilder(256);
+        builder.append(context.getName()).append(SEPARATOR)
+                .append(clazz == null ? "" : clazz.getName()).append(SEPARATOR)
+                .append(totalCountExpression).append(SEPARATOR)
+                // 원본 쿼리의 조건 (상수 값 포함)
+                .append(source.getMetadata().getWhere()).append(SEPARATOR);
+
+        // 추가 조건
+        for (Predicate predicate : context.getPredicates())
+            builder.append(predicate).append(SEPARATOR);
+
+        // 검색 필드와 값
+        List<String> searchFields = context.getSearchFieldList();
+        List<String> searchValues = context.getSearchValueList();
+        List<String> searches = new ArrayList<>(searchFields.size());
+        for (int index = 0; index < searchFields.size(); index++) {
+            String value = index < searchValues.size() && searchValues.get(index) != null ? searchValues.get(index).trim() : "";
+            searches.add(String.valueOf(searchFields.get(index)).toLowerCase() + "=" + value);
+        }
+        Collections.sort(searches);
+        builder.append(searches).append(SEPARATOR);
+
+        // 기간 검색 필드와 기간
+        List<String> periodFields = context.getSearchPeriodFieldList();
+        List<Date> startDates = context.getSearchStartDateList();
+        List<Date> endDates = context.getSearchEndDateList();
+        List<String> periods = new ArrayList<>(periodFields.size());
+        for (int index = 0; index < periodFields.size(); index++) {
+            long start = index < startDates.size() && startDates.get(index) != null ? startDates.get(index).getTime() : Long.MIN_VALUE;
+            long end = index < endDates.size() && endDates.get(index) != null ? endDates.get(index).getTime() : Long.MAX_VALUE;
+            periods.add(String.valueOf(periodFields.get(index)).toLowerCase() + "=" + start + "~" + end);
+        }
+        Collections.sort(periods);
+        builder.append(periods);
+
+        return builder.toString();
+    }
+
+    /**
+     * 캐시된 전체 레코드 수를 가져온다.
+     * @param key 캐시 키
+     * @return 전체 레코드 수 (없거나 만료된 경우 null)
+     */
+    public Long get(String key) {
+        Entry entry = entries.get(key);
+        if(entry == null)
+            return null;
+
+        // 만료된 경우
+        if(entry.expiresAt < System.currentTimeMillis()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.totalCount;
+    }
+
+    /**
+     * 전체 레코드 수를 캐시에 저장한다.
+     * @param name 쿼리명
+     * @param key 캐시 키
+     * @param totalCount 전체 레코드 수
+     */
+    public void put(String name, String key, long totalCount) {
+        // 최대 항목 수를 넘는 경우 정리한다.
+        if(entries.size() >= maxSize)
+            this.evict();
+
+        entries.put(key, new Entry(name == null ? "" : name, totalCount, System.currentTimeMillis() + ttlMillis));
+    }
+
+    /**
+     * 쿼리명에 해당하는 캐시 항목을 모두 삭제한다.
+     * @param name 쿼리명
+     */
+    public void invalidate(String name) {
+        String target = name == null ? "" : name;
+        entries.values().removeIf(entry -> entry.name.equals(target));
+    }
+
+    /**
+     * 모든 캐시 항목을 삭제한다.
+     */
+    public void invalidateAll() {
+        entries.clear();
+    }
+
+    /**
+     * 캐시 항목 수를 반환한다.
+     * @return 캐시 항목 수
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * 만료된 항목을 삭제하고, 그래도 최대 항목 수를 넘는 경우 만료가 가장 빠른 항목부터 삭제한다.
+     */
+    private void evict() {
+        long now = System.currentTimeMillis();
+        entries.values().removeIf(entry -> entry.expiresAt < now);
+
+        // 여전히 최대 항목 수를 넘는 경우
+        int overflow = entries.size() - maxSize + 1;
+        if(overflow > 0) {
+            entries.entrySet().stream()
+                    .sorted(Comparator.comparingLong(item -> item.getValue().expiresAt))
+                    .limit(overflow)
+                    .forEach(item -> entries.remove(item.getKey(), item.getValue()));
+        }
+    }
+
+    /**
+     * 캐시 항목
+     */
+    private static final class Entry {
+        /**
+         * 쿼리명
+         */
+        final String name;
+
+        /**
+         * 전체 레코드 수
+         */
+        final long totalCount;
+
+        /**
+         * 만료 일시 (밀리초)
+         */
+        final long expiresAt;
+
+        /**
+         * 생성자
+         * @param name 쿼리명
+         * @param totalCount 전체 레코드 수
+         * @param expiresAt 만료 일시 (밀리초)
+         */
+        Entry(String name, long totalCount, long expiresAt) {
+            this.name = name;
+            this.totalCount = totalCount;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
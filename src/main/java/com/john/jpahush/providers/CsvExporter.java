@@ -0,0 +1,442 @@
+package com.john.jpahush.providers;
+
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.*;
+import com.querydsl.jpa.impl.JPAQuery;
+import org.hibernate.annotations.QueryHints;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.time.Instant;
+import java.util.*;
+import java.util.stream.Stream;
+
+/**
+ * 대용량 목록 CSV 내보내기 클래스
+ * 프로젝션 (Projections.bean / fields / constructor / Tuple) 의 인자 식으로 컬럼명과 타입을 정하고,
+ * 응답 객체를 만들지 않고 컬럼 값만 커서로 읽어 다이렉트 (off-heap) 버퍼에 UTF-8 로 인코딩한 뒤 채널에 쓴다.
+ * 정수 / 문자열 값은 중간 문자열이나 바이트 배열을 만들지 않고 버퍼에 바로 쓴다.
+ */
+public final class CsvExporter {
+
+    /**
+     * 기본 버퍼 크기 (바이트)
+     */
+    public static final int DEFAULT_BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * 줄 구분자 (RFC 4180)
+     */
+    private static final byte[] LINE_SEPARATOR = { '\r', '\n' };
+
+    /**
+     * 컬럼 목록
+     */
+    private final List<Column> columns;
+
+    /**
+     * 출력 버퍼 (다이렉트)
+     */
+    private final ByteBuffer buffer;
+
+    /**
+     * 출력 채널
+     */
+    private final WritableByteChannel channel;
+
+    /**
+     * 정수 변환용 자리수 버퍼
+     */
+    private final byte[] digits = new byte[20];
+
+    /**
+     * 생성자
+     * @param columns 컬럼 목록
+     * @param channel 출력 채널
+     * @param bufferSize 버퍼 크기 (바이트)
+     */
+    private CsvExporter(List<Column> columns, WritableByteChannel channel, int bufferSize) {
+        this.columns = columns;
+        this.channel = channel;
+        this.buffer = ByteBuffer.allocateDirect(Math.max(bufferSize, 1024));
+    }
+
+    /**
+     * 쿼리의 전체 레코드를 CSV 로 채널에 쓴다. (첫 줄은 컬럼명, 채널은 닫지 않는다.)
+     * @param query 정렬 / 조건이 적용된 쿼리 (복제하여 조회하므로 변경되지 않는다.)
+     * @param channel 출력 채널
+     * @param fetchSize 한번에 가져올 레코드 수
+     * @return 내보낸 레코드 수
+     * @throws IOException 쓰기에 실패한 경우
+     * @throws IllegalArgumentException 쿼리에 프로젝션 (select 절) 이 없는 경우
+     */
+    public static long export(JPAQuery<?> query, WritableByteChannel channel, int fetchSize) throws IOException {
+        // 프로젝션 / 힌트 변경이 호출한 쪽의 쿼리에 남지 않도록 복제한다.
+        JPAQuery<?> source = query.clone();
+        Expression<?> projection = source.getMetadata().getProjection();
+
+        // 프로젝션이 없는 경우 컬럼을 정할 수 없다.
+        if(projection == null)
+            throw new IllegalArgumentException("CSV export requires a projection (select clause)");
+
+        List<Column> columns = createColumns(projection);
+        CsvExporter exporter = new CsvExporter(columns, channel, DEFAULT_BUFFER_SIZE);
+        exporter.writeHeader();
+
+        // 응답 객체 프로젝션인 경우 응답 객체 대신 컬럼 값 (Tuple) 만 조회한다.
+        long count = 0;
+        if(projection instanceof FactoryExpression) {
+            // 튜플은 중복된 식을 한번만 조회하므로 중복을 제거하여 조회하고, 값은 식으로 가져온다.
+            Set<Expression<?>> selects = new LinkedHashSet<>();
+            for (Column column : columns)
+                selects.add(column.expression);
+
+            try (Stream<Tuple> rows = source.select(selects.toArray(new Expression<?>[0]))
+                    .setHint(QueryHints.FETCH_SIZE, fetchSize)
+                    .setHint(QueryHints.READ_ONLY, true)
+                    .stream()) {
+                for (Iterator<Tuple> iterator = rows.iterator(); iterator.hasNext(); count++)
+                    exporter.writeRow(iterator.next());
+            }
+        }
+        else {
+            try (Stream<?> rows = source.setHint(QueryHints.FETCH_SIZE, fetchSize)
+                    .setHint(QueryHints.READ_ONLY, true)
+                    .stream()) {
+                for (Iterator<?> iterator = rows.iterator(); iterator.hasNext(); count++)
+                    exporter.writeValue(columns.get(0), iterator.next(), true);
+            }
+        }
+
+        exporter.flush();
+        return count;
+    }
+
+    /**
+     * 프로젝션 식으로 컬럼 목록을 만든다.
+     * @param projection 프로젝션 식
+     * @return 컬럼 목록
+     */
+    static List<Column> createColumns(Expression<?> projection) {
+        List<Column> result = new ArrayList<>();
+
+        // Projections.bean / fields / constructor / Tuple 인 경우 인자 식을 컬럼으로 사용한다.
+        if(projection instanceof FactoryExpression) {
+            List<Expression<?>> args = ((FactoryExpression<?>) projection).getArgs();
+            for (int index = 0; index < args.size(); index++)
+                result.add(createColumn(args.get(index), index));
+        }
+        else if(projection != null) {
+            result.add(createColumn(projection, 0));
+        }
+        return result;
+    }
+
+    /**
+     * 식으로 컬럼을 만든다. (별칭, 경로명, 순번 순으로 컬럼명을 정한다.)
+     * @param expression 식
+     * @param index 순번
+     * @return 컬럼
+     */
+    private static Column createColumn(Expression<?> expression, int index) {
+        String name = null;
+        Expression<?> target = expression;
+
+        // 별칭 식인 경우
+        if(expression instanceof Operation && ((Operation<?>) expression).getOperator() == Ops.ALIAS) {
+            Operation<?> operation = (Operation<?>) expression;
+            target = operation.getArg(0);
+            if(operation.getArg(1) instanceof Path)
+                name = ((Path<?>) operation.getArg(1)).getMetadata().getName();
+        }
+        if(name == null && target instanceof Path)
+            name = ((Path<?>) target).getMetadata().getName();
+        if(name == null)
+            name = "column" + (index + 1);
+
+        return new Column(name, target, ColumnKind.of(target.getType()));
+    }
+
+    /**
+     * 컬럼명 줄을 쓴다.
+     * @throws IOException 쓰기에 실패한 경우
+     */
+    private void writeHeader() throws IOException {
+        for (int index = 0; index < columns.size(); index++) {
+            if(index > 0)
+                this.put((byte) ',');
+            this.writeText(columns.get(index).name);
+        }
+        this.put(LINE_SEPARATOR);
+    }
+
+    /**
+     * 레코드 줄을 쓴다.
+     * @param row 컬럼 값 목록
+     * @throws IOException 쓰기에 실패한 경우
+     */
+    private void writeRow(Tuple row) throws IOException {
+        int last = columns.size() - 1;
+        for (int index = 0; index <= last; index++) {
+            Column column = columns.get(index);
+            this.writeValue(column, row.get(column.expression), index == last);
+        }
+    }
+
+    /**
+     * 컬럼 값을 쓴다.
+     * @param column 컬럼
+     * @param value 값
+     * @param isLast 줄의 마지막 값인지 여부
+     * @throws IOException 쓰기에 실패한 경우
+     */
+    private void writeValue(Column column, Object value, boolean isLast) throws IOException {
+        if(value != null) {
+            switch (column.kind) {
+                case Integer:
+                    this.writeLong(((Number) value).longValue());
+                    break;
+                case Decimal:
+                    this.writeAscii(value instanceof BigDecimal ? ((BigDecimal) value).toPlainString() : value.toString());
+                    break;
+                case Boolean:
+                    this.writeAscii(((Boolean) value) ? "true" : "false");
+                    break;
+                case Date:
+                    // java.sql.Date / Time 은 toInstant 를 지원하지 않으므로 밀리초로 변환한다. (Timestamp 는 나노초를 유지한다.)
+                    this.writeAscii((value instanceof java.sql.Timestamp ? ((java.sql.Timestamp) value).toInstant() : Instant.ofEpochMilli(((Date) value).getTime())).toString());
+                    break;
+                case Enum:
+                    this.writeText(((Enum<?>) value).name());
+                    break;
+                default:
+                    this.writeText(value.toString());
+                    break;
+            }
+        }
+        if(isLast)
+            this.put(LINE_SEPARATOR);
+        else
+            this.put((byte) ',');
+    }
+
+    /**
+     * 정수를 문자열을 만들지 않고 쓴다.
+     * @param value 값
+     * @throws IOException 쓰기에 실패한 경우
+     */
+    private void writeLong(long value) throws IOException {
+        if(value == Long.MIN_VALUE) {
+            this.writeAscii(Long.toString(value));
+            return;
+        }
+        if(value < 0) {
+            this.put((byte) '-');
+            value = -value;
+        }
+
+        int position = digits.length;
+        do {
+            digits[--position] = (byte) ('0' + (value % 10));
+            value /= 10;
+        } while (value > 0);
+
+        this.ensure(digits.length - position);
+        buffer.put(digits, position, digits.length - position);
+    }
+
+    /**
+     * 따옴표 처리가 필요 없는 ASCII 문자열을 쓴다. (숫자 / 날짜 / 논리값)
+     * @param value 값
+     * @throws IOException 쓰기에 실패한 경우
+     */
+    private void writeAscii(String value) throws IOException {
+        this.ensure(value.length());
+        for (int index = 0; index < value.length(); index++)
+            buffer.put((byte) value.charAt(index));
+    }
+
+    /**
+     * 문자열을 CSV 규칙 (RFC 4180) 에 따라 UTF-8 로 쓴다.
+     * 구분자 / 따옴표 / 줄바꿈이 포함된 경우 따옴표로 감싸고 따옴표는 두번 쓴다.
+     * @param value 값
+     * @throws IOException 쓰기에 실패한 경우
+     */
+    private void writeText(String value) throws IOException {
+        boolean quote = false;
+        for (int index = 0; index < value.length() && !quote; index++) {
+            char ch = value.charAt(index);
+            quote = ch == ',' || ch == '"' || ch == '\r' || ch == '\n';
+        }
+
+        if(quote)
+            this.put((byte) '"');
+
+        for (int index = 0; index < value.length(); index++) {
+            char ch = value.charAt(index);
+            // 문자 하나는 최대 4바이트 (서로게이트 쌍) 이다.
+            this.ensure(4);
+
+            if(ch == '"') {
+                buffer.put((byte) '"').put((byte) '"');
+            }
+            else if(ch < 0x80) {
+                buffer.put((byte) ch);
+            }
+            else if(ch < 0x800) {
+                buffer.put((byte) (0xC0 | (ch >> 6)));
+                buffer.put((byte) (0x80 | (ch & 0x3F)));
+            }
+            else if(Character.isHighSurrogate(ch) && index + 1 < value.length() && Character.isLowSurrogate(value.charAt(index + 1))) {
+                int codePoint = Character.toCodePoint(ch, value.charAt(++index));
+                buffer.put((byte) (0xF0 | (codePoint >> 18)));
+                buffer.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                buffer.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (codePoint & 0x3F)));
+            }
+            else {
+                // 짝이 없는 서로게이트는 '?' 로 쓴다.
+                if(Character.isSurrogate(ch)) {
+                    buffer.put((byte) '?');
+                    continue;
+                }
+                buffer.put((byte) (0xE0 | (ch >> 12)));
+                buffer.put((byte) (0x80 | ((ch >> 6) & 0x3F)));
+                buffer.put((byte) (0x80 | (ch & 0x3F)));
+            }
+        }
+
+        if(quote)
+            this.put((byte) '"');
+    }
+
+    /**
+     * 바이트를 쓴다.
+     * @param value 값
+     * @throws IOException 쓰기에 실패한 경우
+     */
+    private void put(byte value) throws IOException {
+        this.ensure(1);
+        buffer.put(value);
+    }
+
+    /**
+     * 바이트 배열을 쓴다.
+     * @param values 값
+     * @throws IOException 쓰기에 실패한 경우
+     */
+    private void put(byte[] values) throws IOException {
+        this.ensure(values.length);
+        buffer.put(values);
+    }
+
+    /**
+     * 버퍼에 남은 공간이 부족한 경우 채널에 쓴다.
+     * @param size 필요한 크기 (바이트)
+     * @throws IOException 쓰기에 실패한 경우
+     */
+    private void ensure(int size) throws IOException {
+        if(buffer.remaining() < size)
+            this.flush();
+        // 버퍼 크기보다 긴 숫자 / 날짜 문자열은 쓸 수 없다.
+        if(buffer.remaining() < size)
+            throw new IOException("버퍼 크기보다 큰 값 : " + size);
+    }
+
+    /**
+     * 버퍼의 내용을 모두 채널에 쓴다.
+     * @throws IOException 쓰기에 실패한 경우
+     */
+    private void flush() throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining())
+            channel.write(buffer);
+        buffer.clear();
+    }
+
+    /**
+     * 컬럼 값 형식
+     */
+    enum ColumnKind {
+        /**
+         * 정수 (Byte / Short / Integer / Long)
+         */
+        Integer,
+        /**
+         * 실수 (BigDecimal / Double / Float)
+         */
+        Decimal,
+        /**
+         * 논리값
+         */
+        Boolean,
+        /**
+         * java.util.Date (ISO-8601 UTC)
+         */
+        Date,
+        /**
+         * 열거형 (이름)
+         */
+        Enum,
+        /**
+         * 문자열 및 기타 (toString, java.time 타입은 ISO-8601)
+         */
+        Text;
+
+        /**
+         * 타입에 해당하는 컬럼 값 형식을 반환한다.
+         * @param type 타입
+         * @return 컬럼 값 형식
+         */
+        static ColumnKind of(Class<?> type) {
+            if(type == null)
+                return Text;
+            if(type == Long.class || type == java.lang.Integer.class || type == Short.class || type == Byte.class
+                    || type == long.class || type == int.class || type == short.class || type == byte.class)
+                return Integer;
+            if(type == BigDecimal.class || type == Double.class || type == Float.class || type == double.class || type == float.class)
+                return Decimal;
+            if(type == java.lang.Boolean.class || type == boolean.class)
+                return Boolean;
+            if(java.util.Date.class.isAssignableFrom(type) && !java.sql.Date.class.equals(type))
+                return Date;
+            if(type.isEnum())
+                return Enum;
+            return Text;
+        }
+    }
+
+    /**
+     * 내보낼 컬럼
+     */
+    static final class Column {
+        /**
+         * 컬럼명
+         */
+        final String name;
+
+        /**
+         * 조회 식
+         */
+        final Expression<?> expression;
+
+        /**
+         * 값 형식
+         */
+        final ColumnKind kind;
+
+        /**
+         * 생성자
+         * @param name 컬럼명
+         * @param expression 조회 식
+         * @param kind 값 형식
+         */
+        Column(String name, Expression<?> expression, ColumnKind kind) {
+            this.name = name;
+            this.expression = expression;
+            this.kind = kind;
+        }
+    }
+}
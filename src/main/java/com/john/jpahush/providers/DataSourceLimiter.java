@@ -0,0 +1,125 @@
+package com.john.jpahush.providers;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 데이터소스 별 동시 조회 수 제한 (세마포어)
+ * 가상 스레드로 많은 요청을 동시에 처리하는 경우에도 커넥션 풀 크기 이상의 조회가 동시에 수행되지 않도록 한다.
+ * 대기는 세마포어로 처리되므로 가상 스레드는 캐리어 스레드를 점유하지 않고 대기한다.
+ */
+public class DataSourceLimiter {
+
+    /**
+     * 기본 최대 동시 조회 수 (HikariCP 기본 커넥션 풀 크기)
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 10;
+
+    /**
+     * 기본 대기 시간 (밀리초)
+     */
+    public static final long DEFAULT_TIMEOUT_MILLIS = 30_000L;
+
+    /**
+     * 데이터소스 별 제한 목록
+     */
+    private static final Map<Object, DataSourceLimiter> LIMITERS = new ConcurrentHashMap<>();
+
+    /**
+     * 세마포어 (요청 순서대로 허용한다.)
+     */
+    private final Semaphore semaphore;
+
+    /**
+     * 최대 동시 조회 수
+     */
+    private final int maxConcurrency;
+
+    /**
+     * 대기 시간 (밀리초)
+     */
+    private final long timeoutMillis;
+
+    /**
+     * 생성자
+     * @param maxConcurrency 최대 동시 조회 수
+     */
+    public DataSourceLimiter(int maxConcurrency) {
+        this(maxConcurrency, DEFAULT_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * 생성자
+     * @param maxConcurrency 최대 동시 조회 수
+     * @param timeoutMillis 대기 시간 (밀리초)
+     */
+    public DataSourceLimiter(int maxConcurrency, long timeoutMillis) {
+        this.maxConcurrency = Math.max(maxConcurrency, 1);
+        this.timeoutMillis = Math.max(timeoutMillis, 0L);
+        this.semaphore = new Semaphore(this.maxConcurrency, true);
+    }
+
+    /**
+     * 데이터소스에 해당하는 제한을 가져온다. 없는 경우 기본 최대 동시 조회 수로 만든다.
+     * @param dataSource 데이터소스 (또는 엔티티 매니저 팩토리)
+     * @return 데이터소스 별 제한
+     */
+    public static DataSourceLimiter of(Object dataSource) {
+        return LIMITERS.computeIfAbsent(dataSource, key -> new DataSourceLimiter(DEFAULT_MAX_CONCURRENCY));
+    }
+
+    /**
+     * 데이터소스에 해당하는 제한을 지정한다.
+     * @param dataSource 데이터소스 (또는 엔티티 매니저 팩토리)
+     * @param limiter 데이터소스 별 제한
+     */
+    public static void register(Object dataSource, DataSourceLimiter limiter) {
+        LIMITERS.put(dataSource, limiter);
+    }
+
+    /**
+     * 허용을 얻는다. (최대 동시 조회 수를 넘는 경우 최대 동시 조회 수만큼 얻는다.)
+     * @param permits 필요한 허용 수
+     * @return 얻은 허용 수 (대기 시간이 지난 경우 0)
+     * @throws InterruptedException 대기 중 인터럽트 된 경우
+     */
+    public int acquire(int permits) throws InterruptedException {
+        int count = Math.min(Math.max(permits, 1), maxConcurrency);
+        return semaphore.tryAcquire(count, timeoutMillis, TimeUnit.MILLISECONDS) ? count : 0;
+    }
+
+    /**
+     * 얻은 허용을 반환한다.
+     * @param permits 얻은 허용 수
+     */
+    public void release(int permits) {
+        if(permits > 0)
+            semaphore.release(permits);
+    }
+
+    /**
+     * 최대 동시 조회 수를 반환한다.
+     * @return 최대 동시 조회 수
+     */
+    public int getMaxConcurrency() {
+        return maxConcurrency;
+    }
+
+    /**
+     * 사용 가능한 허용 수를 반환한다.
+     * @return 사용 가능한 허용 수
+     */
+    public int getAvailablePermits() {
+        return semaphore.availablePermits();
+    }
+
+    /**
+     * 허용을 기다리는 스레드 수 (추정치) 를 반환한다.
+     * @return 대기 스레드 수
+     */
+    public int getQueueLength() {
+        return semaphore.getQueueLength();
+    }
+}
@@ -0,0 +1,98 @@
+package com.john.jpahush.providers;
+
+import com.querydsl.core.types.ConstantImpl;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.ExpressionUtils;
+import com.querydsl.core.types.Ops;
+import com.querydsl.core.types.Predicate;
+
+import java.util.*;
+
+/**
+ * IN 조건 분할 클래스
+ * 값 목록이 큰 경우 일정 크기의 IN 조건으로 나누어 OR 로 묶고, 각 IN 목록의 크기를 2의 거듭제곱으로 맞춘다. (마지막 값을 반복)
+ * IN 목록의 크기 종류가 줄어들어 준비된 구문 (prepared statement) 캐시가 재사용되고, 데이터베이스 파라미터 수 제한을 넘지 않는다.
+ */
+@SuppressWarnings("unused")
+public final class InListChunker {
+
+    /**
+     * 기본 IN 목록 최대 크기 (Oracle 의 1000개 제한보다 작은 2의 거듭제곱)
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 512;
+
+    /**
+     * IN 목록 최대 크기
+     */
+    private static volatile int chunkSize = DEFAULT_CHUNK_SIZE;
+
+    /**
+     * 생성자
+     */
+    private InListChunker() {
+    }
+
+    /**
+     * IN 목록 최대 크기를 변경한다. (2의 거듭제곱으로 내림한다.)
+     * @param size IN 목록 최대 크기
+     */
+    public static void setChunkSize(int size) {
+        chunkSize = Integer.highestOneBit(Math.max(size, 1));
+    }
+
+    /**
+     * IN 목록 최대 크기를 반환한다.
+     * @return IN 목록 최대 크기
+     */
+    public static int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * 값 목록에 포함되는지 확인하는 조건을 만든다.
+     * 중복 값은 제외하며, 값이 하나인 경우 일치 조건을, 최대 크기를 넘는 경우 나눈 IN 조건을 OR 로 묶어 만든다.
+     * @param expression 식
+     * @param values 값 목록
+     * @return 조건 (값이 없는 경우 null)
+     */
+    public static Predicate in(Expression<?> expression, Collection<?> values) {
+        List<Object> distinct = new ArrayList<>(new LinkedHashSet<>(values));
+
+        // 값이 없는 경우
+        if(distinct.isEmpty())
+            return null;
+
+        // 값이 하나인 경우
+        if(distinct.size() == 1)
+            return ExpressionUtils.predicate(Ops.EQ, expression, ConstantImpl.create(distinct.get(0)));
+
+        int size = chunkSize;
+        List<Predicate> groups = new ArrayList<>(distinct.size() / size + 1);
+        for (int from = 0; from < distinct.size(); from += size) {
+            List<Object> chunk = distinct.subList(from, Math.min(from + size, distinct.size()));
+            if(chunk.size() == 1)
+                groups.add(ExpressionUtils.predicate(Ops.EQ, expression, ConstantImpl.create(chunk.get(0))));
+            else
+                groups.add(ExpressionUtils.predicate(Ops.IN, expression, ConstantImpl.create(pad(chunk))));
+        }
+
+        return groups.size() == 1 ? groups.get(0) : ExpressionUtils.anyOf(groups);
+    }
+
+    /**
+     * 값 목록의 크기를 2의 거듭제곱으로 맞춘다. (마지막 값을 반복한다.)
+     * @param values 값 목록
+     * @return 크기를 맞춘 값 목록
+     */
+    static List<Object> pad(List<Object> values) {
+        int size = values.size();
+        int padded = Integer.highestOneBit(size) == size ? size : Integer.highestOneBit(size) << 1;
+
+        List<Object> result = new ArrayList<>(padded);
+        result.addAll(values);
+        Object last = values.get(size - 1);
+        while (result.size() < padded)
+            result.add(last);
+        return result;
+    }
+}
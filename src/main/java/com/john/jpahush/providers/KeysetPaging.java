@@ -0,0 +1,294 @@
+package com.john.jpahush.providers;
+
+import com.john.jpahush.utils.EnumLookup;
+import com.john.jpahush.utils.MoreExceptionHandler;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.*;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.jpa.impl.JPAQuery;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.*;
+import java.util.*;
+
+/**
+ * 키셋 (seek) 페이징 처리 클래스
+ * 쿼리에 적용된 정렬 식을 기준으로 "(정렬 컬럼) > (마지막 값)" 조건을 만들어 offset 없이 다음 페이지를 조회한다.
+ * 정렬 컬럼은 null 이 아니어야 하며, 정렬 컬럼 전체가 유일한 값이 되어야 (예: 마지막에 id 정렬) 누락/중복 없이 조회된다.
+ */
+@SuppressWarnings({"unused", "rawtypes", "unchecked"})
+public final class KeysetPaging {
+
+    /**
+     * 커서 값 구분자
+     */
+    private static final char SEPARATOR = ':';
+
+    /**
+     * 생성자
+     */
+    private KeysetPaging() {
+    }
+
+    /**
+     * 커서 이후의 레코드를 countPerPage 만큼 조회한다.
+     * 정렬 식은 쿼리에 이미 적용되어 있어야 한다. (getOrderByQueries 이후 호출)
+     * @param query JPA 쿼리 (정렬 및 조건이 적용된 쿼리, 프로젝션이 변경된다.)
+     * @param cursor 이전 페이지의 다음 커서 (없는 경우 첫 페이지)
+     * @param countPerPage 페이지 당 레코드 수
+     * @param <T> 원본 타입
+     * @return 조회 결과
+     * @throws IllegalArgumentException distinct 쿼리이거나 커서가 잘못된 경우
+     * @throws IllegalStateException 정렬 값에 null 이 포함되어 다음 커서를 만들 수 없는 경우
+     */
+    public static <T> Page<T> fetch(JPAQuery<T> query, String cursor, int countPerPage) {
+        List<OrderSpecifier<?>> orders = new ArrayList<>(query.getMetadata().getOrderBy());
+        Expression<T> projection = (Expression<T>) query.getMetadata().getProjection();
+
+        // distinct 쿼리는 정렬 식을 함께 조회하면 결과가 달라지므로 키셋 페이징을 할 수 없다.
+        if(query.getMetadata().isDistinct())
+            throw new IllegalArgumentException("keyset paging does not support distinct queries");
+
+        // 정렬 정보가 없는 경우 키셋 페이징을 할 수 없으므로 첫 페이지만 조회한다.
+        if(orders.isEmpty() || projection == null)
+            return new Page<>(query.limit(countPerPage).fetch(), null);
+
+        // 커서가 존재하는 경우 커서 이후의 레코드만 조회한다.
+        if(StringUtils.hasText(cursor)) {
+            Object[] values = decode(cursor, orders);
+            // 정렬 정보가 다르거나 잘못된 커서인 경우 첫 페이지를 반환하지 않고 오류로 처리한다.
+            if(values == null)
+                throw new IllegalArgumentException("invalid keyset cursor : " + cursor);
+            query.where(createSeekPredicate(orders, values));
+        }
+
+        // 프로젝션과 정렬 식을 함께 조회한다. (다음 페이지 존재 여부 확인을 위해 1건 더 조회한다.)
+        // 튜플은 중복된 식을 한번만 조회하므로 값은 위치가 아닌 식으로 가져온다.
+        Set<Expression<?>> selects = new LinkedHashSet<>();
+        selects.add(projection);
+        for (OrderSpecifier<?> order : orders)
+            selects.add(order.getTarget());
+        List<Tuple> tuples = query.limit(countPerPage + 1L).select(selects.toArray(new Expression<?>[0])).fetch();
+
+        // 결과 목록
+        int size = Math.min(tuples.size(), countPerPage);
+        List<T> items = new ArrayList<>(size);
+        for (int index = 0; index < size; index++)
+            items.add(tuples.get(index).get(projection));
+
+        // 다음 페이지가 존재하는 경우 마지막 레코드의 정렬 값으로 커서를 만든다.
+        String nextCursor = null;
+        if(tuples.size() > countPerPage) {
+            Tuple last = tuples.get(size - 1);
+            Object[] values = new Object[orders.size()];
+            for (int index = 0; index < orders.size(); index++) {
+                values[index] = last.get(orders.get(index).getTarget());
+                // null 값은 비교할 수 없으므로 다음 페이지가 없는 것으로 처리하지 않고 오류로 처리한다.
+                if(values[index] == null)
+                    throw new IllegalStateException("keyset paging requires non-null sort values : " + orders.get(index).getTarget());
+            }
+            nextCursor = encode(orders, values);
+        }
+
+        return new Page<>(items, nextCursor);
+    }
+
+    /**
+     * 정렬 식과 마지막 값으로 seek 조건을 만든다.
+     * (a > va) or (a = va and b > vb) or (a = va and b = vb and c > vc) ... (내림차순인 경우 <)
+     * @param orders 정렬 식 목록
+     * @param values 마지막 값 목록
+     * @return seek 조건
+     */
+    static Predicate createSeekPredicate(List<OrderSpecifier<?>> orders, Object[] values) {
+        Predicate result = null;
+        Predicate equals = null;
+
+        for (int index = 0; index < orders.size(); index++) {
+            OrderSpecifier<?> order = orders.get(index);
+            Constant<?> value = ConstantImpl.create(values[index]);
+
+            // 현재 컬럼의 비교 조건 (앞 컬럼들은 일치)
+            Predicate compare = Expressions.booleanOperation(order.isAscending() ? Ops.GT : Ops.LT, order.getTarget(), value);
+            if(equals != null)
+                compare = ExpressionUtils.and(equals, compare);
+            result = result == null ? compare : ExpressionUtils.or(result, compare);
+
+            // 다음 컬럼을 위해 현재 컬럼의 일치 조건을 추가한다.
+            Predicate equal = Expressions.booleanOperation(Ops.EQ, order.getTarget(), value);
+            equals = equals == null ? equal : ExpressionUtils.and(equals, equal);
+        }
+
+        return result;
+    }
+
+    /**
+     * 정렬 값 목록을 커서 문자열로 변환한다.
+     * @param orders 정렬 식 목록
+     * @param values 정렬 값 목록
+     * @return 커서 (null 값이 포함된 경우 null)
+     */
+    static String encode(List<OrderSpecifier<?>> orders, Object[] values) {
+        StringBuilder builder = new StringBuilder();
+        builder.append(Integer.toHexString(signature(orders))).append(SEPARATOR);
+
+        for (Object value : values) {
+            // null 값은 비교할 수 없다.
+            if(value == null)
+                return null;
+
+            String text = toText(value);
+            builder.append(text.length()).append(SEPARATOR).append(text);
+        }
+
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(builder.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 정렬 식의 타입에 맞는 값 목록으로 변환한다.
+     * @param cursor 커서
+     * @param orders 정렬 식 목록
+     * @return 정렬 값 목록 (정렬 정보가 다르거나 잘못된 커서인 경우 null)
+     */
+    static Object[] decode(String cursor, List<OrderSpecifier<?>> orders) {
+        try {
+            String text = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+
+            // 정렬 정보가 다른 커서인 경우
+            int position = text.indexOf(SEPARATOR);
+            if(position < 0 || !text.substring(0, position).equals(Integer.toHexString(signature(orders))))
+                return null;
+            position++;
+
+            Object[] result = new Object[orders.size()];
+            for (int index = 0; index < orders.size(); index++) {
+                int separator = text.indexOf(SEPARATOR, position);
+                int length = Integer.parseInt(text.substring(position, separator));
+                String value = text.substring(separator + 1, separator + 1 + length);
+                position = separator + 1 + length;
+
+                result[index] = fromText(orders.get(index).getTarget().getType(), value);
+                if(result[index] == null)
+                    return null;
+            }
+            return result;
+        } catch (Exception ex) {
+            MoreExceptionHandler.Log(ex);
+        }
+        return null;
+    }
+
+    /**
+     * 정렬 정보의 서명 값을 반환한다. (다른 정렬 정보로 만들어진 커서를 구분하기 위해 사용한다.)
+     * @param orders 정렬 식 목록
+     * @return 서명 값
+     */
+    private static int signature(List<OrderSpecifier<?>> orders) {
+        int result = 1;
+        for (OrderSpecifier<?> order : orders)
+            result = 31 * result + (order.getTarget().toString() + order.getOrder()).hashCode();
+        return result;
+    }
+
+    /**
+     * 값을 커서용 문자열로 변환한다.
+     * @param value 값
+     * @return 문자열
+     */
+    private static String toText(Object value) {
+        // Timestamp 는 나노초까지 유지하도록 ISO-8601 문자열로 변환한다.
+        if(value instanceof java.sql.Timestamp)
+            return ((java.sql.Timestamp) value).toInstant().toString();
+        if(value instanceof Date)
+            return String.valueOf(((Date) value).getTime());
+        if(value instanceof Enum)
+            return ((Enum) value).name();
+        return value.toString();
+    }
+
+    /**
+     * 커서용 문자열을 타입에 맞는 값으로 변환한다.
+     * @param type 값 타입
+     * @param value 문자열
+     * @return 값 (지원하지 않는 타입인 경우 null)
+     */
+    private static Object fromText(Class<?> type, String value) {
+        if(String.class.equals(type))
+            return value;
+        if(Long.class.equals(type) || long.class.equals(type))
+            return Long.valueOf(value);
+        if(Integer.class.equals(type) || int.class.equals(type))
+            return Integer.valueOf(value);
+        if(Short.class.equals(type) || short.class.equals(type))
+            return Short.valueOf(value);
+        if(Byte.class.equals(type) || byte.class.equals(type))
+            return Byte.valueOf(value);
+        if(Double.class.equals(type) || double.class.equals(type))
+            return Double.valueOf(value);
+        if(Float.class.equals(type) || float.class.equals(type))
+            return Float.valueOf(value);
+        if(BigDecimal.class.equals(type))
+            return new BigDecimal(value);
+        if(BigInteger.class.equals(type))
+            return new BigInteger(value);
+        if(Boolean.class.equals(type) || boolean.class.equals(type))
+            return Boolean.valueOf(value);
+        if(Date.class.isAssignableFrom(type))
+            return toDate(type, value);
+        if(Instant.class.equals(type))
+            return Instant.parse(value);
+        if(LocalDate.class.equals(type))
+            return LocalDate.parse(value);
+        if(LocalDateTime.class.equals(type))
+            return LocalDateTime.parse(value);
+        if(OffsetDateTime.class.equals(type))
+            return OffsetDateTime.parse(value);
+        if(ZonedDateTime.class.equals(type))
+            return ZonedDateTime.parse(value);
+        if(UUID.class.equals(type))
+            return UUID.fromString(value);
+        if(type.isEnum())
+            return EnumLookup.findValue(type, value);
+        return null;
+    }
+
+    /**
+     * 커서용 문자열을 일시 값으로 변환한다.
+     * Timestamp 로 만들어진 문자열 (ISO-8601) 은 나노초를 유지하도록 Timestamp 로 변환한다. (Date 필드도 Timestamp 값으로 조회되는 경우가 있다.)
+     * @param type 값 타입 (Date 또는 하위 타입)
+     * @param value 문자열
+     * @return 값
+     */
+    private static Date toDate(Class<?> type, String value) {
+        if(value.indexOf('T') >= 0)
+            return java.sql.Timestamp.from(Instant.parse(value));
+
+        long time = Long.parseLong(value);
+        if(java.sql.Timestamp.class.equals(type))
+            return new java.sql.Timestamp(time);
+        return new Date(time);
+    }
+
+    /**
+     * 키셋 페이징 조회 결과
+     * @param <T> 데이터 타입
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class Page<T> {
+        /**
+         * 결과 목록
+         */
+        private final List<T> items;
+
+        /**
+         * 다음 페이지 커서 (다음 페이지가 없는 경우 null)
+         */
+        private final String nextCursor;
+    }
+}
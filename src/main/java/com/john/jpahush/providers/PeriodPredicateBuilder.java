@@ -0,0 +1,159 @@
+package com.john.jpahush.providers;
+
+import com.john.jpahush.data.commondata.queries.PeriodSearchItem;
+import com.querydsl.core.types.*;
+import com.querydsl.core.types.dsl.Expressions;
+
+import java.time.*;
+import java.util.*;
+
+/**
+ * 기간 검색 조건 생성 클래스
+ * 필드별로 겹치거나 이어지는 기간을 합치고, 경로의 타입 (Instant / LocalDate / LocalDateTime / OffsetDateTime / ZonedDateTime / Date) 에 맞는 값으로
+ * "경로 >= 시작 and 경로 < 종료" 반열린 구간 조건을 만든다. 경로를 함수로 감싸거나 다른 타입으로 비교하지 않으므로 인덱스와 파티션 제거를 사용할 수 있다.
+ */
+@SuppressWarnings("unused")
+public final class PeriodPredicateBuilder {
+
+    /**
+     * 생성자
+     */
+    private PeriodPredicateBuilder() {
+    }
+
+    /**
+     * 기간 검색 목록으로 필드별 조건 목록을 만든다.
+     * @param items 기간 검색 목록
+     * @return 조건 목록 (필드별 하나)
+     */
+    public static List<Predicate> build(List<PeriodSearchItem> items) {
+        return build(items, ZoneId.systemDefault());
+    }
+
+    /**
+     * 기간 검색 목록으로 필드별 조건 목록을 만든다.
+     * @param items 기간 검색 목록
+     * @param zone 로컬 날짜/시간 타입으로 변환할 시간대
+     * @return 조건 목록 (필드별 하나)
+     */
+    public static List<Predicate> build(List<PeriodSearchItem> items, ZoneId zone) {
+        // 경로별 기간 목록
+        Map<Expression<?>, List<Instant[]>> ranges = new LinkedHashMap<>();
+        Map<Expression<?>, Boolean> partitionHints = new HashMap<>();
+
+        for (PeriodSearchItem item : items) {
+            // 실제 경로를 찾지 못한 경우 문자열 구문으로 경로를 만든다.
+            Expression<?> path = item.getPath() != null ? item.getPath() : Expressions.datePath(Instant.class, item.getField());
+            Instant start = item.getSearchStartDate() == null ? null : item.getSearchStartDate().toInstant();
+            Instant end = item.getSearchEndDate() == null ? null : item.getSearchEndDate().toInstant();
+
+            // 시작과 종료가 모두 없거나 빈 기간인 경우
+            if((start == null && end == null) || (start != null && end != null && !start.isBefore(end)))
+                continue;
+
+            ranges.computeIfAbsent(path, key -> new ArrayList<>()).add(new Instant[] { start, end });
+            partitionHints.merge(path, item.isPartitionHint(), Boolean::logicalOr);
+        }
+
+        List<Predicate> result = new ArrayList<>(ranges.size());
+        for (Map.Entry<Expression<?>, List<Instant[]>> entry : ranges.entrySet()) {
+            Expression<?> path = entry.getKey();
+            List<Instant[]> merged = merge(entry.getValue());
+
+            List<Predicate> terms = new ArrayList<>(merged.size());
+            for (Instant[] range : merged)
+                terms.add(createRange(path, range[0], range[1], zone));
+
+            // 기간이 하나인 경우
+            if(terms.size() == 1) {
+                result.add(terms.get(0));
+                continue;
+            }
+
+            Predicate any = ExpressionUtils.anyOf(terms);
+
+            // 파티션 제거 힌트를 사용하는 경우 전체 기간 조건을 앞에 추가한다.
+            if(partitionHints.getOrDefault(path, false)) {
+                Instant first = merged.get(0)[0];
+                Instant last = merged.get(merged.size() - 1)[1];
+                any = ExpressionUtils.and(createRange(path, first, last, zone), any);
+            }
+            result.add(any);
+        }
+        return result;
+    }
+
+    /**
+     * 기간 목록을 시작 순으로 정렬하여 겹치거나 이어지는 기간을 합친다. (null 은 제한 없음)
+     * @param ranges 기간 목록 ([시작, 종료))
+     * @return 합쳐진 기간 목록
+     */
+    static List<Instant[]> merge(List<Instant[]> ranges) {
+        List<Instant[]> sorted = new ArrayList<>(ranges);
+        sorted.sort(Comparator.comparing((Instant[] range) -> range[0], Comparator.nullsFirst(Comparator.naturalOrder())));
+
+        List<Instant[]> result = new ArrayList<>(sorted.size());
+        for (Instant[] range : sorted) {
+            Instant[] last = result.isEmpty() ? null : result.get(result.size() - 1);
+
+            // 이전 기간과 겹치거나 이어지는 경우 종료를 늘린다.
+            if(last != null && (last[1] == null || range[0] == null || !range[0].isAfter(last[1]))) {
+                if(last[1] != null && (range[1] == null || range[1].isAfter(last[1])))
+                    last[1] = range[1];
+                continue;
+            }
+            result.add(new Instant[] { range[0], range[1] });
+        }
+        return result;
+    }
+
+    /**
+     * 반열린 구간 조건을 만든다.
+     * @param path 경로
+     * @param start 시작 (null 인 경우 제한 없음)
+     * @param end 종료 (포함하지 않음, null 인 경우 제한 없음)
+     * @param zone 시간대
+     * @return 조건
+     */
+    private static Predicate createRange(Expression<?> path, Instant start, Instant end, ZoneId zone) {
+        Predicate result = null;
+        if(start != null)
+            result = ExpressionUtils.predicate(Ops.GOE, path, ConstantImpl.create(toPathValue(path.getType(), start, zone, false)));
+        if(end != null) {
+            Predicate lt = ExpressionUtils.predicate(Ops.LT, path, ConstantImpl.create(toPathValue(path.getType(), end, zone, true)));
+            result = result == null ? lt : ExpressionUtils.and(result, lt);
+        }
+        return result;
+    }
+
+    /**
+     * 시각을 경로의 타입에 맞는 값으로 변환한다.
+     * @param type 경로 타입
+     * @param instant 시각
+     * @param zone 시간대
+     * @param isEnd 종료 값인지 여부 (LocalDate 인 경우 0시가 아니면 다음날로 올린다.)
+     * @return 변환된 값
+     */
+    static Object toPathValue(Class<?> type, Instant instant, ZoneId zone, boolean isEnd) {
+        if(LocalDateTime.class.equals(type))
+            return LocalDateTime.ofInstant(instant, zone);
+        if(LocalDate.class.equals(type)) {
+            LocalDate date = LocalDate.ofInstant(instant, zone);
+            // 종료 값이 날짜 중간인 경우 해당 날짜를 포함하도록 다음날로 올린다.
+            if(isEnd && !date.atStartOfDay(zone).toInstant().equals(instant))
+                date = date.plusDays(1);
+            return date;
+        }
+        if(OffsetDateTime.class.equals(type))
+            return OffsetDateTime.ofInstant(instant, zone);
+        if(ZonedDateTime.class.equals(type))
+            return ZonedDateTime.ofInstant(instant, zone);
+        if(java.sql.Timestamp.class.equals(type))
+            return java.sql.Timestamp.from(instant);
+        if(java.sql.Date.class.equals(type))
+            return java.sql.Date.valueOf((LocalDate) toPathValue(LocalDate.class, instant, zone, isEnd));
+        if(Date.class.equals(type))
+            return Date.from(instant);
+        return instant;
+    }
+}
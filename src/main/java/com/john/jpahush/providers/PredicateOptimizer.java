@@ -0,0 +1,227 @@
+package com.john.jpahush.providers;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.*;
+import org.springframework.util.StringUtils;
+
+import java.util.*;
+
+/**
+ * 검색 조건 정리 클래스
+ * AND / OR 조건을 평탄화하여 중복 조건, 빈 조건, 항상 참인 조건을 제거하고,
+ * OR 로 묶인 같은 식의 일치 (=) / IN 조건은 하나의 IN 조건으로 합친다. 조건의 순서는 유지된다.
+ */
+@SuppressWarnings("unused")
+public final class PredicateOptimizer {
+
+    /**
+     * 생성자
+     */
+    private PredicateOptimizer() {
+    }
+
+    /**
+     * 조건을 정리한다.
+     * @param predicate 조건
+     * @return 정리된 조건 (항상 참이거나 빈 조건인 경우 null)
+     */
+    public static Predicate optimize(Predicate predicate) {
+        // 빈 조건인 경우
+        if(predicate == null)
+            return null;
+
+        // BooleanBuilder 인 경우 내부 조건을 사용한다.
+        if(predicate instanceof BooleanBuilder)
+            return optimize(((BooleanBuilder) predicate).getValue());
+
+        // 항상 참인 조건인 경우
+        if(isTrue(predicate))
+            return null;
+
+        if(predicate instanceof Operation) {
+            Operation<?> operation = (Operation<?>) predicate;
+            if(operation.getOperator() == Ops.AND)
+                return allOf(toPredicates(operation.getArgs()));
+            if(operation.getOperator() == Ops.OR)
+                return anyOf(toPredicates(operation.getArgs()));
+        }
+        return predicate;
+    }
+
+    /**
+     * 조건 목록을 AND 로 합친다.
+     * @param predicates 조건 목록
+     * @return 합쳐진 조건 (조건이 없는 경우 null)
+     */
+    public static Predicate allOf(Collection<? extends Predicate> predicates) {
+        Set<Predicate> terms = new LinkedHashSet<>();
+        for (Predicate predicate : predicates)
+            collect(optimize(predicate), Ops.AND, terms);
+
+        return terms.isEmpty() ? null : ExpressionUtils.allOf(terms);
+    }
+
+    /**
+     * 조건 목록을 OR 로 합친다.
+     * @param predicates 조건 목록
+     * @return 합쳐진 조건 (조건이 없거나 항상 참인 조건이 포함된 경우 null)
+     */
+    public static Predicate anyOf(Collection<? extends Predicate> predicates) {
+        Set<Predicate> terms = new LinkedHashSet<>();
+        for (Predicate predicate : predicates) {
+            // null 이 아닌 조건이 항상 참으로 정리된 경우 OR 전체가 항상 참이다.
+            Predicate optimized = optimize(predicate);
+            if(optimized == null && predicate != null && !isEmpty(predicate))
+                return null;
+            collect(optimized, Ops.OR, terms);
+        }
+
+        return terms.isEmpty() ? null : ExpressionUtils.anyOf(foldIn(terms));
+    }
+
+    /**
+     * 검색어 목록에서 빈 검색어와 중복 검색어를 제외한다.
+     * @param keywords 검색어 목록
+     * @return 정리된 검색어 목록
+     */
+    public static List<String> distinctKeywords(List<String> keywords) {
+        if(keywords == null)
+            return new ArrayList<>();
+
+        Set<String> result = new LinkedHashSet<>();
+        for (String keyword : keywords) {
+            if(StringUtils.hasText(keyword))
+                result.add(keyword);
+        }
+        return new ArrayList<>(result);
+    }
+
+    /**
+     * 같은 연산자로 묶인 조건을 평탄화하여 목록에 추가한다.
+     * @param predicate 조건
+     * @param operator 연산자 (AND / OR)
+     * @param terms 조건 목록
+     */
+    private static void collect(Predicate predicate, Operator operator, Set<Predicate> terms) {
+        if(predicate == null)
+            return;
+
+        if(predicate instanceof Operation && ((Operation<?>) predicate).getOperator() == operator) {
+            for (Expression<?> arg : ((Operation<?>) predicate).getArgs())
+                collect((Predicate) arg, operator, terms);
+        }
+        else
+            terms.add(predicate);
+    }
+
+    /**
+     * OR 조건 목록에서 같은 식의 일치 (=) / IN 조건을 하나의 IN 조건으로 합친다.
+     * @param terms 조건 목록
+     * @return 정리된 조건 목록
+     */
+    private static List<Predicate> foldIn(Set<Predicate> terms) {
+        // 식 별 값 목록 (처음 나온 위치에 합쳐진 조건을 둔다.)
+        Map<Expression<?>, Set<Object>> values = new LinkedHashMap<>();
+        // 조건 또는 식 (합칠 대상인 경우) 의 순서
+        List<Object> order = new ArrayList<>(terms.size());
+
+        for (Predicate term : terms) {
+            Expression<?> target = getInTarget(term);
+            if(target == null) {
+                order.add(term);
+                continue;
+            }
+
+            Set<Object> targetValues = values.get(target);
+            if(targetValues == null) {
+                targetValues = new LinkedHashSet<>();
+                values.put(target, targetValues);
+                order.add(new Expression<?>[] { target });
+            }
+            targetValues.addAll(getInValues(term));
+        }
+
+        List<Predicate> result = new ArrayList<>(order.size());
+        for (Object item : order) {
+            // 합칠 대상이 아닌 조건인 경우
+            if(item instanceof Predicate) {
+                result.add((Predicate) item);
+                continue;
+            }
+
+            Expression<?> target = ((Expression<?>[]) item)[0];
+            result.add(InListChunker.in(target, values.get(target)));
+        }
+        return result;
+    }
+
+    /**
+     * 식 = 상수, 식 IN (상수 목록) 조건인 경우 식을 반환한다.
+     * @param predicate 조건
+     * @return 식 (해당하지 않는 경우 null)
+     */
+    private static Expression<?> getInTarget(Predicate predicate) {
+        if(!(predicate instanceof Operation))
+            return null;
+
+        Operation<?> operation = (Operation<?>) predicate;
+        if(operation.getArgs().size() != 2 || !(operation.getArg(1) instanceof Constant))
+            return null;
+
+        Object constant = ((Constant<?>) operation.getArg(1)).getConstant();
+        if(operation.getOperator() == Ops.EQ && !(constant instanceof Collection))
+            return operation.getArg(0);
+        if(operation.getOperator() == Ops.IN && constant instanceof Collection)
+            return operation.getArg(0);
+        return null;
+    }
+
+    /**
+     * 식 = 상수, 식 IN (상수 목록) 조건의 값 목록을 반환한다.
+     * @param predicate 조건
+     * @return 값 목록
+     */
+    private static Collection<?> getInValues(Predicate predicate) {
+        Object constant = ((Constant<?>) ((Operation<?>) predicate).getArg(1)).getConstant();
+        return constant instanceof Collection ? (Collection<?>) constant : Collections.singletonList(constant);
+    }
+
+    /**
+     * 항상 참인 조건인지 여부를 반환한다. (true 상수, 같은 식의 일치 조건)
+     * @param predicate 조건
+     * @return 항상 참인 경우 true
+     */
+    private static boolean isTrue(Predicate predicate) {
+        if(predicate instanceof Constant)
+            return Boolean.TRUE.equals(((Constant<?>) predicate).getConstant());
+
+        if(predicate instanceof Operation) {
+            Operation<?> operation = (Operation<?>) predicate;
+            // 같은 경로 / 상수의 일치 조건인 경우 (null 인 경우를 제외하면 항상 참이지만 경로인 경우는 null 일 수 있으므로 상수만 처리한다.)
+            return operation.getOperator() == Ops.EQ && operation.getArgs().size() == 2
+                    && operation.getArg(0) instanceof Constant && operation.getArg(0).equals(operation.getArg(1));
+        }
+        return false;
+    }
+
+    /**
+     * 빈 조건인지 여부를 반환한다.
+     * @param predicate 조건
+     * @return 빈 조건인 경우 true
+     */
+    private static boolean isEmpty(Predicate predicate) {
+        return predicate instanceof BooleanBuilder && !((BooleanBuilder) predicate).hasValue();
+    }
+
+    /**
+     * 식 목록을 조건 목록으로 변환한다.
+     * @param args 식 목록
+     * @return 조건 목록
+     */
+    private static List<Predicate> toPredicates(List<Expression<?>> args) {
+        List<Predicate> result = new ArrayList<>(args.size());
+        for (Expression<?> arg : args)
+            result.add((Predicate) arg);
+        return result;
+    }
+}
@@ -0,0 +1,194 @@
+package com.john.jpahush.providers;
+
+import com.querydsl.core.types.*;
+
+import java.util.*;
+
+/**
+ * 프로젝션 (select 절) 의 컬럼 정보를 필드명 / 별칭으로 찾을 수 있도록 정리한 인덱스
+ * 프로젝션 식 트리를 한번만 순회하며, 같은 모양의 프로젝션은 캐시된 인덱스를 재사용한다.
+ */
+@SuppressWarnings("unused")
+public final class ProjectionIndex {
+
+    /**
+     * 캐시할 최대 프로젝션 수
+     */
+    private static final int MAX_CACHE_SIZE = 1024;
+
+    /**
+     * 프로젝션별 인덱스 캐시 (QueryDSL 식의 equals/hashCode 는 구조 비교이므로 같은 모양이면 같은 키가 된다.)
+     * 요청마다 다른 상수를 가진 프로젝션은 매번 다른 키가 되므로, 최대 수를 넘는 경우 최근에 사용되지 않은 인덱스부터 제거한다.
+     * 목록 조회마다 호출되므로 조회는 잠금 없이 수행된다.
+     */
+    private static final BoundedCache<Expression<?>, ProjectionIndex> CACHE = new BoundedCache<>(MAX_CACHE_SIZE);
+
+    /**
+     * 빈 인덱스
+     */
+    private static final ProjectionIndex EMPTY = new ProjectionIndex(null);
+
+    /**
+     * 필드명 별 경로 (member.name 의 name)
+     */
+    private final Map<String, Path<?>> paths = new HashMap<>();
+
+    /**
+     * 별칭 별 식 (member.name.as("memberName") 의 memberName)
+     */
+    private final Map<String, Expression<?>> aliases = new HashMap<>();
+
+    /**
+     * 전체 경로 문자열 별 경로 ("member.name")
+     */
+    private final Map<String, Path<?>> fullPaths = new HashMap<>();
+
+    /**
+     * 프로젝션 식
+     */
+    private final Expression<?> projection;
+
+    /**
+     * 생성자
+     * @param projection 프로젝션 식
+     */
+    private ProjectionIndex(Expression<?> projection) {
+        this.projection = projection;
+        if(projection != null)
+            this.index(projection);
+    }
+
+    /**
+     * 프로젝션에 대한 인덱스를 가져온다.
+     * @param projection 프로젝션 식
+     * @return 프로젝션 인덱스
+     */
+    public static ProjectionIndex of(Expression<?> projection) {
+        if(projection == null)
+            return EMPTY;
+
+        ProjectionIndex result = CACHE.get(projection);
+        if(result == null) {
+            result = CACHE.putIfAbsent(projection, new ProjectionIndex(projection));
+        }
+        return result;
+    }
+
+    /**
+     * 프로젝션 식을 반환한다.
+     * @return 프로젝션 식 (없는 경우 null)
+     */
+    public Expression<?> getProjection() {
+        return projection;
+    }
+
+    /**
+     * 이름으로 식을 찾는다. (필드명, 별칭, 전체 경로 순으로 찾는다.)
+     * @param name 필드명 / 별칭 / 전체 경로
+     * @return 식 (없는 경우 null)
+     */
+    public Expression<?> find(String name) {
+        if(name == null)
+            return null;
+
+        Expression<?> result = paths.get(name);
+        if(result == null)
+            result = aliases.get(name);
+        if(result == null)
+            result = fullPaths.get(name);
+        return result;
+    }
+
+    /**
+     * 이름으로 경로를 찾는다. 별칭이 경로를 가리키는 경우 해당 경로를 반환한다.
+     * @param name 필드명 / 별칭 / 전체 경로
+     * @return 경로 (없거나 경로가 아닌 식인 경우 null)
+     */
+    public Path<?> findPath(String name) {
+        Expression<?> result = this.find(name);
+        return result instanceof Path ? (Path<?>) result : null;
+    }
+
+    /**
+     * 테이블명과 필드명으로 식을 찾는다.
+     * @param table 테이블명 (없는 경우 필드명으로만 찾는다.)
+     * @param field 필드명
+     * @return 식 (없는 경우 null)
+     */
+    public Expression<?> find(String table, String field) {
+        if(table != null && !table.isEmpty()) {
+            Path<?> result = fullPaths.get(table + "." + field);
+            if(result != null)
+                return result;
+        }
+        return this.find(field);
+    }
+
+    /**
+     * 테이블명과 필드명으로 경로를 찾는다.
+     * @param table 테이블명 (없는 경우 필드명으로만 찾는다.)
+     * @param field 필드명
+     * @return 경로 (없거나 경로가 아닌 식인 경우 null)
+     */
+    public Path<?> findPath(String table, String field) {
+        Expression<?> result = this.find(table, field);
+        return result instanceof Path ? (Path<?>) result : null;
+    }
+
+    /**
+     * 이름에 해당하는 컬럼이 프로젝션에 포함되어 있는지 여부를 반환한다.
+     * @param name 필드명 / 별칭 / 전체 경로
+     * @return 포함되어 있는 경우 true
+     */
+    public boolean contains(String name) {
+        return this.find(name) != null;
+    }
+
+    /**
+     * 이름에 해당하는 "table.field" 형태의 구문을 찾는다.
+     * @param name 필드명 / 별칭 / 전체 경로
+     * @return 구문 (없는 경우 빈 문자열)
+     */
+    public String findStatement(String name) {
+        Path<?> path = this.findPath(name);
+        return path == null ? "" : path.toString();
+    }
+
+    /**
+     * 식 트리를 순회하며 인덱스를 만든다.
+     * @param expression 식
+     */
+    private void index(Expression<?> expression) {
+        // Projections.bean / fields / constructor / Tuple 인 경우
+        if(expression instanceof FactoryExpression) {
+            for (Expression<?> arg : ((FactoryExpression<?>) expression).getArgs())
+                this.index(arg);
+        }
+        // 연산 식인 경우
+        else if(expression instanceof Operation) {
+            Operation<?> operation = (Operation<?>) expression;
+
+            // 별칭 식인 경우
+            if(operation.getOperator() == Ops.ALIAS) {
+                Expression<?> target = operation.getArg(0);
+                Expression<?> alias = operation.getArg(1);
+                if(alias instanceof Path)
+                    aliases.putIfAbsent(((Path<?>) alias).getMetadata().getName(), target);
+                this.index(target);
+            }
+            else {
+                for (Expression<?> arg : operation.getArgs())
+                    this.index(arg);
+            }
+        }
+        // 경로인 경우 (엔티티 루트 경로는 제외)
+        else if(expression instanceof Path) {
+            Path<?> path = (Path<?>) expression;
+            PathMetadata metadata = path.getMetadata();
+            if(metadata.getParent() != null) {
+                paths.putIfAbsent(metadata.getName(), path);
+                fullPaths.putIfAbsent(path.toString(), path);
+            }
+        }
+    }
+}
@@ -1,31 +1,37 @@
 package com.john.jpahush.providers;
 
-import com.john.jpahush.annotations.SearchFilter;
 import com.john.jpahush.annotations.SearchFilterImplement;
+import com.john.jpahush.data.commondata.enums.EnumCountMode;
 import com.john.jpahush.data.commondata.enums.EnumFieldSearchType;
+import com.john.jpahush.data.commondata.enums.EnumQueryPhase;
 import com.john.jpahush.data.commondata.queries.*;
 import com.john.jpahush.data.commondata.responses.QueryResults;
 import com.john.jpahush.interfaces.IDatabaseCallbackProvider;
 import com.john.jpahush.interfaces.IDatabaseProvider;
+import com.john.jpahush.interfaces.IQueryMetricsListener;
 import com.john.jpahush.utils.BooleanUtils;
+import com.john.jpahush.utils.EnumLookup;
 import com.john.jpahush.utils.MoreExceptionHandler;
 import com.john.jpahush.utils.ObjectUtils;
-import com.querydsl.core.BooleanBuilder;
-import com.querydsl.core.DefaultQueryMetadata;
 import com.querydsl.core.JoinExpression;
-import com.querydsl.core.types.Expression;
-import com.querydsl.core.types.Predicate;
+import com.querydsl.core.types.*;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.PathBuilder;
 import com.querydsl.jpa.impl.JPAQuery;
+import org.hibernate.annotations.QueryHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
-import java.lang.reflect.Field;
-import java.lang.reflect.ParameterizedType;
-import java.time.Instant;
+import javax.persistence.EntityManagerFactory;
+import java.math.BigDecimal;
+import java.nio.channels.WritableByteChannel;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * 데이터베이스 프로바이더 구현체
@@ -33,6 +39,21 @@ import java.util.stream.Collectors;
 @Component
 @SuppressWarnings("rawtypes")
 public class QueryDSLProvider implements IDatabaseProvider {
+    /**
+     * 스트림 조회시 기본으로 한번에 가져올 레코드 수
+     */
+    public static final int DEFAULT_FETCH_SIZE = 500;
+
+    /**
+     * Estimated 조회 방식의 최대 조회 수 상한 (데이터베이스가 조회 수 만큼 행을 건너뛰므로 큰 값을 지정해도 이 수를 넘지 않는다.)
+     */
+    public static final long MAX_ESTIMATED_COUNT_LIMIT = 10_000L;
+
+    /**
+     * 동시 조회한 전체 레코드 수를 기다릴 최대 시간 (밀리초, 넘는 경우 호출한 스레드에서 순차 조회한다.)
+     */
+    public static final long COUNT_WAIT_TIMEOUT_MILLIS = 30_000L;
+
     /**
      * 쿼리명
      */
@@ -99,26 +120,134 @@ public class QueryDSLProvider implements IDatabaseProvider {
     List<Predicate> predicates = new ArrayList<>();
 
     /**
-     * 쿼리 안 테이블 정보
+     * true 인경우 프로젝션에 포함된 항목만 Select/OrderBy 처리한다.
      */
-    List<JoinExpression> queryTables = new ArrayList<>();
+    boolean isUseOnlyProjections = false;
 
     /**
-     * true 인경우 프로젝션에 포함된 항목만 Select/OrderBy 처리한다.
+     * 전체 레코드 수 캐시
      */
-    boolean isUseOnlyProjections = false;
+    CountCache countCache = new CountCache();
 
     /**
      * 쿼리가 만들어지고 난뒤 호출될 콜백
      */
     IDatabaseCallbackProvider m_queryDSLProviderCallback;
 
+    /**
+     * 동시 조회시 별도 엔티티 매니저를 만들 팩토리 (없는 경우 순차 조회한다.)
+     */
+    EntityManagerFactory entityManagerFactory;
+
+    /**
+     * 전체 레코드 수 동시 조회에 사용할 실행기 (없는 경우 기본 실행기를 사용한다.)
+     */
+    Executor countExecutor;
+
+    /**
+     * true 인경우 비동기 목록 조회와 전체 레코드 수 동시 조회를 가상 스레드에서 수행한다. (JDK 21 이상)
+     */
+    final boolean isUseVirtualThreads;
+
+    /**
+     * 데이터소스 동시 조회 수 제한 (없는 경우 가상 스레드 사용시에만 기본 제한을 사용한다.)
+     */
+    DataSourceLimiter dataSourceLimiter;
+
+    /**
+     * 목록 조회 처리 단계별 측정 정보를 전달받을 리스너 목록
+     */
+    final List<IQueryMetricsListener> metricsListeners = new CopyOnWriteArrayList<>();
+
     /**
      * 생성자
-     * @param queryDSLProviderCallback 콜백 이벤트
+     * @param queryDSLProviderCallback 콜백 이벤트 (IQueryMetricsListener 를 구현한 경우 측정 리스너로도 등록된다.)
      */
     public QueryDSLProvider(IDatabaseCallbackProvider queryDSLProviderCallback) {
+        this(queryDSLProviderCallback, false);
+    }
+
+    /**
+     * 생성자
+     * @param queryDSLProviderCallback 콜백 이벤트 (IQueryMetricsListener 를 구현한 경우 측정 리스너로도 등록된다.)
+     * @param isUseVirtualThreads true 인경우 비동기 조회를 가상 스레드에서 수행하며, 데이터소스 동시 조회 수 제한을 함께 사용한다. (jpahush.virtual-threads 속성, JDK 21 미만에서는 플랫폼 스레드에서 수행된다.)
+     */
+    @Autowired
+    public QueryDSLProvider(IDatabaseCallbackProvider queryDSLProviderCallback, @Value("${jpahush.virtual-threads:false}") boolean isUseVirtualThreads) {
         this.m_queryDSLProviderCallback = queryDSLProviderCallback;
+        this.isUseVirtualThreads = isUseVirtualThreads;
+        if(queryDSLProviderCallback instanceof IQueryMetricsListener)
+            this.metricsListeners.add((IQueryMetricsListener) queryDSLProviderCallback);
+    }
+
+    /**
+     * 목록 조회 처리 단계별 측정 정보를 전달받을 리스너 목록을 지정한다.
+     * @param metricsListeners 리스너 목록 (빈이 있는 경우 자동 지정된다.)
+     */
+    @Autowired(required = false)
+    public void setMetricsListeners(List<IQueryMetricsListener> metricsListeners) {
+        if(metricsListeners == null)
+            return;
+
+        // 이미 등록된 리스너는 제외한다.
+        for (IQueryMetricsListener listener : metricsListeners)
+            this.addMetricsListener(listener);
+    }
+
+    /**
+     * 목록 조회 처리 단계별 측정 정보를 전달받을 리스너를 추가한다.
+     * @param listener 리스너
+     */
+    @Override
+    public void addMetricsListener(IQueryMetricsListener listener) {
+        if(listener != null && !this.metricsListeners.contains(listener))
+            this.metricsListeners.add(listener);
+    }
+
+    /**
+     * 동시 조회시 사용할 엔티티 매니저 팩토리를 지정한다.
+     * @param entityManagerFactory 엔티티 매니저 팩토리
+     */
+    @Autowired(required = false)
+    public void setEntityManagerFactory(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * 전체 레코드 수 동시 조회에 사용할 실행기를 지정한다.
+     * @param countExecutor 실행기 (jpaHushCountExecutor 이름의 빈이 있는 경우 자동 지정된다.)
+     */
+    @Autowired(required = false)
+    public void setCountExecutor(@Qualifier("jpaHushCountExecutor") Executor countExecutor) {
+        this.countExecutor = countExecutor;
+    }
+
+    /**
+     * 데이터소스 동시 조회 수 제한을 지정한다.
+     * @param dataSourceLimiter 데이터소스 동시 조회 수 제한 (빈이 있는 경우 자동 지정된다.)
+     */
+    @Autowired(required = false)
+    public void setDataSourceLimiter(DataSourceLimiter dataSourceLimiter) {
+        this.dataSourceLimiter = dataSourceLimiter;
+    }
+
+    /**
+     * 전체 레코드 수 캐시를 지정한다.
+     * @param countCache 전체 레코드 수 캐시 (빈이 있는 경우 자동 지정된다.)
+     */
+    @Autowired(required = false)
+    public void setCountCache(CountCache countCache) {
+        if(countCache != null)
+            this.countCache = countCache;
+    }
+
+    /**
+     * 쿼리명에 해당하는 전체 레코드 수 캐시를 삭제한다. (데이터가 변경된 경우 호출한다.)
+     * @param name 쿼리명
+     */
+    @Override
+    public void invalidateCountCache(String name) {
+        this.countCache.invalidate(name);
     }
 
     /**
@@ -166,9 +295,30 @@ public class QueryDSLProvider implements IDatabaseProvider {
 
          this.predicates.clear();
          this.sorts.clear();
-         this.queryTables.clear();
       }
 
+    /**
+     * 현재 설정된 사용자 입력 값으로 쿼리 컨텍스트를 생성한다.
+     * @return 쿼리 컨텍스트
+     */
+    protected QueryContext toQueryContext() {
+        return QueryContext.builder()
+                .name(this.name)
+                .onlyProjections(this.isUseOnlyProjections)
+                .skip(this.skip)
+                .countPerPage(this.countPerPage)
+                .orderFields(this.orderFields)
+                .orderDirections(this.orderDirections)
+                .searchFields(this.searchFields)
+                .searchValues(this.searchValues)
+                .searchPeriodFields(this.searchPeriodFields)
+                .searchStartDates(this.searchStartDates)
+                .searchEndDates(this.searchEndDates)
+                .baseSorts(this.sorts)
+                .predicates(this.predicates)
+                .build();
+    }
+
     /**
      * 주어진 쿼리 원본으로 부터 skip 만큼 건너뛰고 countPerPage 만큼의 레코드를 가져와 QueryResults 객체를 반환한다.
      * @param clazz 기본 테이블 클래스 객체
@@ -179,440 +329,1058 @@ public class QueryDSLProvider implements IDatabaseProvider {
      */
     @Override
     public <T> QueryResults<T> createQueryResults(Class clazz, JPAQuery<T> source, Expression<Long> totalCountExpression) {
+        return this.createQueryResults(this.toQueryContext(), clazz, source, totalCountExpression);
+    }
+
+    /**
+     * 주어진 쿼리 컨텍스트와 쿼리 원본으로 부터 skip 만큼 건너뛰고 countPerPage 만큼의 레코드를 가져와 QueryResults 객체를 반환한다.
+     * 프로바이더의 상태를 사용하지 않으므로 동시에 여러 요청에서 호출할 수 있다.
+     * @param context 쿼리 컨텍스트
+     * @param clazz 기본 테이블 클래스 객체
+     * @param source JPAQuery<T> 객체
+     * @param totalCountExpression 전체 레코드 수 조회 식
+     * @param <T> 원본 타입
+     * @return QueryResults<D> 객체
+     */
+    @Override
+    public <T> QueryResults<T> createQueryResults(QueryContext context, Class clazz, JPAQuery<T> source, Expression<Long> totalCountExpression) {
+        // 데이터소스 동시 조회 수 제한을 사용하지 않는 경우
+        DataSourceLimiter limiter = this.getDataSourceLimiter();
+        if(limiter == null || source == null || context == null)
+            return this.fetchQueryResults(context, clazz, source, totalCountExpression);
+
+        // 전체 레코드 수를 동시에 조회하는 경우 커넥션을 하나 더 사용하므로 허용도 하나 더 얻는다.
+        boolean parallelCount = totalCountExpression != null && context.isParallelCount() && context.getCountMode() == EnumCountMode.Exact && this.entityManagerFactory != null;
+        int permits = 0;
+        try {
+            permits = limiter.acquire(parallelCount ? 2 : 1);
+            // 대기 시간이 지난 경우
+            if(permits == 0)
+                throw new TimeoutException("데이터소스 동시 조회 수 제한 대기 시간 초과 : " + context.getName());
+
+            return this.fetchQueryResults(context, clazz, source, totalCountExpression);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            MoreExceptionHandler.Log(e);
+        } catch (TimeoutException e) {
+            MoreExceptionHandler.Log(e);
+        } finally {
+            limiter.release(permits);
+        }
+        return new QueryResults<>();
+    }
+
+    /**
+     * 주어진 쿼리 컨텍스트와 쿼리 원본으로 부터 skip 만큼 건너뛰고 countPerPage 만큼의 레코드를 가져와 QueryResults 객체를 비동기로 반환한다.
+     * 조회는 별도 엔티티 매니저로 수행되며, 가상 스레드를 사용하는 경우 가상 스레드에서 수행된다.
+     * @param context 쿼리 컨텍스트
+     * @param clazz 기본 테이블 클래스 객체
+     * @param source JPAQuery<T> 객체
+     * @param totalCountExpression 전체 레코드 수 조회 식
+     * @param <T> 원본 타입
+     * @return QueryResults<D> 조회 작업
+     */
+    @Override
+    public <T> CompletableFuture<QueryResults<T>> createQueryResultsAsync(QueryContext context, Class clazz, JPAQuery<T> source, Expression<Long> totalCountExpression) {
+        // 호출 스레드에서 쿼리 정보를 복제해둔다.
+        JPAQuery<T> asyncSource = source == null ? null : source.clone();
+
+        return CompletableFuture.supplyAsync(() -> {
+            // 엔티티 매니저 팩토리가 없는 경우 쿼리의 엔티티 매니저를 그대로 사용한다.
+            if(this.entityManagerFactory == null || asyncSource == null)
+                return this.createQueryResults(context, clazz, asyncSource, totalCountExpression);
+
+            // 엔티티 매니저는 스레드간 공유할 수 없으므로 새로 만들어 사용한다.
+            try (EntityProvider provider = new EntityProvider(this.entityManagerFactory.createEntityManager())) {
+                return this.createQueryResults(context, clazz, asyncSource.clone(provider.entityManager), totalCountExpression);
+            }
+        }, this.getAsyncExecutor());
+    }
+
+    /**
+     * 사용할 데이터소스 동시 조회 수 제한을 반환한다.
+     * @return 데이터소스 동시 조회 수 제한 (사용하지 않는 경우 null)
+     */
+    private DataSourceLimiter getDataSourceLimiter() {
+        if(this.dataSourceLimiter != null)
+            return this.dataSourceLimiter;
+        // 가상 스레드를 사용하는 경우 엔티티 매니저 팩토리 별 기본 제한을 사용한다.
+        if(this.isUseVirtualThreads && this.entityManagerFactory != null)
+            return DataSourceLimiter.of(this.entityManagerFactory);
+        return null;
+    }
+
+    /**
+     * 비동기 목록 조회에 사용할 실행기를 반환한다.
+     * 비동기 목록 조회는 전체 레코드 수 동시 조회를 기다리므로, 전체 레코드 수 조회 실행기와 같은 실행기를 사용하지 않는다. (같은 고정 크기 실행기를 쓰는 경우 교착 상태가 될 수 있다.)
+     * @return 실행기
+     */
+    private Executor getAsyncExecutor() {
+        if(this.isUseVirtualThreads && VirtualThreads.isSupported())
+            return VirtualExecutorHolder.EXECUTOR;
+        return AsyncExecutorHolder.EXECUTOR;
+    }
+
+    /**
+     * 전체 레코드 수 동시 조회에 사용할 실행기를 반환한다.
+     * @return 실행기
+     */
+    private Executor getCountExecutor() {
+        if(this.isUseVirtualThreads && VirtualThreads.isSupported())
+            return VirtualExecutorHolder.EXECUTOR;
+        return this.countExecutor != null ? this.countExecutor : CountExecutorHolder.EXECUTOR;
+    }
+
+    /**
+     * 주어진 쿼리 컨텍스트와 쿼리 원본으로 부터 skip 만큼 건너뛰고 countPerPage 만큼의 레코드를 가져와 QueryResults 객체를 반환한다.
+     * @param context 쿼리 컨텍스트
+     * @param clazz 기본 테이블 클래스 객체
+     * @param source JPAQuery<T> 객체
+     * @param totalCountExpression 전체 레코드 수 조회 식
+     * @param <T> 원본 타입
+     * @return QueryResults<D> 객체
+     */
+    private <T> QueryResults<T> fetchQueryResults(QueryContext context, Class clazz, JPAQuery<T> source, Expression<Long> totalCountExpression) {
         QueryResults<T> result = new QueryResults<>();
         List<T> sourceList;
 
+        // 측정 리스너가 있는 경우만 처리 단계별 시간을 측정한다.
+        QueryMetrics metrics = null;
+        if(context != null && !this.metricsListeners.isEmpty()) {
+            metrics = new QueryMetrics(context.getName(), clazz);
+            this.notifyBeforeCreateQueryResults(context, clazz);
+        }
+        long mark = metrics != null ? System.nanoTime() : 0L;
+
+        // 전체 레코드 수 동시 조회 작업 (목록 조회에 실패한 경우 취소한다.)
+        CompletableFuture<Long> totalCountFuture = null;
+
         try {
-            if (source != null)
+            if (source != null && context != null)
             {
                 // 쿼리 저장
                 JPAQuery<T> query = source.clone();
 
-                // 프로젝션 정보를 가져온다.
-                Object[] projectionArgs = Arrays.stream(Objects.requireNonNull(query.getMetadata().getProjection()).toString().split(",")).toArray();
-
-                // 쿼리 테이블 정보를 가져온다.
-                this.queryTables =  ((DefaultQueryMetadata) query.getMetadata()).getJoins();
+                // 정확한 전체 레코드 수를 조회하는지 여부
+                boolean isExactCount = context.getCountMode() == EnumCountMode.Exact;
 
-                // 프로젝션에 있는것만 셀렉트하는경우
-                if(this.isUseOnlyProjections) {
-                    if(this.orderFields == null)
-                        orderFields = new String[0];
-                    if(this.searchValues == null)
-                        searchValues = new String[0];
-                    if(this.searchPeriodFields == null)
-                        searchPeriodFields = new String[0];
-                    if(this.searchStartDates == null)
-                        searchStartDates = new Date[0];
-                    if(this.searchEndDates == null)
-                        searchEndDates = new Date[0];
-                    if(this.searchFields == null)
-                        this.searchFields = new String[0];
-
-                    // 소트정리
-                    List<String> newOrderFields = new ArrayList<>();
-                    for (String orderField : this.orderFields) {
-                        // 일치하는 컬럼이 있는경우
-                        if(Arrays.stream(projectionArgs).anyMatch(i -> i.toString().contains(orderField)))
-                            newOrderFields.add(orderField);
-                    }
+                // 전체 레코드 수 캐시를 사용하는 경우 캐시된 값을 찾는다. (정확한 전체 레코드 수만 캐시한다.)
+                String countCacheKey = null;
+                Long cachedTotalCount = null;
+                if(totalCountExpression != null && isExactCount && context.isCacheCount()) {
+                    countCacheKey = CountCache.createKey(context, clazz, source, totalCountExpression);
+                    cachedTotalCount = this.countCache.get(countCacheKey);
+                }
 
-                    this.orderFields = null;
-                    this.orderFields = newOrderFields.toArray(new String[0]);
+                // 전체 레코드 수를 동시에 조회하는 경우, 목록 조회 전에 시작한다.
+                if(cachedTotalCount == null && totalCountExpression != null && isExactCount && context.isParallelCount() && this.entityManagerFactory != null)
+                    totalCountFuture = this.fetchTotalCountAsync(source, totalCountExpression);
 
-                    // where 조건 정리
-                    List<String> searches = new ArrayList<>();
-                    for (String searchField : this.searchFields) {
-                        // 일치하는 컬럼이 있는경우
-                        if(Arrays.stream(projectionArgs).anyMatch(i -> i.toString().contains(searchField)))
-                            searches.add(searchField);
-                    }
+                // 프로젝션 인덱스를 가져온다.
+                ProjectionIndex projection = ProjectionIndex.of(query.getMetadata().getProjection());
+                if(metrics != null)
+                    mark = metrics.record(EnumQueryPhase.ProjectionParse, mark);
 
-                    this.searchFields = null;
-                    this.searchFields = searches.toArray(new String[0]);
+                // 프로젝션에 있는것만 셀렉트하는경우
+                if(context.isOnlyProjections()) {
+                    context = this.filterByProjections(context, projection);
+                    if(metrics != null)
+                        mark = metrics.record(EnumQueryPhase.FieldResolution, mark);
                 }
 
                 // 소트정보를 쿼리에 추가한다.
                 // 셀렉트절에 포함되지 않은 구문인경우 찾을수있도록 추가
-                query = this.getOrderByQueries(projectionArgs,query);
+                query = this.applyOrderByQueries(context, query, projection, metrics);
 
                 // 조건 정보를 쿼리에 추가한다.
                 // 셀렉트절에 포함되지 않은 구문인경우 찾을수있도록 추가
-                query = this.getWhereQueries(projectionArgs,query,clazz);
-
-                // 스킵이 존재하는 경우
-                if (skip > 0)
-                    query = query.offset(skip);
-
-                // 전체 페이지가 아닌 경우
-                if (countPerPage < Integer.MAX_VALUE)
-                    query = query.limit(countPerPage);
-
-                // 페이징을 적용한 목록을 가져온다.
-                sourceList = query.fetch();
+                query = this.applyWhereQueries(context, query, clazz, projection, metrics);
+                if(metrics != null)
+                    mark = System.nanoTime();
+
+                // 키셋 페이징을 사용하는 경우
+                String nextCursor = null;
+                boolean hasMoreRows = false;
+                if (context.isKeyset() && context.getCountPerPage() < Integer.MAX_VALUE) {
+                    // 커서 이후의 목록을 가져온다.
+                    KeysetPaging.Page<T> page = KeysetPaging.fetch(query, context.getCursor(), context.getCountPerPage());
+                    sourceList = page.getItems();
+                    nextCursor = page.getNextCursor();
+                }
+                else {
+                    // 스킵이 존재하는 경우
+                    if (context.getSkip() > 0)
+                        query = query.offset(context.getSkip());
+
+                    // 전체 페이지가 아닌 경우
+                    // 전체 레코드 수를 조회하지 않는 경우 다음 페이지 존재 여부 확인을 위해 1건 더 조회한다.
+                    if (context.getCountPerPage() < Integer.MAX_VALUE)
+                        query = query.limit(context.getCountMode() == EnumCountMode.None ? context.getCountPerPage() + 1L : context.getCountPerPage());
+
+                    // 페이징을 적용한 목록을 가져온다.
+                    sourceList = query.fetch();
+
+                    // 1건 더 조회된 경우 다음 페이지가 존재한다.
+                    if (context.getCountMode() == EnumCountMode.None && sourceList != null && sourceList.size() > context.getCountPerPage()) {
+                        sourceList = sourceList.subList(0, context.getCountPerPage());
+                        hasMoreRows = true;
+                    }
+                }
+                if(metrics != null) {
+                    mark = metrics.record(EnumQueryPhase.Fetch, mark);
+                    metrics.setQueryMetadata(query.getMetadata());
+                }
 
                 // 목록 수 저장
                 long totalCount = sourceList == null ? 0 : sourceList.size();
-
+                boolean isEstimated = false;
+
+                // 캐시된 전체 레코드 수가 있는 경우
+                if(cachedTotalCount != null)
+                    totalCount = cachedTotalCount;
+                // 전체 레코드 수를 동시에 조회한 경우
+                else if(totalCountFuture != null)
+                    // 동시 조회 결과를 기다린다.
+                    totalCount = this.joinTotalCount(totalCountFuture, source, totalCountExpression);
+                // 전체 레코드 수를 조회하지 않는 경우 (조회한 위치 까지를 전체 레코드 수로 하고, 다음 페이지가 있는 경우 1건을 더한다.)
+                else if(context.getCountMode() == EnumCountMode.None && !context.isKeyset()) {
+                    totalCount = context.getSkip() + totalCount + (hasMoreRows ? 1 : 0);
+                    isEstimated = hasMoreRows;
+                }
                 // 전체 레코드 수 조회 식이 존재하는 경우
-                if(totalCountExpression != null)
+                else if(totalCountExpression != null) {
+                    // 제한 수 까지만 조회하는 경우
+                    if(context.getCountMode() == EnumCountMode.Estimated) {
+                        long countLimit = this.getCountLimit(context);
+                        totalCount = this.fetchLimitedCount(source, totalCountExpression, countLimit);
+                        isEstimated = totalCount >= countLimit;
+                    }
                     // 전체 레코드 수 쿼리 수행
-                    totalCount = source.select(totalCountExpression).fetchFirst();
+                    else
+                        totalCount = source.select(totalCountExpression).fetchFirst();
+                }
+
+                // 새로 조회한 전체 레코드 수를 캐시에 저장한다.
+                if(countCacheKey != null && cachedTotalCount == null)
+                    this.countCache.put(context.getName(), countCacheKey, totalCount);
+                if(metrics != null) {
+                    // 동시 조회한 경우 목록 조회 이후 기다린 시간만 측정된다.
+                    mark = metrics.record(EnumQueryPhase.Count, mark);
+                    metrics.setCountCached(cachedTotalCount != null);
+                    metrics.setCountParallel(totalCountFuture != null);
+                    metrics.setRowCount(sourceList == null ? 0 : sourceList.size());
+                    metrics.setTotalCount(totalCount);
+                }
 
                 // 페이징을 적용하여 목록 응답 객체 생성
-                result = new QueryResults<>(sourceList
-                        , totalCount, skip, countPerPage, 20);
+                // 조회한 목록은 다른 곳에서 사용하지 않으므로 복사하지 않고 넘겨준다.
+                result = QueryResults.adopt(sourceList
+                        , totalCount, context.getSkip(), context.getCountPerPage(), context.getPagePerSection());
+                result.setTotalCountEstimated(isEstimated);
+                result.setNextCursor(nextCursor);
+                if(metrics != null)
+                    metrics.record(EnumQueryPhase.Mapping, mark);
 
                 // 콜백 메서드를 호출해준다.
-                this.m_queryDSLProviderCallback.afterCreatedQueryResultsCallback( name,isUseOnlyProjections,skip,countPerPage, orderFields, orderDirections, searchFields, searchValues, searchPeriodFields,searchStartDates,searchEndDates,result, clazz);
+                this.m_queryDSLProviderCallback.afterCreatedQueryResultsCallback(context.getName(), context.isOnlyProjections(), context.getSkip(), context.getCountPerPage()
+                        , context.getOrderFields(), context.getOrderDirections(), context.getSearchFields(), context.getSearchValues()
+                        , context.getSearchPeriodFields(), context.getSearchStartDates(), context.getSearchEndDates(), result, clazz);
             }
         } catch (Exception e) {
             MoreExceptionHandler.Log(e);
+            if(metrics != null)
+                metrics.setException(e);
+
+            // 아직 시작하지 않은 전체 레코드 수 조회는 엔티티 매니저를 만들지 않고 종료된다.
+            if(totalCountFuture != null)
+                totalCountFuture.cancel(false);
+        }
+
+        // 측정 정보를 전달한다.
+        if(metrics != null)
+            this.notifyAfterCreateQueryResults(context, metrics);
+
+        return result;
+    }
+
+    /**
+     * 측정 리스너에 목록 조회 시작을 알린다.
+     * @param context 쿼리 컨텍스트
+     * @param clazz 응답 클래스 정보
+     */
+    private void notifyBeforeCreateQueryResults(QueryContext context, Class clazz) {
+        for (IQueryMetricsListener listener : this.metricsListeners) {
+            try {
+                listener.beforeCreateQueryResults(context, clazz);
+            } catch (Exception e) {
+                MoreExceptionHandler.Log(e);
+            }
+        }
+    }
+
+    /**
+     * 측정 리스너에 목록 조회 측정 정보를 전달한다.
+     * @param context 쿼리 컨텍스트
+     * @param metrics 처리 단계별 측정 정보
+     */
+    private void notifyAfterCreateQueryResults(QueryContext context, QueryMetrics metrics) {
+        for (IQueryMetricsListener listener : this.metricsListeners) {
+            try {
+                listener.afterCreateQueryResults(context, metrics);
+            } catch (Exception e) {
+                MoreExceptionHandler.Log(e);
+            }
+        }
+    }
+
+    /**
+     * Estimated 조회 방식의 최대 조회 수를 반환한다.
+     * 지정하지 않은 경우 현재 페이지 섹션의 마지막 페이지까지의 레코드 수 + 1 (다음 섹션 존재 여부 확인) 이다.
+     * 어느 경우든 MAX_ESTIMATED_COUNT_LIMIT 를 넘지 않는다.
+     * @param context 쿼리 컨텍스트
+     * @return 최대 조회 수
+     */
+    private long getCountLimit(QueryContext context) {
+        if(context.getCountLimit() > 0)
+            return Math.min(context.getCountLimit(), MAX_ESTIMATED_COUNT_LIMIT);
+
+        // 현재 섹션의 마지막 페이지 번호
+        long pageNo = context.getSkip() / context.getCountPerPage() + 1;
+        long endPageNo = ((pageNo - 1) / context.getPagePerSection() + 1) * context.getPagePerSection();
+        return Math.min(endPageNo * context.getCountPerPage() + 1, MAX_ESTIMATED_COUNT_LIMIT);
+    }
+
+    /**
+     * 최대 조회 수 까지만 레코드 수를 조회한다.
+     * JPQL 은 from 절 서브쿼리와 서브쿼리의 limit 를 지원하지 않으므로, 최대 조회 수 번째 레코드가 있는지 한 행만 조회하여 확인한다.
+     * 있는 경우 최대 조회 수를 반환하고, 없는 경우 (최대 조회 수 미만인 경우) 전체 레코드 수를 조회한다. 어느 경우든 한 행만 가져온다.
+     * Exact 조회 방식의 전체 레코드 수 조회와 같이 전달받은 쿼리 원본을 기준으로 세며, 컨텍스트의 검색/기간 조건은 목록 조회에만 적용된다.
+     * @param source JPAQuery<T> 객체
+     * @param totalCountExpression 전체 레코드 수 조회 식
+     * @param countLimit 최대 조회 수
+     * @param <T> 원본 타입
+     * @return 레코드 수 (최대 조회 수 이하)
+     */
+    private <T> long fetchLimitedCount(JPAQuery<T> source, Expression<Long> totalCountExpression, long countLimit) {
+        JPAQuery<T> probe = source.clone();
+        probe.getMetadata().clearOrderBy();
+
+        // 최대 조회 수 번째 레코드를 조회한다. (중복 제거 쿼리인 경우 프로젝션 그대로 조회한다.)
+        List<?> found = probe.getMetadata().isDistinct()
+                ? probe.offset(countLimit - 1).limit(1).fetch()
+                : probe.select(Expressions.numberTemplate(Integer.class, "1")).offset(countLimit - 1).limit(1).fetch();
+        if(!found.isEmpty())
+            return countLimit;
+
+        // 최대 조회 수 미만인 경우 전체 레코드 수를 조회한다.
+        Long totalCount = source.select(totalCountExpression).fetchFirst();
+        return totalCount == null ? 0 : Math.min(totalCount, countLimit);
+    }
+
+    /**
+     * 별도 엔티티 매니저 (별도 커넥션) 에서 전체 레코드 수를 조회한다.
+     * 별도 트랜잭션에서 조회되므로 호출한 트랜잭션에서 커밋되지 않은 변경은 포함되지 않는다.
+     * 작업이 시작되기 전에 취소된 경우 엔티티 매니저를 만들지 않으며, 시작된 작업의 엔티티 매니저는 조회가 끝나면 닫힌다.
+     * 실행기가 작업을 받지 못한 경우 (대기열이 가득 찬 경우) 실패한 작업을 반환하며, 호출한 스레드에서 순차 조회된다.
+     * @param source JPAQuery<T> 객체
+     * @param totalCountExpression 전체 레코드 수 조회 식
+     * @param <T> 원본 타입
+     * @return 전체 레코드 수 조회 작업
+     */
+    private <T> CompletableFuture<Long> fetchTotalCountAsync(JPAQuery<T> source, Expression<Long> totalCountExpression) {
+        // 호출 스레드에서 쿼리 정보를 복제해둔다.
+        JPAQuery<T> countSource = source.clone();
+        CompletableFuture<Long> result = new CompletableFuture<>();
+
+        try {
+            this.getCountExecutor().execute(() -> {
+                // 이미 취소된 경우 엔티티 매니저 (커넥션) 를 만들지 않는다.
+                if(result.isDone())
+                    return;
+
+                // 엔티티 매니저는 스레드간 공유할 수 없으므로 새로 만들어 사용한다.
+                try (EntityProvider provider = new EntityProvider(this.entityManagerFactory.createEntityManager())) {
+                    result.complete(countSource.clone(provider.entityManager).select(totalCountExpression).fetchFirst());
+                } catch (Throwable ex) {
+                    result.completeExceptionally(ex);
+                }
+            });
+        } catch (RejectedExecutionException ex) {
+            result.completeExceptionally(ex);
         }
 
         return result;
     }
 
+    /**
+     * 동시 조회한 전체 레코드 수를 기다린다.
+     * 동시 조회에 실패했거나 COUNT_WAIT_TIMEOUT_MILLIS 안에 끝나지 않은 경우 (실행기 대기열에서 시작되지 못한 경우 포함) 작업을 취소하고 순차 조회한다.
+     * @param totalCountFuture 전체 레코드 수 조회 작업
+     * @param source JPAQuery<T> 객체
+     * @param totalCountExpression 전체 레코드 수 조회 식
+     * @param <T> 원본 타입
+     * @return 전체 레코드 수
+     */
+    private <T> long joinTotalCount(CompletableFuture<Long> totalCountFuture, JPAQuery<T> source, Expression<Long> totalCountExpression) {
+        try {
+            return totalCountFuture.get(COUNT_WAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            MoreExceptionHandler.Log(ex);
+        } catch (ExecutionException | TimeoutException | CancellationException ex) {
+            MoreExceptionHandler.Log(ex);
+        }
+
+        // 아직 시작되지 않은 작업은 엔티티 매니저 (커넥션) 를 만들지 않도록 취소한다.
+        totalCountFuture.cancel(false);
+        return source.select(totalCountExpression).fetchFirst();
+    }
+
+    /**
+     * 전체 레코드 수 동시 조회 기본 실행기 (최초 사용시 생성된다.)
+     */
+    private static final class CountExecutorHolder {
+        /**
+         * 동시 조회 스레드 수 (목록 조회에 사용할 커넥션이 남도록 기본 커넥션 풀 크기의 절반으로 제한한다.)
+         */
+        static final int THREADS = Math.max(1, DataSourceLimiter.DEFAULT_MAX_CONCURRENCY / 2);
+
+        /**
+         * 대기열 크기 (넘는 경우 호출한 스레드에서 순차 조회한다.)
+         */
+        static final int QUEUE_CAPACITY = 64;
+
+        /**
+         * 기본 실행기 (데몬 스레드, 고정 크기)
+         */
+        static final Executor EXECUTOR = new ThreadPoolExecutor(THREADS, THREADS, 60L, TimeUnit.SECONDS
+                , new ArrayBlockingQueue<>(QUEUE_CAPACITY), runnable -> {
+            Thread thread = new Thread(runnable, "jpahush-count");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 비동기 목록 조회 기본 실행기 (최초 사용시 생성된다.)
+     * 전체 레코드 수 동시 조회 실행기와 분리하여, 목록 조회 스레드가 전체 레코드 수 조회 스레드를 모두 차지하지 않도록 한다.
+     */
+    private static final class AsyncExecutorHolder {
+        /**
+         * 기본 실행기 (데몬 플랫폼 스레드, 유휴 스레드는 재사용된다.)
+         */
+        static final Executor EXECUTOR = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "jpahush-async");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * 가상 스레드 실행기 (최초 사용시 생성된다.)
+     */
+    private static final class VirtualExecutorHolder {
+        /**
+         * 작업마다 가상 스레드를 만드는 실행기
+         */
+        static final Executor EXECUTOR = VirtualThreads.newExecutor("jpahush-virtual");
+    }
+
+    /**
+     * 프로젝션에 포함된 정렬/검색 필드만 남긴 쿼리 컨텍스트를 반환한다.
+     * @param context 쿼리 컨텍스트
+     * @param projection 프로젝션 인덱스
+     * @return 쿼리 컨텍스트
+     */
+    private QueryContext filterByProjections(QueryContext context, ProjectionIndex projection) {
+        List<String> orderFields = context.getOrderFieldList();
+        List<String> orderDirections = context.getOrderDirectionList();
+        List<String> searchFields = context.getSearchFieldList();
+        List<String> searchValues = context.getSearchValueList();
+
+        // 소트정리 (정렬 방향도 함께 정리한다.)
+        List<String> newOrderFields = new ArrayList<>();
+        List<String> newOrderDirections = new ArrayList<>();
+        for (int index = 0; index < orderFields.size(); index++) {
+            String orderField = orderFields.get(index);
+            // 일치하는 컬럼이 있는경우
+            if(projection.contains(orderField)) {
+                newOrderFields.add(orderField);
+                if(index < orderDirections.size())
+                    newOrderDirections.add(orderDirections.get(index));
+            }
+        }
+
+        // where 조건 정리 (검색 값도 함께 정리한다.)
+        List<String> searches = new ArrayList<>();
+        List<String> values = new ArrayList<>();
+        for (int index = 0; index < searchFields.size(); index++) {
+            String searchField = searchFields.get(index);
+            // 일치하는 컬럼이 있는경우
+            if(projection.contains(searchField)) {
+                searches.add(searchField);
+                if(index < searchValues.size())
+                    values.add(searchValues.get(index));
+            }
+        }
+
+        return context.toBuilder()
+                .orderFields(newOrderFields.toArray(new String[0]))
+                .orderDirections(newOrderDirections.toArray(new String[0]))
+                .searchFields(searches.toArray(new String[0]))
+                .searchValues(values.toArray(new String[0]))
+                .build();
+    }
+
     /**
      * Projections 과 쿼리 그리고 응답 클래스 정보로 부터 Where 쿼리를 가져온다.
-     * @param projectionArgs 프로젝션 정보
+     * @param projectionArgs 프로젝션 정보 (사용하지 않음, 쿼리의 프로젝션 식을 사용한다.)
      * @param query JPA 쿼리 클래스
      * @param clazz 응답 클래스 정보
      * @return JPA쿼리 객체
      */
     @Override
     public <T> JPAQuery<T> getWhereQueries(Object[] projectionArgs, JPAQuery<T> query, Class clazz) {
+        return this.getWhereQueries(this.toQueryContext(), query, clazz);
+    }
+
+    /**
+     * 쿼리 컨텍스트와 쿼리 그리고 응답 클래스 정보로 부터 Where 쿼리를 가져온다.
+     * @param context 쿼리 컨텍스트
+     * @param query JPA 쿼리 클래스
+     * @param clazz 응답 클래스 정보
+     * @return JPA쿼리 객체
+     */
+    @Override
+    public <T> JPAQuery<T> getWhereQueries(QueryContext context, JPAQuery<T> query, Class clazz) {
+        return this.applyWhereQueries(context, query, clazz, ProjectionIndex.of(query.getMetadata().getProjection()), null);
+    }
+
+    /**
+     * 쿼리 컨텍스트와 쿼리 그리고 응답 클래스 정보로 부터 Where 쿼리를 추가한다.
+     * @param context 쿼리 컨텍스트
+     * @param query JPA 쿼리 클래스
+     * @param clazz 응답 클래스 정보
+     * @param projection 프로젝션 인덱스
+     * @param metrics 처리 단계별 측정 정보 (측정하지 않는 경우 null)
+     * @return JPA쿼리 객체
+     */
+    private <T> JPAQuery<T> applyWhereQueries(QueryContext context, JPAQuery<T> query, Class clazz, ProjectionIndex projection, QueryMetrics metrics) {
+        long mark = metrics != null ? System.nanoTime() : 0L;
         try {
+            // 쿼리 테이블 정보를 가져온다.
+            List<JoinExpression> queryTables = query.getMetadata().getJoins();
+
+            // 추가할 검색 조건, 키워드 검색 조건, 기간 검색 조건 순으로 모아 한번에 정리하여 추가한다.
+            List<Predicate> conditions = new ArrayList<>();
+
             // 추가할 검색 조건 목록이 존재하는 경우
-            if(predicates != null){
-                // 모든 조건에 대해 처리한다
-                for (Predicate item : predicates) {
-                    // null 이 아닌경우
-                    if(item != null)
-                        // 조건 추가
-                        query.where(item);
-                }
-            }
+            if(context.getPredicates() != null)
+                conditions.addAll(context.getPredicates());
 
             // 사용자의 검색정보를 가져온다.
-            List<KeywordSearchItem> keywordSearchItems = this.getSearchFields(clazz,projectionArgs);
+            if(metrics != null)
+                mark = metrics.record(EnumQueryPhase.PredicateBuild, mark);
+            List<KeywordSearchItem> keywordSearchItems = this.getSearchFields(context, queryTables, clazz, projection);
+            if(metrics != null)
+                mark = metrics.record(EnumQueryPhase.FieldResolution, mark);
+
+            // 빈 검색어와 중복 검색어를 제외하고, 검색어가 없는 항목은 조건을 만들지 않는다.
+            List<KeywordSearchItem> validKeywordSearchItems = new ArrayList<>(keywordSearchItems.size());
+            for(KeywordSearchItem item: keywordSearchItems) {
+                item.setKeywords(PredicateOptimizer.distinctKeywords(item.getKeywords()));
+                if(!item.getKeywords().isEmpty())
+                    validKeywordSearchItems.add(item);
+            }
+            keywordSearchItems = validKeywordSearchItems;
+
+            // 선택도 힌트가 큰 항목을 앞에 배치한다. (같은 경우 계획 순서 유지)
+            keywordSearchItems.sort(Comparator.comparingInt(KeywordSearchItem::getSelectivity).reversed());
 
             // Enum으로 변환할 검색 목록
             List<KeywordSearchItem> enumConvertKeywordSearchItems = keywordSearchItems.stream().filter((value) -> value.getKeywordSearchType() == EnumFieldSearchType.Enum).collect(Collectors.toList());
 
             // 모든 변환 검색에 대해서 처리
             for(KeywordSearchItem item: enumConvertKeywordSearchItems) {
+                // 변환할 Enum 타입을 찾지 못한 경우 문자열 그대로 비교한다.
+                Class<?> enumType = findEnumType(item);
+                if(enumType == null)
+                    continue;
+
                 List<String> enumValueList = new ArrayList<>();
                 for(String value: item.getKeywords()) {
-                    value = value.trim();
-                    // Enum 값을 가져온다.
-                    Enum enumValue = Enum.valueOf(item.getConvertTypeClass(), value);
+                    // Enum 값을 가져온다. (대소문자 구분 없음, 잘못된 값은 제외)
+                    Enum<?> enumValue = EnumLookup.findValue(enumType, value);
                     // 해당 값으로 대체
-                    enumValueList.add(enumValue.toString());
+                    if(enumValue != null)
+                        enumValueList.add(enumValue.name());
+                }
+                item.setKeywords(enumValueList);
+            }
+
+            // 모든 항목에 대해서 처리
+            for(KeywordSearchItem item: keywordSearchItems) {
+                // 검색어가 모두 잘못된 Enum 값인 경우 일치하는 레코드가 없다.
+                if(item.getKeywords().isEmpty()) {
+                    conditions.add(noMatchPredicate());
+                    continue;
+                }
+
+                // 실제 경로를 찾은 경우 경로에 바로 조건을 만들고, 찾지 못한 경우 문자열 구문으로 조건을 만든다.
+                Predicate predicate = item.getPath() != null ? createKeywordPredicate(item) : createKeywordPredicateFromStatement(item, clazz);
+
+                // 조건이 만들어진 경우
+                if(predicate != null)
+                    conditions.add(predicate);
+            }
+
+            // 기간 검색 목록을 가져온다.
+            if(metrics != null)
+                mark = metrics.record(EnumQueryPhase.PredicateBuild, mark);
+            List<PeriodSearchItem> periodSearchItems = this.getPeriodSearchFields(context, queryTables, clazz, projection);
+            if(metrics != null)
+                mark = metrics.record(EnumQueryPhase.FieldResolution, mark);
+
+            // 필드별로 겹치는 기간을 합쳐 경로의 타입에 맞는 반열린 구간 조건을 만든다.
+            conditions.addAll(PeriodPredicateBuilder.build(periodSearchItems));
+
+            // 중복 / 빈 조건을 제거하고 하나의 조건으로 합친다.
+            Predicate where = PredicateOptimizer.allOf(conditions);
+            if(where != null)
+                query.where(where);
+
+            if(metrics != null)
+                metrics.record(EnumQueryPhase.PredicateBuild, mark);
+        } catch (Exception e) {
+            MoreExceptionHandler.Log(e);
+        }
+        return query;
+    }
+
+    /**
+     * Enum 검색 항목의 Enum 타입을 찾는다. (변환할 타입 클래스, 실제 경로의 타입 순으로 찾는다.)
+     * @param item 키워드 검색 정보
+     * @return Enum 타입 (없는 경우 null)
+     */
+    private static Class<?> findEnumType(KeywordSearchItem item) {
+        Class<?> type = item.getConvertTypeClass();
+        if(type != null && type.isEnum())
+            return type;
+        if(item.getPath() != null && item.getPath().getType().isEnum())
+            return item.getPath().getType();
+        return null;
+    }
+
+    /**
+     * 실제 경로에 바인딩된 키워드 검색 조건을 만든다.
+     * @param item 키워드 검색 정보 (경로가 지정되어 있어야 한다.)
+     * @return 검색 조건 (만들 수 없는 경우 null)
+     */
+    @SuppressWarnings("unchecked")
+    private Predicate createKeywordPredicate(KeywordSearchItem item) {
+        Expression<?> path = item.getPath();
+        String keyword = item.getKeywords().get(0);
+
+        switch (item.getKeywordSearchType()) {
+            case Number:
+                return Expressions.booleanOperation(Ops.LIKE, toStringExpression(path), ConstantImpl.create(keyword));
+            case Boolean: {
+                Boolean value = BooleanUtils.parseBoolean(keyword);
+                // 변환할 수 없는 값인 경우 일치하는 레코드가 없다. (잘못된 Enum 값과 같다.)
+                if(value == null)
+                    return noMatchPredicate();
+                return Expressions.booleanOperation(Ops.EQ, path, ConstantImpl.create(value));
+            }
+            case Enum:
+            case List: {
+                // 경로의 타입으로 변환한다.
+                List<Object> values = convertKeywords(path.getType(), item.getKeywords());
+
+                // 변환할 수 없는 타입인 경우 문자열로 비교한다.
+                if(values == null)
+                    return inOperation(toStringExpression(path), new ArrayList<>(item.getKeywords()));
+                return inOperation(path, values);
+            }
+            case BooleanList: {
+                List<Object> values = item.getKeywords().stream().map(BooleanUtils::parseBoolean).filter(Objects::nonNull).collect(Collectors.toList());
+                // 변환된 값이 없는 경우 일치하는 레코드가 없다.
+                if(values.isEmpty())
+                    return noMatchPredicate();
+                return inOperation(path, values);
+            }
+            case StringEqual:
+                // 여러 값인 경우 IN 으로 비교한다.
+                return inOperation(toStringExpression(path), new ArrayList<>(item.getKeywords()));
+            case PhoneNo:
+                // 검색 전략이 지정된 경우 비용이 가장 낮은 전략으로 조건을 만든다.
+                if(SearchPredicatePlanner.hasStrategies(item))
+                    return SearchPredicatePlanner.plan(item, toStringExpression(path), keyword);
+                return Expressions.booleanOperation(Ops.LIKE, toStringExpression(path), ConstantImpl.create("%" + keyword.replaceAll("-", "") + "%"));
+            default:
+                // 검색 전략이 지정된 경우 비용이 가장 낮은 전략으로 조건을 만든다.
+                if(SearchPredicatePlanner.hasStrategies(item))
+                    return SearchPredicatePlanner.plan(item, toStringExpression(path), keyword);
+                return Expressions.booleanOperation(Ops.LIKE, toStringExpression(path), ConstantImpl.create("%" + keyword + "%"));
+        }
+    }
+
+    /**
+     * 일치하는 레코드가 없는 조건 (1 = 0) 을 만든다.
+     * @return 검색 조건
+     */
+    private static Predicate noMatchPredicate() {
+        return Expressions.booleanTemplate("1 = 0");
+    }
+
+    /**
+     * 문자열 구문으로 키워드 검색 조건을 만든다. (실제 경로를 찾지 못한 경우)
+     * @param item 키워드 검색 정보
+     * @param clazz 응답 클래스 정보
+     * @return 검색 조건 (만들 수 없는 경우 null)
+     */
+    @SuppressWarnings("unchecked")
+    private Predicate createKeywordPredicateFromStatement(KeywordSearchItem item, Class clazz) {
+        String[] tableAndField = item.getField().split("[.]");
+
+        // 불리언 검색어를 변환한다. (변환된 값이 없는 경우 일치하는 레코드가 없다.)
+        Boolean booleanKeyword = null;
+        List<Boolean> booleanKeywords = null;
+        if(item.getKeywordSearchType() == EnumFieldSearchType.Boolean) {
+            booleanKeyword = BooleanUtils.parseBoolean(item.getKeywords().get(0));
+            if(booleanKeyword == null)
+                return noMatchPredicate();
+        }
+        else if(item.getKeywordSearchType() == EnumFieldSearchType.BooleanList) {
+            booleanKeywords = item.getKeywords().stream().map(BooleanUtils::parseBoolean).filter(Objects::nonNull).collect(Collectors.toList());
+            if(booleanKeywords.isEmpty())
+                return noMatchPredicate();
+        }
+
+        switch (item.getKeywordSearchType()) {
+            case Number:
+                // clazz가 null인 경우
+                if(clazz == null) {
+                    return Expressions.numberPath(item.getConvertTypeClass(), item.getField()).like(item.getKeywords().get(0));
+                }
+                // clazz가 지정된 경우
+                else {
+                    if(tableAndField.length >= 2) {
+                        PathBuilder pathBuilder = new PathBuilder(clazz, tableAndField[0]);
+                        return pathBuilder.get(Expressions.numberPath(item.getConvertTypeClass(), tableAndField[1])).like(item.getKeywords().get(0));
+                    }
+                }
+                return null;
+            case Boolean:
+                // clazz가 null인 경우
+                if(clazz == null) {
+                    return Expressions.booleanPath(item.getField()).eq(booleanKeyword);
+                }
+                // clazz가 지정된 경우
+                else {
+                    if(tableAndField.length >= 2) {
+                        PathBuilder pathBuilder = new PathBuilder(clazz, tableAndField[0]);
+                        return pathBuilder.get(Expressions.booleanPath(tableAndField[1])).eq(booleanKeyword);
+                    }
+                }
+                return null;
+            case Enum:
+            case List:
+                // clazz가 null인 경우
+                if(clazz == null) {
+                    return InListChunker.in(Expressions.stringPath(item.getField()), item.getKeywords());
+                }
+                // clazz가 지정된 경우
+                else {
+                    if(tableAndField.length >= 2) {
+                        PathBuilder pathBuilder = new PathBuilder(clazz, tableAndField[0]);
+                        return InListChunker.in(pathBuilder.get(Expressions.stringPath(tableAndField[1])), item.getKeywords());
+                    }
+                }
+                return null;
+            case BooleanList:
+                // clazz가 null인 경우
+                if(clazz == null) {
+                    return Expressions.booleanPath(item.getField()).in(booleanKeywords);
+                }
+                // clazz가 지정된 경우
+                else {
+                    if(tableAndField.length >= 2) {
+                        PathBuilder pathBuilder = new PathBuilder(clazz, tableAndField[0]);
+                        return pathBuilder.get(Expressions.booleanPath(tableAndField[1])).in(booleanKeywords);
+                    }
+                }
+                return null;
+            case StringEqual:
+                // clazz가 null인 경우
+                if(clazz == null) {
+                    return Expressions.stringPath(item.getField()).eq(item.getKeywords().get(0));
+                }
+                // clazz가 지정된 경우
+                else {
+                    if(tableAndField.length >= 2) {
+                        PathBuilder pathBuilder = new PathBuilder(clazz, tableAndField[0]);
+                        return pathBuilder.get(Expressions.stringPath(tableAndField[1])).eq(item.getKeywords().get(0));
+                    }
                 }
-                item.setKeywords(enumValueList);
-            }
-
-            List<Predicate> keywordSearchPredicates = new ArrayList<>();
-
-            // 모든 항목에 대해서 처리
-            for(KeywordSearchItem item: keywordSearchItems) {
-                String[] tableAndField = item.getField().split("[.]");
-
-                switch (item.getKeywordSearchType()) {
-                    case Number:
-                        // clazz가 null인 경우
-                        if(clazz == null) {
-                            keywordSearchPredicates.add(Expressions.numberPath(item.getConvertTypeClass(), item.getField()).like(item.getKeywords().get(0)));
-                        }
-                        // clazz가 지정된 경우
-                        else {
-                            if(tableAndField.length >= 2) {
-                                PathBuilder pathBuilder = new PathBuilder(clazz, tableAndField[0]);
-                                keywordSearchPredicates.add(pathBuilder.get(Expressions.numberPath(item.getConvertTypeClass(), tableAndField[1])).like(item.getKeywords().get(0)));
-                            }
-                        }
-                        break;
-                    case Boolean:
-                        // clazz가 null인 경우
-                        if(clazz == null) {
-                            keywordSearchPredicates.add(Expressions.booleanPath(item.getField()).eq(BooleanUtils.parseBoolean(item.getKeywords().get(0))));
-                        }
-                        // clazz가 지정된 경우
-                        else {
-                            if(tableAndField.length >= 2) {
-                                PathBuilder pathBuilder = new PathBuilder(clazz, tableAndField[0]);
-                                keywordSearchPredicates.add(pathBuilder.get(Expressions.booleanPath(tableAndField[1])).eq(BooleanUtils.parseBoolean(item.getKeywords().get(0))));
-                            }
-                        }
-                        break;
-                    case Enum:
-                    case List:
-                        // clazz가 null인 경우
-                        if(clazz == null) {
-                            keywordSearchPredicates.add(Expressions.stringPath(item.getField()).in(item.getKeywords()));
-                        }
-                        // clazz가 지정된 경우
-                        else {
-                            if(tableAndField.length >= 2) {
-                                PathBuilder pathBuilder = new PathBuilder(clazz, tableAndField[0]);
-                                keywordSearchPredicates.add(pathBuilder.get(Expressions.stringPath(tableAndField[1])).in(item.getKeywords()));
-                            }
-                        }
-                        break;
-                    case BooleanList:
-                        // clazz가 null인 경우
-                        if(clazz == null) {
-                            keywordSearchPredicates.add(Expressions.booleanPath(item.getField()).in(item.getKeywords().stream().map(BooleanUtils::parseBoolean).collect(Collectors.toList())));
-                        }
-                        // clazz가 지정된 경우
-                        else {
-                            if(tableAndField.length >= 2) {
-                                PathBuilder pathBuilder = new PathBuilder(clazz, tableAndField[0]);
-                                keywordSearchPredicates.add(pathBuilder.get(Expressions.booleanPath(tableAndField[1])).in(item.getKeywords().stream().map(BooleanUtils::parseBoolean).collect(Collectors.toList())));
-                            }
-                        }
-                        break;
-                    case StringEqual:
-                        // clazz가 null인 경우
-                        if(clazz == null) {
-                            keywordSearchPredicates.add(Expressions.stringPath(item.getField()).eq(item.getKeywords().get(0)));
-                        }
-                        // clazz가 지정된 경우
-                        else {
-                            if(tableAndField.length >= 2) {
-                                PathBuilder pathBuilder = new PathBuilder(clazz, tableAndField[0]);
-                                keywordSearchPredicates.add(pathBuilder.get(Expressions.stringPath(tableAndField[1])).eq(item.getKeywords().get(0)));
-                            }
-                        }
-                        break;
-                    case PhoneNo:
-                        // clazz가 null인 경우
-                        if(clazz == null) {
-                            keywordSearchPredicates.add(Expressions.stringPath(item.getField()).like("%" + item.getKeywords().get(0).replaceAll("-", "") + "%"));
-                        }
-                        // clazz가 지정된 경우
-                        else {
-                            if(tableAndField.length >= 2) {
-                                PathBuilder pathBuilder = new PathBuilder(clazz, tableAndField[0]);
-                                keywordSearchPredicates.add(pathBuilder.get(Expressions.stringPath(tableAndField[1])).like("%" + item.getKeywords().get(0).replaceAll("-", "") + "%"));
-                            }
-                        }
-                        break;
-                    default:
-                        // clazz가 null인 경우
-                        if(clazz == null) {
-                            keywordSearchPredicates.add(Expressions.stringPath(item.getField()).like("%" + item.getKeywords().get(0) + "%"));
-                        }
-                        // clazz가 지정된 경우
-                        else {
-                            if(tableAndField.length >= 2) {
-                                PathBuilder pathBuilder = new PathBuilder(clazz, tableAndField[0]);
-                                keywordSearchPredicates.add(pathBuilder.get(Expressions.stringPath(tableAndField[1])).like("%" + item.getKeywords().get(0) + "%"));
-                            }
-                        }
-                        break;
+                return null;
+            case PhoneNo:
+                // clazz가 null인 경우
+                if(clazz == null) {
+                    return Expressions.stringPath(item.getField()).like("%" + item.getKeywords().get(0).replaceAll("-", "") + "%");
                 }
-            }
+                // clazz가 지정된 경우
+                else {
+                    if(tableAndField.length >= 2) {
+                        PathBuilder pathBuilder = new PathBuilder(clazz, tableAndField[0]);
+                        return pathBuilder.get(Expressions.stringPath(tableAndField[1])).like("%" + item.getKeywords().get(0).replaceAll("-", "") + "%");
+                    }
+                }
+                return null;
+            default:
+                // clazz가 null인 경우
+                if(clazz == null) {
+                    return Expressions.stringPath(item.getField()).like("%" + item.getKeywords().get(0) + "%");
+                }
+                // clazz가 지정된 경우
+                else {
+                    if(tableAndField.length >= 2) {
+                        PathBuilder pathBuilder = new PathBuilder(clazz, tableAndField[0]);
+                        return pathBuilder.get(Expressions.stringPath(tableAndField[1])).like("%" + item.getKeywords().get(0) + "%");
+                    }
+                }
+                return null;
+        }
+    }
 
-            // 키워드 검색 조건이 존재하는 경우
-            if(keywordSearchPredicates.size() > 0)
-                query.where(new BooleanBuilder().orAllOf(keywordSearchPredicates.toArray(new Predicate[0])));
+    /**
+     * 식을 문자열 식으로 변환한다. 문자열 타입이 아닌 경우 문자열로 캐스팅한다.
+     * @param expression 식
+     * @return 문자열 식
+     */
+    @SuppressWarnings("unchecked")
+    private static Expression<String> toStringExpression(Expression<?> expression) {
+        if(String.class.equals(expression.getType()))
+            return (Expression<String>) expression;
+        return Expressions.stringOperation(Ops.STRING_CAST, expression);
+    }
 
-            // 기간 검색 목록을 가져온다.
-            List<PeriodSearchItem> periodSearchItems = this.getPeriodSearchFields(clazz,projectionArgs);
-            List<Predicate> periodSearchPredicates = new ArrayList<>();
+    /**
+     * 값 목록에 포함되는지 확인하는 조건을 만든다. 값이 하나인 경우 일치 조건을 만든다.
+     * 값이 많은 경우 나눈 IN 조건을 OR 로 묶는다. (InListChunker)
+     * @param expression 식
+     * @param values 값 목록
+     * @return 조건
+     */
+    private static Predicate inOperation(Expression<?> expression, List<Object> values) {
+        return InListChunker.in(expression, values);
+    }
 
-            // 모든 항목에 대해서 처리
-            for(PeriodSearchItem item: periodSearchItems) {
-                periodSearchPredicates.add(
-                        Expressions.datePath(Instant.class, item.getField()).goe(item.getSearchStartDate().toInstant())
-                                .and(Expressions.datePath(Instant.class, item.getField()
-                                ).lt(item.getSearchEndDate().toInstant()))
-                );
+    /**
+     * 검색어 목록을 경로의 타입으로 변환한다.
+     * @param type 경로 타입
+     * @param keywords 검색어 목록
+     * @return 변환된 값 목록 (변환할 수 없는 경우 null)
+     */
+    @SuppressWarnings("unchecked")
+    private static List<Object> convertKeywords(Class<?> type, List<String> keywords) {
+        List<Object> result = new ArrayList<>(keywords.size());
+        try {
+            for (String keyword : keywords) {
+                String value = keyword.trim();
+                if(String.class.equals(type))
+                    result.add(keyword);
+                else if(type.isEnum()) {
+                    // 잘못된 값은 제외한다.
+                    Enum<?> enumValue = EnumLookup.findValue(type, value);
+                    if(enumValue != null)
+                        result.add(enumValue);
+                }
+                else if(Integer.class.equals(type) || int.class.equals(type))
+                    result.add(Integer.valueOf(value));
+                else if(Long.class.equals(type) || long.class.equals(type))
+                    result.add(Long.valueOf(value));
+                else if(Short.class.equals(type) || short.class.equals(type))
+                    result.add(Short.valueOf(value));
+                else if(Double.class.equals(type) || double.class.equals(type))
+                    result.add(Double.valueOf(value));
+                else if(Float.class.equals(type) || float.class.equals(type))
+                    result.add(Float.valueOf(value));
+                else if(BigDecimal.class.equals(type))
+                    result.add(new BigDecimal(value));
+                else
+                    return null;
             }
-
-            // 기간 검색 조건이 존재하는 경우
-            if(periodSearchPredicates.size() > 0)
-                query.where(new BooleanBuilder().orAllOf(periodSearchPredicates.toArray(new Predicate[0])));
-
-        } catch (Exception e) {
-            MoreExceptionHandler.Log(e);
+        } catch (IllegalArgumentException ex) {
+            // 변환할 수 없는 값인 경우
+            return null;
         }
-        return query;
+        return result;
     }
 
     /**
      * Projections 과 쿼리 그리고 응답 클래스 정보로 부터 OrderBy 쿼리를 가져온다.
-     * @param projectionArgs 프로젝션 정보
+     * @param projectionArgs 프로젝션 정보 (사용하지 않음, 쿼리의 프로젝션 식을 사용한다.)
      * @param query JPA 쿼리 클래스
      * @return JPA쿼리 객체
      */
     @Override
     public <T> JPAQuery<T> getOrderByQueries(Object[] projectionArgs, JPAQuery<T> query) {
+        return this.getOrderByQueries(this.toQueryContext(), query);
+    }
 
-        // 정렬하고자 하는 필드가 없는 경우
-        if(this.orderFields != null) {
-            // 정렬 방향 목록이 지정되지 않은 경우
-            if(this.orderDirections == null || this.orderDirections.length == 0) {
-                // 모든 정렬 필드에 대하서 처리
-                for (String orderField: orderFields) {
-                    this.sorts.add(new SortItem(orderField, "asc"));
-                }
-            }
-            // 정렬 방향 정보가 정렬 필드보다 적은 경우
-            else if(orderFields.length > this.orderDirections.length){
-                // 모든 정렬 필드에 대하서 처리
-                for (int index = 0; index < this.orderFields.length; index++) {
-                    // 기본 정렬 방향으로 객체 생성
-                    SortItem sortItem = new SortItem(this.orderFields[index], "asc");
-                    // 정렬 방향 정보가 존재하는 경우, 정렬 방향 수정
-                    if(index < this.orderDirections.length)
-                        sortItem.setDirection(this.orderDirections[index]);
-                    // 데이터 추가
-                    this.sorts.add(sortItem);
-                }
+    /**
+     * 쿼리 컨텍스트와 쿼리 정보로 부터 OrderBy 쿼리를 가져온다.
+     * @param context 쿼리 컨텍스트
+     * @param query JPA 쿼리 클래스
+     * @return JPA쿼리 객체
+     */
+    @Override
+    public <T> JPAQuery<T> getOrderByQueries(QueryContext context, JPAQuery<T> query) {
+        return this.applyOrderByQueries(context, query, ProjectionIndex.of(query.getMetadata().getProjection()), null);
+    }
+
+    /**
+     * 쿼리 컨텍스트와 쿼리 정보로 부터 OrderBy 쿼리를 추가한다.
+     * @param context 쿼리 컨텍스트
+     * @param query JPA 쿼리 클래스
+     * @param projection 프로젝션 인덱스
+     * @param metrics 처리 단계별 측정 정보 (측정하지 않는 경우 null)
+     * @return JPA쿼리 객체
+     */
+    private <T> JPAQuery<T> applyOrderByQueries(QueryContext context, JPAQuery<T> query, ProjectionIndex projection, QueryMetrics metrics) {
+        long mark = metrics != null ? System.nanoTime() : 0L;
+
+        // 쿼리 테이블 정보를 가져온다.
+        List<JoinExpression> queryTables = query.getMetadata().getJoins();
+
+        // 기본 정렬 정보 뒤에 사용자 정렬 정보를 추가한다.
+        List<SortItem> sorts = new ArrayList<>(context.getBaseSorts());
+        List<String> orderFields = context.getOrderFieldList();
+        List<String> orderDirections = context.getOrderDirectionList();
+
+        // 정렬 방향 목록이 지정되지 않은 경우
+        if(orderDirections.isEmpty()) {
+            // 모든 정렬 필드에 대하서 처리
+            for (String orderField: orderFields) {
+                sorts.add(new SortItem(orderField, "asc"));
             }
-            // 그 외
-            else {
-                // 모든 정렬 필드에 대하서 처리
-                for (int index = 0; index < this.orderFields.length; index++) {
-                    // 정렬 필드와 정렬 방향으로 객체 생성
-                    SortItem sortItem = new SortItem(this.orderFields[index], this.orderDirections[index]);
-                    // 데이터 추가
-                    this.sorts.add(sortItem);
-                }
+        }
+        // 정렬 방향 정보가 정렬 필드보다 적은 경우
+        else if(orderFields.size() > orderDirections.size()){
+            // 모든 정렬 필드에 대하서 처리
+            for (int index = 0; index < orderFields.size(); index++) {
+                // 기본 정렬 방향으로 객체 생성
+                SortItem sortItem = new SortItem(orderFields.get(index), "asc");
+                // 정렬 방향 정보가 존재하는 경우, 정렬 방향 수정
+                if(index < orderDirections.size())
+                    sortItem.setDirection(orderDirections.get(index));
+                // 데이터 추가
+                sorts.add(sortItem);
             }
         }
-
-        // 전체 소팅에 대해 처리한다.
-        for (SortItem sort : this.sorts) {
-            // table.field 된 셀렉트구문 을 사용자가 요청한 소트 정보로 일치하는 정보를 찾는다.
-            String statement = "";
-            statement = findStatementForDot(projectionArgs,sort);
-
-            // 찾지못한 경우 as 로 정의된 정보를 찾는다.
-            if(!StringUtils.hasText(statement))
-                statement = findStatementForAs(projectionArgs,sort);
-
-            // 찾지못한 경우 테이블 정보속에서 전체 검색한다.
-            if(!StringUtils.hasText(statement))
-                statement = findWhereStatementFromTable(sort.getField());
-
-            // 찾은 경우
-            if(StringUtils.hasText(statement)){
-                // 정렬 방향별로 처리한다.
-                if(sort.getDirection().equalsIgnoreCase("desc"))
-                    query = query.orderBy(Expressions.stringPath(statement).desc());
-                else
-                    query = query.orderBy(Expressions.stringPath(statement).asc());
+        // 그 외
+        else {
+            // 모든 정렬 필드에 대하서 처리
+            for (int index = 0; index < orderFields.size(); index++) {
+                // 정렬 필드와 정렬 방향으로 객체 생성
+                SortItem sortItem = new SortItem(orderFields.get(index), orderDirections.get(index));
+                // 데이터 추가
+                sorts.add(sortItem);
             }
         }
 
+        // 같은 모양의 정렬 요청에 대해 해석된 정렬 식을 재사용한다.
+        List<String> planFields = new ArrayList<>(sorts.size());
+        for (SortItem sort : sorts)
+            planFields.add(sort.getTable() + "." + sort.getField() + " " + (isDescending(sort) ? "desc" : "asc"));
+        QueryPlan.Key key = new QueryPlan.Key("order", context.getName(), null, projection.getProjection(), getTableTargets(queryTables), planFields);
+        QueryPlan plan = QueryPlan.of(key, () -> this.compileOrderPlan(sorts, queryTables, projection));
+        if(metrics != null)
+            mark = metrics.record(EnumQueryPhase.FieldResolution, mark);
+
+        // 정렬 식이 존재하는 경우
+        if(!plan.getOrderSpecifiers().isEmpty())
+            query = query.orderBy(plan.getOrderSpecifiers().toArray(new OrderSpecifier[0]));
+        if(metrics != null)
+            metrics.record(EnumQueryPhase.PredicateBuild, mark);
+
         return query;
     }
 
     /**
-     * 프로젝션 속에서 table.field 로 되어있는 구문을 찾는다.
-     * @param projectionArgs 프로젝션 정보
-     * @param sort Sort 아이템
+     * 정렬 정보 목록의 필드를 해석하여 정렬 식 목록을 가진 쿼리 계획을 만든다.
+     * @param sorts 정렬 정보 목록
+     * @param queryTables 쿼리 안 테이블 정보
+     * @param projection 프로젝션 인덱스
+     * @return 쿼리 계획
      */
-    private String findStatementForDot(Object[] projectionArgs, SortItem sort){
-        String statement = "";
-        try {
-            // 가능성높은 키워드를 만든다.
-            String dotWithField = String.format(".%s",sort.getField());
+    @SuppressWarnings("unchecked")
+    protected QueryPlan compileOrderPlan(List<SortItem> sorts, List<JoinExpression> queryTables, ProjectionIndex projection) {
+        List<OrderSpecifier<?>> orderSpecifiers = new ArrayList<>();
 
-            // 쿼리안에서 키워드와 일치하는 셀렉트 구문을 찾는다.
-            List<String> foundKeywords = Arrays.stream(projectionArgs).filter(i -> i.toString().contains(dotWithField)).map(Objects::toString).collect(Collectors.toList());
-
-            // orderBy 가능한 필드를 찾았다면
-            if(foundKeywords.size() > 0) {
-                // 대상을 가져온다.
-                String target = foundKeywords.get(0);
-
-                // . 으로 분리
-                String table = Arrays.stream(target.split("\\.")).findFirst().orElse("");
-
-                // 공백 제거
-                table = table.trim();
+        // 전체 소팅에 대해 처리한다.
+        for (SortItem sort : sorts) {
+            // 프로젝션 인덱스에서 사용자가 요청한 소트 정보 (필드명 / 별칭) 와 일치하는 경로를 찾는다.
+            Path<?> path = projection.findPath(sort.getTable(), sort.getField());
 
-                // 유효한 텍스트가 아닌경우
-                if(!StringUtils.hasText(table))
-                    return "";
+            // 찾지못한 경우 테이블 정보속에서 전체 검색한다.
+            if(path == null)
+                path = findPathFromTable(queryTables, sort.getField());
 
-                statement = String.format("%s.%s", table , sort.getField()).replace("+","");
-            }
-        } catch (Exception ex) {
-            MoreExceptionHandler.Log(ex);
+            // 찾은 경우 정렬 방향별로 처리한다.
+            if(path != null)
+                orderSpecifiers.add(new OrderSpecifier(isDescending(sort) ? Order.DESC : Order.ASC, path));
         }
 
-        return statement;
+        // 찾지 못한 정렬 필드가 있는 경우 캐시하지 않는다.
+        return new QueryPlan(null, null, orderSpecifiers, orderSpecifiers.size() == sorts.size());
     }
 
     /**
-     * 프로젝션 속에서 table.field 로 되어있는 구문을 찾는다.
-     * @param fieldName 필드명
+     * 내림차순 정렬인지 여부를 반환한다.
+     * @param sort 정렬 정보
+     * @return 내림차순인 경우 true
      */
-    private String findWhereStatementFromTable(String fieldName){
-        String statement = "";
-        try {
-            // 모든 테이블 정보에서 찾는다.
-            for (JoinExpression joinExpression : this.queryTables) {
-                // Q queryDsL 클래스로 리플렉션을 시도한다.
-                Class QClass = joinExpression.getTarget().getClass();
-                List<Field> fields = Arrays.stream(QClass.getFields()).collect(Collectors.toList());
-
-                // 필드명을 찾는다.
-                Optional<Field> optional = fields.stream().filter(i -> i.getName().contains(fieldName)).findFirst();
-
-                // 찾은 경우
-                if(optional.isPresent()) {
-                    statement = String.format("%s.%s", joinExpression.getTarget() , fieldName);
-                    break;
-                }
-            }
-        } catch (Exception ex) {
-            MoreExceptionHandler.Log(ex);
-        }
+    private static boolean isDescending(SortItem sort) {
+        return sort.getDirection() != null && sort.getDirection().equalsIgnoreCase("desc");
+    }
 
-        return statement;
+    /**
+     * 쿼리 안 테이블 목록의 대상 식 목록을 반환한다.
+     * @param queryTables 쿼리 안 테이블 정보
+     * @return 대상 식 목록
+     */
+    private static List<Expression<?>> getTableTargets(List<JoinExpression> queryTables) {
+        List<Expression<?>> result = new ArrayList<>(queryTables.size());
+        for (JoinExpression joinExpression : queryTables)
+            result.add(joinExpression.getTarget());
+        return result;
     }
 
     /**
-     * 테이블 정보 속에서 구문을 찾는다.
-     * @param projectionArgs 프로젝션 정보
-     * @param sort Sort 아이템
+     * 쿼리 안 테이블의 Q 클래스 인스턴스에서 필드명에 해당하는 실제 경로를 찾는다.
+     * @param queryTables 쿼리 안 테이블 정보
+     * @param fieldName 필드명
+     * @return 경로 (없는 경우 null)
      */
-    private String findStatementForAs(Object[] projectionArgs, SortItem sort){
-        String statement = "";
+    private Path<?> findPathFromTable(List<JoinExpression> queryTables, String fieldName){
         try {
-            // AS 로 된 키워드를 만든다.
-            String asWithField = String.format("as %s",sort.getField());
-
-            // 쿼리안에서 키워드와 일치하는 셀렉트 구문을 찾는다.
-            List<String> foundKeywords = Arrays.stream(projectionArgs).filter(i -> i.toString().contains(asWithField)).map(Objects::toString).collect(Collectors.toList());
-
-            // orderBy 가능한 필드를 찾았다면
-            if(foundKeywords.size() > 0) {
-                // 대상을 가져온다.
-                String target = foundKeywords.get(0);
-
-                // as 으로 분리
-                String field = target.split("as ")[target.split("as ").length - 1];
+            // 모든 테이블 정보에서 찾는다.
+            for (JoinExpression joinExpression : queryTables) {
+                // Q queryDsL 클래스의 캐시된 메타 정보에서 경로를 찾는다.
+                Path<?> found = SearchFilterMetadataRegistry.findQueryPath(joinExpression.getTarget(), fieldName);
 
-                // 유효한 텍스트가 아닌경우
-                if(!StringUtils.hasText(field))
-                    return "";
+                // 찾은 경우
+                if(found != null)
+                    return found;
             }
         } catch (Exception ex) {
             MoreExceptionHandler.Log(ex);
         }
 
-        return statement;
+        return null;
     }
 
-
     /**
      * 요청에 해당 검색어가 포함되어있는지 확인한다.
      * @param key 검색어 키값
@@ -763,43 +1531,6 @@ public class QueryDSLProvider implements IDatabaseProvider {
             this.predicates.addAll(Arrays.asList(predicates));
     }
 
-    /**
-     * 사용자가 검색 요청하는 값을 기준으로 , 셀렉트 메타정보속에서 일치하는 쿼리 정보를 찾아낸다.
-     * @param possibleKey 찾고자 시도하는 값
-     * @param projectionArgs 프로젝션 정보
-     */
-    private String findWhereStatement(String possibleKey, Object[] projectionArgs) {
-        String result = "";
-        try {
-            // 가능성높은 키워드를 만든다.
-            String dotWithField = String.format(".%s",possibleKey);
-
-            // 쿼리안에서 키워드와 일치하는 셀렉트 구문을 찾는다.
-            List<String> foundKeywords = Arrays.stream(projectionArgs).filter(i -> i.toString().contains(dotWithField)).map(Objects::toString).collect(Collectors.toList());
-
-            // where 가능한 필드를 찾았다면
-            if(foundKeywords.size() > 0) {
-                // 대상을 가져온다.
-                String target = foundKeywords.get(0);
-
-                // . 으로 분리
-                String table = Arrays.stream(target.split("\\.")).findFirst().orElse("");
-
-                // 공백 제거
-                table = table.trim();
-
-                // 유효한 텍스트가 아닌경우
-                if(!StringUtils.hasText(table))
-                    return "";
-
-                return String.format("%s.%s", table , possibleKey).replace("+","");
-            }
-        }catch (Exception ex) {
-            MoreExceptionHandler.Log(ex);
-        }
-        return result;
-    }
-
     /**
      * 실제 필드명을 테이블 이름과 함께 반환한다.
      * @param defaultTable 기본 테이블명
@@ -840,168 +1571,171 @@ public class QueryDSLProvider implements IDatabaseProvider {
 
     /**
      * 사용자의 요청 정보와 프로젝션 정보로 검색 키워드 리스트정보로 변환하여 리턴한다.
+     * 필드 해석 결과는 쿼리 계획으로 캐시되며, 요청의 검색 값만 바인딩한다.
+     * @param context 쿼리 컨텍스트
+     * @param queryTables 쿼리 안 테이블 정보
      * @param clazz 응답 클래스 정보
-     * @param projectionArgs 프로젝션 정보
+     * @param projection 프로젝션 인덱스
      * @return List<KeywordSearchItem>
      */
-    protected List<KeywordSearchItem> getSearchFields(Class clazz, Object[] projectionArgs)
+    protected List<KeywordSearchItem> getSearchFields(QueryContext context, List<JoinExpression> queryTables, Class clazz, ProjectionIndex projection)
     {
         List<KeywordSearchItem> result = new ArrayList<>();
+        List<String> searchFields = context.getSearchFieldList();
+        List<String> searchValues = context.getSearchValueList();
 
         // 검색 필드 및 검색할 값이 존재하는 경우
-        if(searchFields != null && searchFields.length > 0 && searchValues != null && searchValues.length > 0 && searchFields.length == searchValues.length)
+        if(!searchFields.isEmpty() && !searchValues.isEmpty() && searchFields.size() == searchValues.size())
         {
-            Map<String, KeywordSearchItem> searchFieldMap = new HashMap<>();
-
-            // 실제 스트링패스
-            String columnPath = "";
-
-            // 검색 필드 목록을 모두 소문자로 변환
-            for(int index = 0; index < searchFields.length; index++) {
-                String[] values = searchValues[index].split(";");
-
-                // 검색할 필드명을 가져온다.
-                String searchField = searchFields[index];
-
-                // 필터정보
-                SearchFilterImplement foundFilter = null;
-
-                // 응답 클래스 형 으로부터 찾는다., 즉 필터는 응답클래스를 우선시한다.
-                foundFilter = findSearchFilterInClass(clazz,searchField);
-                Field foundFilterField = null;
-                // 찾지 못한경우
-                if(foundFilter == null){
-                    foundFilterField = getFieldFromTable(searchField);
-
-                    // 리플렉션으로 찾아온 필드가 있다면
-                    if(foundFilterField != null){
-                        // 메타정보 로부터 찾는다.
-                        foundFilter = findSearchFilterInFromTableMetas(foundFilterField);
-                    }
-                }
-
-                // 메타 정보로부터도 찾지못한경우
-                if(foundFilter == null){
-                    // 기본 필터정보로 세팅한다.
-                    foundFilter = new SearchFilterImplement(foundFilterField !=null? foundFilterField.getType() : String.class,"",EnumFieldSearchType.StringLike,true);
-                }
-
-                // 프로젝션 정보에서 ColumnPath 를 찾는다.
-                columnPath = foundColumnPathInProjection(searchField,projectionArgs);
-
-                // 프로젝션 정보에서 찾지 못한경우
-                if(!StringUtils.hasText(columnPath)) {
-                    // 필드 정보가 존재할경우
-                    if(foundFilterField != null) {
-                        // 클래스 정보를 이용하여 검색 필드 정보를 만든다.
-                        String[] splited = foundFilterField.getDeclaringClass().getName().split("\\.");
-                        columnPath = String.format("%s.%s",lowercaseFirstLetter(splited[splited.length-1]), searchField);
-                    }
-                }
-
-                // 해당 검색 필드가 존재하지 않는 경우
-                if(!searchFieldMap.containsKey(columnPath))
-                    searchFieldMap.put(columnPath, new KeywordSearchItem(searchField, columnPath, List.of(values), foundFilter.searchType(), foundFilter.getType()));
+            // 검색 필드별 검색 값 (먼저 요청된 값을 우선한다.)
+            Map<String, String> values = new HashMap<>();
+            for(int index = 0; index < searchFields.size(); index++) {
+                if(searchFields.get(index) != null && searchValues.get(index) != null)
+                    values.putIfAbsent(searchFields.get(index), searchValues.get(index));
             }
 
-            result.addAll(searchFieldMap.values());
+            // 검색 계획의 모든 바인딩에 대해 검색 값을 바인딩한다.
+            QueryPlan plan = this.getSearchPlan(context, queryTables, clazz, projection);
+            for (QueryPlan.SearchBinding binding : plan.getSearchBindings()) {
+                String value = values.get(binding.getSearchField());
+                if(value != null)
+                    result.add(binding.bind(List.of(value.split(";"))));
+            }
         }
 
         return result;
     }
 
-    String lowercaseFirstLetter(String input) {
-        if (input.isEmpty()) {
-            return input;
+    /**
+     * 같은 모양의 검색 요청에 대한 검색 계획을 가져온다. (없는 경우 만들어 캐시한다.)
+     * @param context 쿼리 컨텍스트
+     * @param queryTables 쿼리 안 테이블 정보
+     * @param clazz 응답 클래스 정보
+     * @param projection 프로젝션 인덱스
+     * @return 쿼리 계획
+     */
+    protected QueryPlan getSearchPlan(QueryContext context, List<JoinExpression> queryTables, Class clazz, ProjectionIndex projection) {
+        // 검색 필드는 정렬하여 요청 순서와 상관없이 같은 계획 (같은 JPQL) 을 사용한다.
+        TreeSet<String> searchFields = new TreeSet<>();
+        for (String searchField : context.getSearchFieldList()) {
+            if(searchField != null)
+                searchFields.add(searchField);
         }
+        List<String> periodFields = context.getSearchPeriodFieldList();
 
-        char firstChar = Character.toLowerCase(input.charAt(0));
-        return firstChar + input.substring(1);
+        // 검색 필드 목록 뒤에 구분자와 기간 검색 필드 목록을 붙여 키로 사용한다.
+        List<String> planFields = new ArrayList<>(searchFields);
+        planFields.add("\u0000");
+        planFields.addAll(periodFields);
+
+        QueryPlan.Key key = new QueryPlan.Key("search", context.getName(), clazz, projection.getProjection(), getTableTargets(queryTables), planFields);
+        return QueryPlan.of(key, () -> this.compileSearchPlan(new ArrayList<>(searchFields), periodFields, queryTables, clazz, projection));
     }
 
     /**
-     *
-     * @param searchField
-     * @return
+     * 검색 필드와 기간 검색 필드를 해석하여 검색 계획을 만든다.
+     * @param searchFields 검색 필드 목록
+     * @param periodFields 기간 검색 필드 목록
+     * @param queryTables 쿼리 안 테이블 정보
+     * @param clazz 응답 클래스 정보
+     * @param projection 프로젝션 인덱스
+     * @return 쿼리 계획
      */
-    private String foundColumnPathInTableMetas(String searchField) {
-        String result = "";
-        try {
-            // 모든 테이블 정보에서 찾는다.
-            for (JoinExpression joinExpression : this.queryTables) {
-                // Q queryDsL 클래스로 리플렉션을 시도한다.
-                Class EntityClass = joinExpression.getTarget().getClass().getSuperclass();
-                List<Field> fields = Arrays.stream(EntityClass.getFields()).collect(Collectors.toList());
+    protected QueryPlan compileSearchPlan(List<String> searchFields, List<String> periodFields, List<JoinExpression> queryTables, Class clazz, ProjectionIndex projection) {
+        Map<String, QueryPlan.SearchBinding> searchBindings = new LinkedHashMap<>();
+        boolean resolved = true;
 
-                // 필드명을 찾는다.
-                Optional<Field> optional = fields.stream().filter(i -> i.getName().contains(searchField)).findFirst();
+        // 모든 검색 필드에 대해 처리
+        for (String searchField : searchFields) {
+            QueryPlan.SearchBinding binding = this.resolveSearchBinding(searchField, queryTables, clazz, projection);
 
-                // 찾은 경우
-                if(optional.isPresent()) {
-                    result = String.format("%s.%s", joinExpression.getTarget() , searchField);
-                    break;
-                }
-            }
-        }catch (Exception ex){
-            MoreExceptionHandler.Log(ex);
+            // 컬럼 경로를 찾지 못한 필드가 있는 경우
+            if(binding.getPath() == null && !StringUtils.hasText(binding.getColumnPath()))
+                resolved = false;
+
+            // 같은 컬럼에 대한 검색은 먼저 해석된 필드를 사용한다.
+            searchBindings.putIfAbsent(binding.getColumnPath(), binding);
         }
-        return result;
+
+        // 기간 검색 필드를 찾지 못한 경우
+        List<QueryPlan.PeriodBinding> periodBindings = this.resolvePeriodBindings(periodFields, clazz, projection);
+        if(periodBindings.size() != periodFields.size())
+            resolved = false;
+        for (QueryPlan.PeriodBinding binding : periodBindings) {
+            if(binding.getPath() == null && !StringUtils.hasText(binding.getColumnPath()))
+                resolved = false;
+        }
+
+        // 찾지 못한 필드가 있는 계획은 캐시하지 않는다.
+        return new QueryPlan(new ArrayList<>(searchBindings.values()), periodBindings, null, resolved);
     }
 
     /**
-     *
-     * @param searchField
-     * @param projectionArgs
-     * @return
+     * 검색 필드의 필터 정보와 컬럼 경로를 해석한다.
+     * @param searchField 검색 필드명
+     * @param queryTables 쿼리 안 테이블 정보
+     * @param clazz 응답 클래스 정보
+     * @param projection 프로젝션 인덱스
+     * @return 검색 필드 해석 결과
      */
-    private String foundColumnPathInProjection(String searchField, Object[] projectionArgs) {
-        String result = "";
-        try {
-            // StringPath 데이터를 가져온다.
-            result = findWhereStatement(searchField,projectionArgs);
-        }catch (Exception ex){
-            MoreExceptionHandler.Log(ex);
+    protected QueryPlan.SearchBinding resolveSearchBinding(String searchField, List<JoinExpression> queryTables, Class clazz, ProjectionIndex projection) {
+        // 응답 클래스 형 으로부터 찾는다., 즉 필터는 응답클래스를 우선시한다.
+        SearchFilterImplement foundFilter = findSearchFilterInClass(clazz,searchField);
+        SearchFieldMetadata foundFilterField = null;
+        // 찾지 못한경우
+        if(foundFilter == null){
+            foundFilterField = getFieldFromTable(queryTables, searchField);
+
+            // 리플렉션으로 찾아온 필드가 있다면
+            if(foundFilterField != null){
+                // 메타정보 로부터 찾는다.
+                foundFilter = foundFilterField.getFilter();
+            }
         }
-        return result;
-    }
 
-    private Field getFieldFromTable(String searchField) {
-        Field result = null;
+        // 메타 정보로부터도 찾지못한경우
+        if(foundFilter == null){
+            // 기본 필터정보로 세팅한다.
+            foundFilter = new SearchFilterImplement(foundFilterField !=null? foundFilterField.getField().getType() : String.class,"",EnumFieldSearchType.StringLike,true);
+        }
 
-        // 모든 테이블 정보에서 찾는다.
-        for (JoinExpression joinExpression : this.queryTables) {
-            // Q queryDsL 클래스로 리플렉션을 시도한다.
-            ParameterizedType parameterizedTypes = ((ParameterizedType)joinExpression.getTarget().getClass().getGenericSuperclass());
-            Class<?> entityClass = (Class<?>) parameterizedTypes.getActualTypeArguments()[0];
-            List<Field> fields = List.of(entityClass.getDeclaredFields());
-
-            // 필드명을 찾는다.
-            Optional<Field> optional = fields.stream().filter(i -> i.getName().contains(searchField)).findFirst();
-            if(optional.isPresent()){
-                return optional.get();
+        // 프로젝션 정보에서 ColumnPath 를 찾는다.
+        String columnPath = projection.findStatement(searchField);
+
+        // 프로젝션 정보에서 찾지 못한경우
+        if(!StringUtils.hasText(columnPath)) {
+            // 필드 정보가 존재할경우
+            if(foundFilterField != null) {
+                // 클래스 정보를 이용하여 만들어 둔 검색 필드 정보를 사용한다.
+                columnPath = foundFilterField.getColumnPath();
             }
         }
-        return null;
+
+        // 실제 경로를 찾는다. (프로젝션 경로를 우선하고, 없는 경우 쿼리 안 테이블의 경로를 사용한다.)
+        Path<?> path = projection.findPath(searchField);
+        if(path == null && foundFilterField != null)
+            path = findPathFromTable(queryTables, foundFilterField.getField().getName());
+
+        return new QueryPlan.SearchBinding(searchField, columnPath, foundFilter.searchType(), foundFilter.getType(), path
+                , foundFilter.strategies(), foundFilter.normalizedField(), foundFilter.fullTextFunction(), foundFilter.selectivity());
     }
 
     /**
-     * 메타테이블 정보로부터 필터정보를 찾는다.
+     * 쿼리 안 테이블의 엔티티 클래스에서 검색 필드 메타 정보를 찾는다.
+     * @param queryTables 쿼리 안 테이블 정보
+     * @param searchField 찾고자 하는 필드명
+     * @return 검색 필드 메타 정보
      */
-    private SearchFilterImplement findSearchFilterInFromTableMetas(Field field) {
-        SearchFilterImplement searchFilter = null;
-        try {
-            SearchFilter filter = field.getAnnotation(SearchFilter.class);
-
-            // 필터가 존재하는경우
-            if(filter != null){
-                searchFilter = new SearchFilterImplement(field.getDeclaringClass(),"",filter.searchType(),filter.isDateOnly());
+    private SearchFieldMetadata getFieldFromTable(List<JoinExpression> queryTables, String searchField) {
+        // 모든 테이블 정보에서 찾는다.
+        for (JoinExpression joinExpression : queryTables) {
+            // Q queryDsL 클래스의 엔티티 메타 정보에서 필드명을 찾는다.
+            SearchFieldMetadata found = SearchFilterMetadataRegistry.findEntityField(joinExpression.getTarget().getClass(), searchField);
+            if(found != null){
+                return found;
             }
-
-            return searchFilter;
-        }catch (Exception ex) {
-            MoreExceptionHandler.Log(ex);
         }
-        return searchFilter;
+        return null;
     }
 
     /**
@@ -1012,24 +1746,12 @@ public class QueryDSLProvider implements IDatabaseProvider {
     private SearchFilterImplement findSearchFilterInClass(Class clazz, String searchField) {
         SearchFilterImplement searchFilter = null;
         try {
-            // 모든 클래스의 필드를 가져온다.
-            Field[] fields = clazz.getDeclaredFields();
-
-            // 필드 정보를 찾는다.
-            Optional<Field> foundOptional = Arrays.stream(fields).filter(field -> field.getName().equalsIgnoreCase(searchField)).findFirst();
+            // 캐시된 클래스 메타 정보에서 필드 정보를 찾는다.
+            SearchFieldMetadata found = SearchFilterMetadataRegistry.findResponseField(clazz, searchField);
 
-            // 찾지 못한경우
-            if(foundOptional.isEmpty())
-                return null;
-
-            // 필드정보를 가져온다.
-            Field field = foundOptional.get();
-            SearchFilter filter = field.getAnnotation(SearchFilter.class);
-
-            // 필터가 존재하는경우
-            if(filter != null){
-                searchFilter = new SearchFilterImplement(field.getType(),"",filter.searchType(),filter.isDateOnly());
-            }
+            // 찾은 경우 필터 정보를 가져온다.
+            if(found != null)
+                searchFilter = found.getFilter();
 
             return searchFilter;
         }catch (Exception ex) {
@@ -1038,95 +1760,75 @@ public class QueryDSLProvider implements IDatabaseProvider {
         return searchFilter;
     }
 
-    /**
-     * [리플렉션] 테이블 메타 정보안에서 Field 정보를 찾아서 가져온다
-     * @param searchField 찾고자 하는 필드명
-     * @return Field 리플렉션 값
-     */
-    private Field findWhereFieldInTargetTable(String searchField) {
-        Field field = null;
-        try {
-            // 모든 테이블 정보에서 찾는다.
-            for (JoinExpression joinExpression : this.queryTables) {
-                // Q queryDsL 클래스로 리플렉션을 시도한다.
-                Class QClass = joinExpression.getTarget().getClass();
-                List<Field> fields = Arrays.stream(QClass.getFields()).collect(Collectors.toList());
-
-                // 필드명을 찾는다.
-                Optional<Field> optional = fields.stream().filter(i -> i.getName().contains(searchField)).findFirst();
-
-                // 찾은 경우
-                if(optional.isPresent()) {
-                    return optional.get();
-                }
-            }
-        }catch (Exception ex) {
-            MoreExceptionHandler.Log(ex);
-        }
-        return field;
-    }
-
     /**
      * 사용자의 요청 정보와 프로젝션 정보로 검색 기간정보로 리턴한다.
+     * 필드 해석 결과는 쿼리 계획으로 캐시되며, 요청의 기간만 바인딩한다.
+     * @param context 쿼리 컨텍스트
+     * @param queryTables 쿼리 안 테이블 정보
      * @param clazz 응답 클래스 정보
-     * @param projectionArgs 프로젝션 정보
+     * @param projection 프로젝션 인덱스
      * @return List<PeriodSearchItem>
      */
-    protected List<PeriodSearchItem> getPeriodSearchFields(Class clazz, Object[] projectionArgs)
+    protected List<PeriodSearchItem> getPeriodSearchFields(QueryContext context, List<JoinExpression> queryTables, Class clazz, ProjectionIndex projection)
     {
         List<PeriodSearchItem> result = new ArrayList<>();
+        List<String> searchFields = context.getSearchFieldList();
+        List<String> searchPeriodFields = context.getSearchPeriodFieldList();
+        List<Date> searchStartDates = context.getSearchStartDateList();
+        List<Date> searchEndDates = context.getSearchEndDateList();
 
         // 기간 검색 필드 및 검색 시작/종료 일시 항목이 존재하는 경우
-        if(searchPeriodFields != null && searchPeriodFields.length > 0 && searchStartDates != null && searchStartDates.length > 0 && searchEndDates != null && searchEndDates.length > 0
-                && searchFields.length <= searchStartDates.length && searchFields.length <= searchEndDates.length)
+        if(!searchPeriodFields.isEmpty() && !searchStartDates.isEmpty() && !searchEndDates.isEmpty()
+                && searchFields.size() <= searchStartDates.size() && searchFields.size() <= searchEndDates.size())
         {
-            Map<String, PeriodSearchItem> searchFieldMap = new HashMap<>();
-
-            String columnPath = "";
-
-            // 클래스의 모든  필드를 가져온다.
-            Field[] fields = clazz.getDeclaredFields();
-
-            // 부모 클래스의 모든 필드를 가져온다.
-            Field[] superFields = clazz.getSuperclass().getDeclaredFields();
-
-            // 검색 필드 목록을 모두 소문자로 변환
-            for(int index = 0; index < searchPeriodFields.length; index++) {
-                // 검색할 필드명을 가져온다.
-                String searchField = searchPeriodFields[index];
+            // 검색 계획의 모든 바인딩에 대해 기간을 바인딩한다.
+            QueryPlan plan = this.getSearchPlan(context, queryTables, clazz, projection);
+            for (QueryPlan.PeriodBinding binding : plan.getPeriodBindings()) {
+                int index = binding.getIndex();
+                if(index < searchStartDates.size() && index < searchEndDates.size())
+                    result.add(binding.bind(searchStartDates.get(index), searchEndDates.get(index)));
+            }
+        }
 
-                // 필드 정보를 찾는다.
-                Optional<Field> foundOptional = Arrays.stream(fields).filter(field -> field.getName().equalsIgnoreCase(searchField)).findFirst();
+        return result;
+    }
 
-                // 클래스안에 검색 가능한 프러퍼티가 없는 경우
-                if(foundOptional.isEmpty()){
-                    // 부모클래스에서 찾는다.
-                    foundOptional = Arrays.stream(superFields).filter(field -> field.getName().equalsIgnoreCase(searchField)).findFirst();
-                }
+    /**
+     * 기간 검색 필드 목록을 해석한다.
+     * 날짜 타입이 아닌 필드가 포함된 경우 기간 검색을 하지 않는다.
+     * @param periodFields 기간 검색 필드 목록
+     * @param clazz 응답 클래스 정보
+     * @param projection 프로젝션 인덱스
+     * @return 기간 검색 필드 해석 결과 목록
+     */
+    protected List<QueryPlan.PeriodBinding> resolvePeriodBindings(List<String> periodFields, Class clazz, ProjectionIndex projection) {
+        List<QueryPlan.PeriodBinding> result = new ArrayList<>();
 
-                // 그래도 없을경우
-                if(foundOptional.isEmpty()){
-                    continue;
-                }
+        // 모든 기간 검색 필드에 대해 처리
+        for(int index = 0; index < periodFields.size(); index++) {
+            // 검색할 필드명을 가져온다.
+            String searchField = periodFields.get(index);
 
-                Field foundField = foundOptional.get();
+            // 클래스 및 부모 클래스의 캐시된 메타 정보에서 필드 정보를 찾는다.
+            SearchFieldMetadata foundField = SearchFilterMetadataRegistry.findResponseFieldWithSuper(clazz, searchField);
 
-                // StringPath 데이터를 가져온다.
-                columnPath = findWhereStatement(searchField,projectionArgs);
+            // 검색 가능한 프러퍼티가 없을경우
+            if(foundField == null){
+                continue;
+            }
 
-                // 결과 Enum 타입
-                SearchFilter searchFilter = foundField.getAnnotation(SearchFilter.class);
+            // StringPath 데이터를 가져온다.
+            String columnPath = projection.findStatement(searchField);
 
-                // Date 형이 아닌경우
-                if(searchFilter.searchType() != EnumFieldSearchType.Date)
-                    return result;
+            // 결과 Enum 타입
+            SearchFilterImplement searchFilter = foundField.getFilter();
 
-                // 해당 필드가 존재하는 경우
-                if(!searchFieldMap.containsKey(columnPath))
-                    searchFieldMap.put(columnPath, new PeriodSearchItem(columnPath, searchStartDates[index], searchEndDates[index], searchFilter.isDateOnly()));
-            }
+            // Date 형이 아닌경우
+            if(searchFilter == null || searchFilter.searchType() != EnumFieldSearchType.Date)
+                return new ArrayList<>();
 
-            result.addAll(searchFieldMap.values());
+            // 같은 필드의 여러 기간은 조건을 만들 때 합친다. (PeriodPredicateBuilder)
+            result.add(new QueryPlan.PeriodBinding(index, searchField, columnPath, searchFilter.isDateOnly(), projection.findPath(searchField), searchFilter.partitionHint()));
         }
 
         return result;
@@ -1171,7 +1873,8 @@ public class QueryDSLProvider implements IDatabaseProvider {
                 long totalCount = sourceList == null ? 0 : sourceList.size();
 
                 // 페이징을 적용하여 목록 응답 객체 생성
-                result = new QueryResults<>(sourceList
+                // 조회한 목록은 다른 곳에서 사용하지 않으므로 복사하지 않고 넘겨준다.
+                result = QueryResults.adopt(sourceList
                         , totalCount, 0, Integer.MAX_VALUE, 20);
             }
         } catch (Exception e) {
@@ -1195,7 +1898,7 @@ public class QueryDSLProvider implements IDatabaseProvider {
     public   <T, D> QueryResults<D> createQueryResults(JPAQuery<T> source, List<SortItem> orders, Class<D> destClazz) {
         QueryResults<D> result = new QueryResults<>();
         List<T> sourceList;
-        List<D> destinationList = new ArrayList<>();
+        List<D> destinationList = null;
 
         try {
             if (source != null)
@@ -1209,6 +1912,9 @@ public class QueryDSLProvider implements IDatabaseProvider {
                 // 페이징을 적용한 목록을 가져온다.
                 sourceList = query.fetch();
 
+                // 대상 객체 목록 (조회된 수 만큼 미리 할당한다.)
+                destinationList = new ArrayList<>(sourceList == null ? 0 : sourceList.size());
+
                 // 데이터가 존재하는 경우
                 if (sourceList != null && sourceList.size() > 0)
                 {
@@ -1227,7 +1933,8 @@ public class QueryDSLProvider implements IDatabaseProvider {
                 long totalCount = sourceList == null ? 0 : sourceList.size();
 
                 // 페이징을 적용하여 목록 응답 객체 생성
-                result = new QueryResults<>(destinationList
+                // 변환한 목록은 다른 곳에서 사용하지 않으므로 복사하지 않고 넘겨준다.
+                result = QueryResults.adopt(destinationList
                         , totalCount, 0, Integer.MAX_VALUE, 20);
             }
         } catch (Exception e) {
@@ -1238,6 +1945,76 @@ public class QueryDSLProvider implements IDatabaseProvider {
     }
 
 
+    /**
+     * 주어진 쿼리 원본으로 부터 전체 레코드를 목록으로 만들지 않고 스트림으로 반환한다.
+     * 스트림은 커서 (ScrollableResults) 기반이므로 사용 후 반드시 닫아야 한다. (try-with-resources)
+     * 엔티티를 조회하는 경우 영속성 컨텍스트에 쌓이므로 가능하면 프로젝션 (DTO) 쿼리를 사용한다.
+     * @param source JPAQuery<T> 객체
+     * @param orders 정렬필드 정보 목록
+     * @param fetchSize 한번에 가져올 레코드 수 (0 이하인 경우 기본값)
+     * @param <T> 원본 타입
+     * @return 레코드 스트림
+     */
+    @Override
+    public <T> Stream<T> createQueryStream(JPAQuery<T> source, List<SortItem> orders, int fetchSize) {
+        try {
+            if (source != null)
+            {
+                // 정렬 적용
+                JPAQuery<T> query = orderByWithDirection(source, orders);
+
+                // 커서로 fetchSize 만큼씩 읽어오는 읽기 전용 스트림을 반환한다.
+                return query.setHint(QueryHints.FETCH_SIZE, fetchSize > 0 ? fetchSize : DEFAULT_FETCH_SIZE)
+                        .setHint(QueryHints.READ_ONLY, true)
+                        .stream();
+            }
+        } catch (Exception e) {
+            MoreExceptionHandler.Log(e);
+        }
+
+        return Stream.empty();
+    }
+
+    /**
+     * 주어진 쿼리 원본으로 부터 전체 레코드를 목록으로 만들지 않고 레코드 별로 형 변환하는 스트림을 반환한다.
+     * 형 변환은 레코드를 읽을 때 마다 수행되므로 레코드 수와 상관없이 메모리 사용량이 일정하다.
+     * @param source JPAQuery<T> 객체
+     * @param orders 정렬필드 정보 목록
+     * @param destClazz 대상 타입 클래스 객체
+     * @param fetchSize 한번에 가져올 레코드 수 (0 이하인 경우 기본값)
+     * @param <T> 원본 타입
+     * @param <D> 대상 타입
+     * @return 레코드 스트림
+     */
+    @Override
+    public <T, D> Stream<D> createQueryStream(JPAQuery<T> source, List<SortItem> orders, Class<D> destClazz, int fetchSize) {
+        return this.createQueryStream(source, orders, fetchSize)
+                .map(item -> ObjectUtils.createAndCopy(item, destClazz));
+    }
+
+    /**
+     * 주어진 쿼리 원본의 전체 레코드를 응답 객체로 만들지 않고 CSV 로 채널에 쓴다. (첫 줄은 컬럼명, 채널은 닫지 않는다.)
+     * 컬럼명과 값 형식은 프로젝션의 인자 식 (Q 클래스 경로 / 별칭) 으로 정한다.
+     * 정렬 정보만 적용되며, 검색/기간 조건 (setRequestResources / QueryContext) 은 적용되지 않으므로 필요한 조건은 쿼리 원본에 포함해야 한다.
+     * @param source JPAQuery<T> 객체 (프로젝션이 있어야 한다.)
+     * @param orders 정렬필드 정보 목록
+     * @param channel 출력 채널 (FileChannel / Channels.newChannel(OutputStream) 등)
+     * @param fetchSize 한번에 가져올 레코드 수 (0 이하인 경우 기본값)
+     * @param <T> 원본 타입
+     * @return 내보낸 레코드 수 (실패한 경우 -1)
+     */
+    @Override
+    public <T> long exportCsv(JPAQuery<T> source, List<SortItem> orders, WritableByteChannel channel, int fetchSize) {
+        try {
+            if (source != null && channel != null)
+                return CsvExporter.export(orderByWithDirection(source, orders), channel, fetchSize > 0 ? fetchSize : DEFAULT_FETCH_SIZE);
+        } catch (Exception e) {
+            MoreExceptionHandler.Log(e);
+            return -1;
+        }
+        return 0;
+    }
+
     /**
      * 필드명 및 정렬 방향 문자열로 쿼리를 작성한다.
      * @param source 쿼리 소스
@@ -0,0 +1,344 @@
+package com.john.jpahush.providers;
+
+import com.john.jpahush.data.commondata.enums.EnumFieldSearchType;
+import com.john.jpahush.data.commondata.enums.EnumSearchStrategy;
+import com.john.jpahush.data.commondata.queries.KeywordSearchItem;
+import com.john.jpahush.data.commondata.queries.PeriodSearchItem;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.OrderSpecifier;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * 같은 모양의 목록 조회 요청에 대해 필드 해석 결과 (컬럼 경로, 검색 필터, 정렬 식) 를 재사용하기 위한 쿼리 계획
+ * 조건 식 자체는 캐시하지 않으며, 요청마다 해석된 필드에 검색 값을 바인딩하여 조건을 새로 만든다.
+ * 쿼리명, 응답 클래스, 프로젝션, 쿼리 안 테이블, 검색/정렬 필드명 목록이 같은 경우 같은 계획을 사용하며,
+ * 바인딩 순서가 고정되므로 같은 모양의 요청은 같은 JPQL 을 만든다.
+ * 해석되지 않은 필드가 포함된 계획은 캐시하지 않으므로 임의의 필드명 요청으로 캐시가 채워지지 않는다.
+ */
+@SuppressWarnings({"unused", "rawtypes"})
+public final class QueryPlan {
+
+    /**
+     * 캐시할 최대 계획 수
+     */
+    private static final int MAX_CACHE_SIZE = 1024;
+
+    /**
+     * 계획 캐시 (조회는 잠금 없이 수행되며, 최대 수를 넘는 경우 최근에 사용되지 않은 계획부터 제거한다.)
+     */
+    private static final BoundedCache<Key, QueryPlan> CACHE = new BoundedCache<>(MAX_CACHE_SIZE);
+
+    /**
+     * 키워드 검색 바인딩 목록 (검색 필드명 순)
+     */
+    private final List<SearchBinding> searchBindings;
+
+    /**
+     * 기간 검색 바인딩 목록 (요청 순, 같은 필드의 여러 기간을 포함한다.)
+     */
+    private final List<PeriodBinding> periodBindings;
+
+    /**
+     * 정렬 식 목록 (요청 순)
+     */
+    private final List<OrderSpecifier<?>> orderSpecifiers;
+
+    /**
+     * 요청한 필드가 모두 해석되었는지 여부 (false 인 경우 캐시하지 않는다.)
+     */
+    private final boolean resolved;
+
+    /**
+     * 생성자
+     * @param searchBindings 키워드 검색 바인딩 목록
+     * @param periodBindings 기간 검색 바인딩 목록
+     * @param orderSpecifiers 정렬 식 목록
+     */
+    public QueryPlan(List<SearchBinding> searchBindings, List<PeriodBinding> periodBindings, List<OrderSpecifier<?>> orderSpecifiers) {
+        this(searchBindings, periodBindings, orderSpecifiers, true);
+    }
+
+    /**
+     * 생성자
+     * @param searchBindings 키워드 검색 바인딩 목록
+     * @param periodBindings 기간 검색 바인딩 목록
+     * @param orderSpecifiers 정렬 식 목록
+     * @param resolved 요청한 필드가 모두 해석되었는지 여부
+     */
+    public QueryPlan(List<SearchBinding> searchBindings, List<PeriodBinding> periodBindings, List<OrderSpecifier<?>> orderSpecifiers, boolean resolved) {
+        this.searchBindings = searchBindings == null ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(searchBindings));
+        this.periodBindings = periodBindings == null ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(periodBindings));
+        this.orderSpecifiers = orderSpecifiers == null ? Collections.emptyList() : Collections.unmodifiableList(new ArrayList<>(orderSpecifiers));
+        this.resolved = resolved;
+    }
+
+    /**
+     * 키에 해당하는 계획을 가져온다. 없는 경우 만들어 캐시한다.
+     * @param key 계획 키
+     * @param compiler 계획 생성 함수
+     * @return 쿼리 계획
+     */
+    public static QueryPlan of(Key key, Supplier<QueryPlan> compiler) {
+        QueryPlan result = CACHE.get(key);
+        if(result == null) {
+            result = compiler.get();
+
+            // 모든 필드가 해석된 계획만 저장한다. (해석되지 않은 필드명은 키의 종류를 제한 없이 늘릴 수 있다.)
+            if(result.isResolved())
+                result = CACHE.putIfAbsent(key, result);
+        }
+        return result;
+    }
+
+    /**
+     * 캐시된 계획을 모두 삭제한다.
+     */
+    public static void clear() {
+        CACHE.clear();
+    }
+
+    /**
+     * 키워드 검색 바인딩 목록을 반환한다.
+     * @return 키워드 검색 바인딩 목록
+     */
+    public List<SearchBinding> getSearchBindings() {
+        return searchBindings;
+    }
+
+    /**
+     * 기간 검색 바인딩 목록을 반환한다.
+     * @return 기간 검색 바인딩 목록
+     */
+    public List<PeriodBinding> getPeriodBindings() {
+        return periodBindings;
+    }
+
+    /**
+     * 정렬 식 목록을 반환한다.
+     * @return 정렬 식 목록
+     */
+    public List<OrderSpecifier<?>> getOrderSpecifiers() {
+        return orderSpecifiers;
+    }
+
+    /**
+     * 요청한 필드가 모두 해석되었는지 여부를 반환한다.
+     * @return 모두 해석된 경우 true
+     */
+    public boolean isResolved() {
+        return resolved;
+    }
+
+    /**
+     * 계획 키
+     * 프로젝션 / 테이블은 QueryDSL 식의 구조 비교로 같은지 판단한다.
+     */
+    @Getter
+    public static final class Key {
+        /**
+         * 계획 종류 (search / order)
+         */
+        private final String kind;
+
+        /**
+         * 쿼리명
+         */
+        private final String name;
+
+        /**
+         * 응답 클래스
+         */
+        private final Class clazz;
+
+        /**
+         * 프로젝션 식
+         */
+        private final Expression<?> projection;
+
+        /**
+         * 쿼리 안 테이블 목록
+         */
+        private final List<Expression<?>> tables;
+
+        /**
+         * 필드명 목록
+         */
+        private final List<String> fields;
+
+        /**
+         * 해시 값
+         */
+        private final int hash;
+
+        /**
+         * 생성자
+         * @param kind 계획 종류 (search / order)
+         * @param name 쿼리명
+         * @param clazz 응답 클래스
+         * @param projection 프로젝션 식
+         * @param tables 쿼리 안 테이블 목록
+         * @param fields 필드명 목록
+         */
+        public Key(String kind, String name, Class clazz, Expression<?> projection, List<Expression<?>> tables, List<String> fields) {
+            this.kind = kind;
+            this.name = name == null ? "" : name;
+            this.clazz = clazz;
+            this.projection = projection;
+            this.tables = Collections.unmodifiableList(new ArrayList<>(tables));
+            this.fields = Collections.unmodifiableList(new ArrayList<>(fields));
+            this.hash = Objects.hash(this.kind, this.name, this.clazz, this.projection, this.tables, this.fields);
+        }
+
+        /**
+         * 같은 키인지 비교한다.
+         * @param other 비교할 객체
+         * @return 같은 경우 true
+         */
+        @Override
+        public boolean equals(Object other) {
+            if(this == other)
+                return true;
+            if(!(other instanceof Key))
+                return false;
+
+            Key key = (Key) other;
+            return hash == key.hash
+                    && kind.equals(key.kind)
+                    && name.equals(key.name)
+                    && Objects.equals(clazz, key.clazz)
+                    && Objects.equals(projection, key.projection)
+                    && tables.equals(key.tables)
+                    && fields.equals(key.fields);
+        }
+
+        /**
+         * 해시 값을 반환한다.
+         * @return 해시 값
+         */
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
+    /**
+     * 키워드 검색 필드 해석 결과
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class SearchBinding {
+        /**
+         * 검색 필드명 (요청 값)
+         */
+        private final String searchField;
+
+        /**
+         * 컬럼 경로 문자열
+         */
+        private final String columnPath;
+
+        /**
+         * 검색 타입
+         */
+        private final EnumFieldSearchType searchType;
+
+        /**
+         * 변환할 타입 클래스
+         */
+        private final Class convertTypeClass;
+
+        /**
+         * 실제 경로 (찾지 못한 경우 null)
+         */
+        private final Expression<?> path;
+
+        /**
+         * 문자열 검색에 사용할 수 있는 검색 전략 목록
+         */
+        private final EnumSearchStrategy[] strategies;
+
+        /**
+         * 정규화된 값을 가진 필드명
+         */
+        private final String normalizedField;
+
+        /**
+         * 전문 검색 함수명
+         */
+        private final String fullTextFunction;
+
+        /**
+         * 선택도 힌트
+         */
+        private final int selectivity;
+
+        /**
+         * 검색어를 바인딩한 키워드 검색 정보를 만든다.
+         * @param keywords 검색어 목록
+         * @return 키워드 검색 정보
+         */
+        public KeywordSearchItem bind(List<String> keywords) {
+            KeywordSearchItem result = new KeywordSearchItem(searchField, columnPath, keywords, searchType, convertTypeClass);
+            result.setPath(path);
+            result.setStrategies(strategies);
+            result.setNormalizedField(normalizedField);
+            result.setFullTextFunction(fullTextFunction);
+            result.setSelectivity(selectivity);
+            return result;
+        }
+    }
+
+    /**
+     * 기간 검색 필드 해석 결과
+     */
+    @Getter
+    @AllArgsConstructor
+    public static final class PeriodBinding {
+        /**
+         * 요청의 기간 검색 필드 순번 (검색 시작/종료 일시 목록의 순번)
+         */
+        private final int index;
+
+        /**
+         * 검색 필드명 (요청 값)
+         */
+        private final String searchField;
+
+        /**
+         * 컬럼 경로 문자열
+         */
+        private final String columnPath;
+
+        /**
+         * 날짜만 사용할지 여부
+         */
+        private final boolean dateOnly;
+
+        /**
+         * 실제 경로 (찾지 못한 경우 null)
+         */
+        private final Expression<?> path;
+
+        /**
+         * 파티션 제거 힌트 사용 여부
+         */
+        private final boolean partitionHint;
+
+        /**
+         * 기간을 바인딩한 기간 검색 정보를 만든다.
+         * @param searchStartDate 검색 시작 일시
+         * @param searchEndDate 검색 종료 일시
+         * @return 기간 검색 정보
+         */
+        public PeriodSearchItem bind(Date searchStartDate, Date searchEndDate) {
+            PeriodSearchItem result = new PeriodSearchItem(columnPath, searchStartDate, searchEndDate, dateOnly);
+            result.setPath(path);
+            result.setPartitionHint(partitionHint);
+            return result;
+        }
+    }
+}
@@ -0,0 +1,364 @@
+package com.john.jpahush.providers;
+
+import com.john.jpahush.data.commondata.queries.QueryContext;
+import com.john.jpahush.data.commondata.queries.SortItem;
+import com.john.jpahush.data.commondata.responses.QueryResults;
+import com.john.jpahush.interfaces.IDatabaseProvider;
+import com.john.jpahush.interfaces.IReactiveDatabaseProvider;
+import com.john.jpahush.utils.MoreExceptionHandler;
+import com.querydsl.core.types.Expression;
+import com.querydsl.jpa.impl.JPAQuery;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import javax.persistence.EntityManagerFactory;
+import javax.persistence.EntityTransaction;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+/**
+ * 리액티브 (WebFlux) 데이터베이스 프로바이더 구현체
+ * 블로킹 JPA 조회를 전용 bounded elastic 스케줄러에서 별도 엔티티 매니저로 수행한다.
+ * 쿼리명 별로 동시 조회 수를 제한하며, 제한을 넘는 요청은 스레드를 점유하지 않고 대기한다.
+ */
+@Component
+@SuppressWarnings("rawtypes")
+public class ReactiveDatabaseProvider implements IReactiveDatabaseProvider, DisposableBean {
+
+    /**
+     * 기본 쿼리명 별 최대 동시 조회 수
+     */
+    public static final int DEFAULT_MAX_CONCURRENCY = 4;
+
+    /**
+     * 조회에 사용할 데이터베이스 프로바이더 (쿼리 컨텍스트를 사용하는 메서드만 사용한다.)
+     */
+    final IDatabaseProvider databaseProvider;
+
+    /**
+     * 조회마다 별도 엔티티 매니저를 만들 팩토리 (없는 경우 쿼리의 엔티티 매니저를 그대로 사용한다.)
+     */
+    EntityManagerFactory entityManagerFactory;
+
+    /**
+     * 블로킹 조회를 수행할 스케줄러
+     */
+    final Scheduler scheduler;
+
+    /**
+     * 쿼리명 별 동시 조회 수 제한
+     */
+    final Map<String, Limiter> limiters = new ConcurrentHashMap<>();
+
+    /**
+     * 기본 쿼리명 별 최대 동시 조회 수
+     */
+    volatile int defaultMaxConcurrency = DEFAULT_MAX_CONCURRENCY;
+
+    /**
+     * 생성자
+     * @param databaseProvider 데이터베이스 프로바이더
+     */
+    @Autowired
+    public ReactiveDatabaseProvider(IDatabaseProvider databaseProvider) {
+        this(databaseProvider, Schedulers.newBoundedElastic(Schedulers.DEFAULT_BOUNDED_ELASTIC_SIZE, Schedulers.DEFAULT_BOUNDED_ELASTIC_QUEUESIZE, "jpahush-reactive", 60, true));
+    }
+
+    /**
+     * 생성자
+     * @param databaseProvider 데이터베이스 프로바이더
+     * @param scheduler 블로킹 조회를 수행할 스케줄러 (스레드 수와 대기 작업 수가 제한된 스케줄러를 사용한다.)
+     */
+    public ReactiveDatabaseProvider(IDatabaseProvider databaseProvider, Scheduler scheduler) {
+        this.databaseProvider = databaseProvider;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * 조회마다 별도 엔티티 매니저를 만들 팩토리를 지정한다.
+     * @param entityManagerFactory 엔티티 매니저 팩토리
+     */
+    @Autowired(required = false)
+    public void setEntityManagerFactory(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    /**
+     * 기본 쿼리명 별 최대 동시 조회 수를 지정한다. (쿼리명 별로 지정하지 않은 경우 사용한다.)
+     * @param maxConcurrency 최대 동시 조회 수
+     */
+    public void setDefaultMaxConcurrency(int maxConcurrency) {
+        this.defaultMaxConcurrency = Math.max(maxConcurrency, 1);
+    }
+
+    /**
+     * 쿼리명 별 최대 동시 조회 수를 지정한다.
+     * @param name 쿼리명
+     * @param maxConcurrency 최대 동시 조회 수 (0 이하인 경우 기본값을 사용한다.)
+     */
+    @Override
+    public void setMaxConcurrency(String name, int maxConcurrency) {
+        this.getLimiter(name).setMaxConcurrency(maxConcurrency > 0 ? maxConcurrency : 0);
+    }
+
+    /**
+     * 주어진 쿼리 컨텍스트와 쿼리 원본으로 부터 skip 만큼 건너뛰고 countPerPage 만큼의 레코드를 가져와 QueryResults 객체를 발행한다.
+     * 구독할 때 조회하며, 조회는 별도 엔티티 매니저로 전용 스케줄러에서 수행된다.
+     * @param context 쿼리 컨텍스트
+     * @param clazz 기본 테이블 클래스 객체
+     * @param source JPAQuery<T> 객체
+     * @param totalCountExpression 전체 레코드 수 조회 식
+     * @param <T> 원본 타입
+     * @return QueryResults<T> 를 발행하는 Mono
+     */
+    @Override
+    public <T> Mono<QueryResults<T>> createQueryResults(QueryContext context, Class clazz, JPAQuery<T> source, Expression<Long> totalCountExpression) {
+        Limiter limiter = this.getLimiter(context.getName());
+
+        Mono<QueryResults<T>> work = Mono.fromCallable(() -> {
+            // 엔티티 매니저는 스레드간 공유할 수 없으므로 새로 만들어 사용한다.
+            if(this.entityManagerFactory == null)
+                return this.databaseProvider.createQueryResults(context, clazz, source, totalCountExpression);
+
+            try (EntityProvider provider = new EntityProvider(this.entityManagerFactory.createEntityManager())) {
+                return this.databaseProvider.createQueryResults(context, clazz, source.clone(provider.entityManager), totalCountExpression);
+            }
+        }).subscribeOn(this.scheduler);
+
+        return Mono.usingWhen(limiter.acquire(), permit -> work, Limiter::release);
+    }
+
+    /**
+     * 주어진 쿼리 원본으로 부터 전체 레코드를 요청 (request) 된 만큼씩 커서에서 읽어 발행한다.
+     * 구독이 끝나거나 취소되면 커서와 엔티티 매니저를 닫는다.
+     * @param name 쿼리명 (동시 조회 수 제한에 사용한다.)
+     * @param source JPAQuery<T> 객체
+     * @param orders 정렬필드 정보 목록
+     * @param fetchSize 한번에 가져올 레코드 수 (0 이하인 경우 기본값)
+     * @param <T> 원본 타입
+     * @return 레코드를 발행하는 Flux
+     */
+    @Override
+    public <T> Flux<T> createQueryFlux(String name, JPAQuery<T> source, List<SortItem> orders, int fetchSize) {
+        return this.createQueryFlux(name, source, query -> Flux.fromStream(this.databaseProvider.createQueryStream(query, orders, fetchSize)));
+    }
+
+    /**
+     * 주어진 쿼리 원본으로 부터 전체 레코드를 요청 (request) 된 만큼씩 커서에서 읽어 형 변환 후 발행한다.
+     * 구독이 끝나거나 취소되면 커서와 엔티티 매니저를 닫는다.
+     * @param name 쿼리명 (동시 조회 수 제한에 사용한다.)
+     * @param source JPAQuery<T> 객체
+     * @param orders 정렬필드 정보 목록
+     * @param destClazz 대상 타입 클래스 객체
+     * @param fetchSize 한번에 가져올 레코드 수 (0 이하인 경우 기본값)
+     * @param <T> 원본 타입
+     * @param <D> 대상 타입
+     * @return 레코드를 발행하는 Flux
+     */
+    @Override
+    public <T, D> Flux<D> createQueryFlux(String name, JPAQuery<T> source, List<SortItem> orders, Class<D> destClazz, int fetchSize) {
+        return this.createQueryFlux(name, source, query -> Flux.fromStream(this.databaseProvider.createQueryStream(query, orders, destClazz, fetchSize)));
+    }
+
+    /**
+     * 커서 기반 스트림을 발행하는 Flux 를 만든다.
+     * 스트림은 요청된 만큼만 읽으며 (Flux.fromStream), 구독은 스케줄러의 한 워커에서 처리되므로 커서는 한 스레드에서만 사용된다.
+     * @param name 쿼리명
+     * @param source JPAQuery<T> 객체
+     * @param rows 쿼리로 레코드 Flux 를 만드는 함수
+     * @param <T> 원본 타입
+     * @param <D> 대상 타입
+     * @return 레코드를 발행하는 Flux
+     */
+    private <T, D> Flux<D> createQueryFlux(String name, JPAQuery<T> source, Function<JPAQuery<T>, Flux<D>> rows) {
+        Limiter limiter = this.getLimiter(name);
+
+        Flux<D> work;
+        // 엔티티 매니저 팩토리가 없는 경우 쿼리의 엔티티 매니저를 그대로 사용한다.
+        if(this.entityManagerFactory == null) {
+            work = Flux.defer(() -> rows.apply(source));
+        }
+        else {
+            work = Flux.using(
+                    () -> this.openReadOnly(),
+                    provider -> rows.apply(source.clone(provider.entityManager)),
+                    this::closeReadOnly);
+        }
+
+        return Flux.usingWhen(limiter.acquire(), permit -> work.subscribeOn(this.scheduler), Limiter::release);
+    }
+
+    /**
+     * 읽기 전용 트랜잭션을 시작한 엔티티 매니저를 만든다. (커서를 유지하기 위해 트랜잭션 안에서 조회한다.)
+     * @return 엔티티 프로바이더
+     */
+    private EntityProvider openReadOnly() {
+        EntityProvider result = new EntityProvider(this.entityManagerFactory.createEntityManager());
+        try {
+            result.entityManager.getTransaction().begin();
+        } catch (Exception ex) {
+            MoreExceptionHandler.Log(ex);
+        }
+        return result;
+    }
+
+    /**
+     * 읽기 전용 트랜잭션을 롤백하고 엔티티 매니저를 닫는다.
+     * @param provider 엔티티 프로바이더
+     */
+    private void closeReadOnly(EntityProvider provider) {
+        try {
+            EntityTransaction transaction = provider.entityManager.getTransaction();
+            if(transaction.isActive())
+                transaction.rollback();
+        } catch (Exception ex) {
+            MoreExceptionHandler.Log(ex);
+        }
+        provider.close();
+    }
+
+    /**
+     * 쿼리명에 해당하는 동시 조회 수 제한을 가져온다.
+     * @param name 쿼리명
+     * @return 동시 조회 수 제한
+     */
+    private Limiter getLimiter(String name) {
+        return this.limiters.computeIfAbsent(name == null ? "" : name, key -> new Limiter(this));
+    }
+
+    /**
+     * 스케줄러를 정리한다.
+     */
+    @Override
+    public void destroy() {
+        this.scheduler.dispose();
+    }
+
+    /**
+     * 쿼리명 별 동시 조회 수 제한 (스레드를 막지 않는 세마포어)
+     * 허용 수를 넘는 요청은 대기열에 넣고, 조회가 끝나 허용 수가 반환되면 순서대로 진행한다.
+     */
+    static final class Limiter {
+        /**
+         * 프로바이더 (기본 최대 동시 조회 수를 사용한다.)
+         */
+        private final ReactiveDatabaseProvider owner;
+
+        /**
+         * 진행 중인 조회 수
+         */
+        private final AtomicInteger active = new AtomicInteger();
+
+        /**
+         * 대기 목록
+         */
+        private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+
+        /**
+         * 최대 동시 조회 수 (0 인 경우 기본값을 사용한다.)
+         */
+        private volatile int maxConcurrency;
+
+        /**
+         * 생성자
+         * @param owner 프로바이더
+         */
+        Limiter(ReactiveDatabaseProvider owner) {
+            this.owner = owner;
+        }
+
+        /**
+         * 최대 동시 조회 수를 변경한다.
+         * @param maxConcurrency 최대 동시 조회 수 (0 인 경우 기본값을 사용한다.)
+         */
+        void setMaxConcurrency(int maxConcurrency) {
+            this.maxConcurrency = maxConcurrency;
+            this.drain();
+        }
+
+        /**
+         * 허용을 얻으면 자신을 발행하는 Mono 를 반환한다.
+         * @return 허용 Mono
+         */
+        Mono<Limiter> acquire() {
+            return Mono.create(sink -> {
+                Waiter waiter = new Waiter(sink);
+                // 대기 중 취소된 경우 대기열에서 제거한다.
+                sink.onCancel(() -> {
+                    if(waiter.done.compareAndSet(false, true))
+                        waiters.remove(waiter);
+                });
+                waiters.add(waiter);
+                this.drain();
+            });
+        }
+
+        /**
+         * 허용을 반환한다.
+         * @return 완료 Mono
+         */
+        Mono<Void> release() {
+            return Mono.fromRunnable(() -> {
+                active.decrementAndGet();
+                this.drain();
+            });
+        }
+
+        /**
+         * 허용 수가 남아있는 만큼 대기 중인 요청을 진행한다.
+         */
+        private void drain() {
+            while (!waiters.isEmpty()) {
+                int current = active.get();
+                int limit = maxConcurrency > 0 ? maxConcurrency : owner.defaultMaxConcurrency;
+                if(current >= limit)
+                    return;
+                if(!active.compareAndSet(current, current + 1))
+                    continue;
+
+                Waiter waiter = waiters.poll();
+                // 대기 중인 요청이 없거나 취소된 경우 허용을 되돌린다.
+                if(waiter == null || !waiter.done.compareAndSet(false, true)) {
+                    active.decrementAndGet();
+                    continue;
+                }
+                waiter.sink.success(this);
+            }
+        }
+    }
+
+    /**
+     * 대기 중인 요청
+     */
+    private static final class Waiter {
+        /**
+         * 허용을 전달할 싱크
+         */
+        final MonoSink<Limiter> sink;
+
+        /**
+         * 허용을 받았거나 취소되었는지 여부
+         */
+        final AtomicBoolean done = new AtomicBoolean();
+
+        /**
+         * 생성자
+         * @param sink 허용을 전달할 싱크
+         */
+        Waiter(MonoSink<Limiter> sink) {
+            this.sink = sink;
+        }
+    }
+}
@@ -0,0 +1,268 @@
+package com.john.jpahush.providers;
+
+import com.john.jpahush.annotations.SearchFilter;
+import com.john.jpahush.annotations.SearchFilterImplement;
+import com.john.jpahush.data.commondata.queries.SearchFieldMetadata;
+import com.john.jpahush.utils.MoreExceptionHandler;
+import com.querydsl.core.types.Expression;
+import com.querydsl.core.types.Path;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 응답 클래스 / Q 클래스 / 엔티티 클래스의 검색 필드 메타 정보 저장소
+ * 클래스별 리플렉션 정보는 최초 1회만 만들어지고 이후에는 캐시된 정보를 사용한다.
+ */
+@SuppressWarnings("unused")
+public final class SearchFilterMetadataRegistry {
+
+    /**
+     * 클래스별 메타 정보
+     */
+    private static final ClassValue<ClassMetadata> METADATA = new ClassValue<>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            return new ClassMetadata(type);
+        }
+    };
+
+    /**
+     * 생성자
+     */
+    private SearchFilterMetadataRegistry() {
+    }
+
+    /**
+     * 응답 클래스에 선언된 필드 중 이름이 일치하는 (대소문자 무시) 필드의 메타 정보를 가져온다.
+     * @param clazz 응답 클래스
+     * @param fieldName 필드명
+     * @return 메타 정보 (없는 경우 null)
+     */
+    public static SearchFieldMetadata findResponseField(Class<?> clazz, String fieldName) {
+        if(clazz == null || fieldName == null)
+            return null;
+        return METADATA.get(clazz).declaredFields.get(fieldName);
+    }
+
+    /**
+     * 응답 클래스와 부모 클래스에 선언된 필드 중 이름이 일치하는 (대소문자 무시) 필드의 메타 정보를 가져온다.
+     * @param clazz 응답 클래스
+     * @param fieldName 필드명
+     * @return 메타 정보 (없는 경우 null)
+     */
+    public static SearchFieldMetadata findResponseFieldWithSuper(Class<?> clazz, String fieldName) {
+        SearchFieldMetadata result = findResponseField(clazz, fieldName);
+
+        // 클래스안에 없는 경우 부모클래스에서 찾는다.
+        if(result == null && clazz != null)
+            result = findResponseField(clazz.getSuperclass(), fieldName);
+
+        return result;
+    }
+
+    /**
+     * Q 클래스가 가리키는 엔티티 클래스에서 이름이 포함되는 필드의 메타 정보를 가져온다.
+     * @param queryClass Q 클래스
+     * @param fieldName 필드명
+     * @return 메타 정보 (없는 경우 null)
+     */
+    public static SearchFieldMetadata findEntityField(Class<?> queryClass, String fieldName) {
+        if(queryClass == null || fieldName == null)
+            return null;
+
+        // 엔티티 클래스를 가져온다.
+        Class<?> entityClass = METADATA.get(queryClass).entityClass;
+        if(entityClass == null)
+            return null;
+
+        return METADATA.get(entityClass).findEntityField(fieldName);
+    }
+
+    /**
+     * Q 클래스의 public 필드 중 이름이 포함되는 필드를 가져온다.
+     * @param queryClass Q 클래스
+     * @param fieldName 필드명
+     * @return 필드 정보 (없는 경우 null)
+     */
+    public static Field findQueryField(Class<?> queryClass, String fieldName) {
+        if(queryClass == null || fieldName == null)
+            return null;
+        return METADATA.get(queryClass).findPublicField(fieldName);
+    }
+
+    /**
+     * Q 클래스 인스턴스 (쿼리 안 테이블) 에서 필드명에 해당하는 실제 경로 객체를 가져온다.
+     * @param root Q 클래스 인스턴스
+     * @param fieldName 필드명
+     * @return 경로 (없는 경우 null)
+     */
+    public static Path<?> findQueryPath(Expression<?> root, String fieldName) {
+        if(root == null)
+            return null;
+
+        Field field = findQueryField(root.getClass(), fieldName);
+        if(field == null || !Path.class.isAssignableFrom(field.getType()))
+            return null;
+
+        try {
+            return (Path<?>) field.get(root);
+        } catch (Exception ex) {
+            MoreExceptionHandler.Log(ex);
+        }
+        return null;
+    }
+
+    /**
+     * 첫글자를 소문자로 변환한다.
+     * @param input 문자열
+     * @return 변환된 문자열
+     */
+    static String lowercaseFirstLetter(String input) {
+        if (input.isEmpty()) {
+            return input;
+        }
+
+        char firstChar = Character.toLowerCase(input.charAt(0));
+        return firstChar + input.substring(1);
+    }
+
+    /**
+     * 클래스 하나에 대한 메타 정보
+     */
+    private static final class ClassMetadata {
+        /**
+         * 선언된 필드 목록 (이름 대소문자 무시)
+         */
+        final Map<String, SearchFieldMetadata> declaredFields;
+
+        /**
+         * 선언된 필드 목록 (선언 순서)
+         */
+        final SearchFieldMetadata[] declaredFieldList;
+
+        /**
+         * public 인스턴스 필드 목록
+         */
+        final Field[] publicFields;
+
+        /**
+         * Q 클래스인 경우 대상 엔티티 클래스
+         */
+        final Class<?> entityClass;
+
+        /**
+         * 이름 포함 검색 결과 캐시 (엔티티 필드)
+         */
+        final Map<String, SearchFieldMetadata> entityFieldCache = new ConcurrentHashMap<>();
+
+        /**
+         * 이름 포함 검색 결과 캐시 (public 필드)
+         */
+        final Map<String, Field> publicFieldCache = new ConcurrentHashMap<>();
+
+        /**
+         * 생성자
+         * @param type 대상 클래스
+         */
+        ClassMetadata(Class<?> type) {
+            Field[] fields = new Field[0];
+            Field[] publics = new Field[0];
+            try {
+                fields = type.getDeclaredFields();
+                publics = type.getFields();
+            } catch (Exception ex) {
+                MoreExceptionHandler.Log(ex);
+            }
+
+            // 엔티티 별칭
+            String alias = lowercaseFirstLetter(type.getSimpleName());
+
+            Map<String, SearchFieldMetadata> map = new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            SearchFieldMetadata[] list = new SearchFieldMetadata[fields.length];
+            for (int index = 0; index < fields.length; index++) {
+                Field field = fields[index];
+                SearchFilter filter = field.getAnnotation(SearchFilter.class);
+                SearchFilterImplement implement = filter == null ? null
+                        : SearchFilterImplement.of(field.getType(), filter);
+                list[index] = new SearchFieldMetadata(field, implement, String.format("%s.%s", alias, field.getName()));
+                // 먼저 선언된 필드를 우선한다.
+                map.putIfAbsent(field.getName(), list[index]);
+            }
+
+            this.declaredFields = Collections.unmodifiableMap(map);
+            this.declaredFieldList = list;
+            this.publicFields = Arrays.stream(publics).filter(field -> !Modifier.isStatic(field.getModifiers())).toArray(Field[]::new);
+            this.entityClass = findEntityClass(type);
+        }
+
+        /**
+         * 이름이 포함되는 엔티티 필드를 찾는다.
+         * 엔티티 필드의 검색 필터 타입은 선언 클래스로 설정된다.
+         * @param fieldName 필드명
+         * @return 메타 정보 (없는 경우 null)
+         */
+        SearchFieldMetadata findEntityField(String fieldName) {
+            SearchFieldMetadata result = entityFieldCache.get(fieldName);
+            if(result != null)
+                return result;
+
+            for (SearchFieldMetadata metadata : declaredFieldList) {
+                if(metadata.getField().getName().contains(fieldName)) {
+                    SearchFilterImplement filter = metadata.getFilter();
+                    // 엔티티 필드의 필터는 선언 클래스를 타입으로 사용한다.
+                    if(filter != null)
+                        filter = SearchFilterImplement.of(metadata.getField().getDeclaringClass(), filter);
+                    result = new SearchFieldMetadata(metadata.getField(), filter, metadata.getColumnPath());
+                    entityFieldCache.putIfAbsent(fieldName, result);
+                    break;
+                }
+            }
+            return result;
+        }
+
+        /**
+         * 이름이 일치하는 public 필드를 찾고, 없는 경우 이름이 포함되는 public 필드를 찾는다.
+         * @param fieldName 필드명
+         * @return 필드 정보 (없는 경우 null)
+         */
+        Field findPublicField(String fieldName) {
+            Field result = publicFieldCache.get(fieldName);
+            if(result != null)
+                return result;
+
+            for (Field field : publicFields) {
+                if(field.getName().equals(fieldName)) {
+                    publicFieldCache.putIfAbsent(fieldName, field);
+                    return field;
+                }
+            }
+            for (Field field : publicFields) {
+                if(field.getName().contains(fieldName)) {
+                    publicFieldCache.putIfAbsent(fieldName, field);
+                    return field;
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Q 클래스의 제네릭 부모 타입으로 부터 엔티티 클래스를 가져온다.
+         * @param type Q 클래스
+         * @return 엔티티 클래스 (Q 클래스가 아닌 경우 null)
+         */
+        private static Class<?> findEntityClass(Class<?> type) {
+            Type superType = type.getGenericSuperclass();
+            if(superType instanceof ParameterizedType) {
+                Type[] arguments = ((ParameterizedType) superType).getActualTypeArguments();
+                if(arguments.length > 0 && arguments[0] instanceof Class)
+                    return (Class<?>) arguments[0];
+            }
+            return null;
+        }
+    }
+}
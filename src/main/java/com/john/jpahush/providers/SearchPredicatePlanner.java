@@ -0,0 +1,165 @@
+package com.john.jpahush.providers;
+
+import com.john.jpahush.data.commondata.enums.EnumFieldSearchType;
+import com.john.jpahush.data.commondata.enums.EnumSearchStrategy;
+import com.john.jpahush.data.commondata.queries.KeywordSearchItem;
+import com.querydsl.core.types.*;
+import com.querydsl.core.types.dsl.Expressions;
+import org.springframework.util.StringUtils;
+
+import java.util.Locale;
+
+/**
+ * 문자열 검색 조건 계획 클래스
+ * 검색 필터에 지정된 검색 전략 중 검색어에 사용할 수 있는 비용이 가장 낮은 전략으로 조건을 만든다.
+ * 비용 순서 : NormalizedEqual (인덱스 탐색) < Prefix (인덱스 범위 탐색) < FullText < Trigram < Contains (전체 탐색)
+ */
+public final class SearchPredicatePlanner {
+
+    /**
+     * 전문 검색 / 트라이그램 검색에 필요한 최소 검색어 길이
+     */
+    public static final int MIN_TOKEN_LENGTH = 3;
+
+    /**
+     * 정규화된 전화번호 일치 검색에 필요한 최소 숫자 수 (지역번호 포함 전체 번호)
+     */
+    public static final int MIN_PHONE_NO_LENGTH = 9;
+
+    /**
+     * 비용이 낮은 순서의 검색 전략 목록
+     */
+    private static final EnumSearchStrategy[] COST_ORDER = EnumSearchStrategy.values();
+
+    /**
+     * 생성자
+     */
+    private SearchPredicatePlanner() {
+    }
+
+    /**
+     * 키워드 검색 정보에 검색 전략이 지정되어 있는지 여부를 반환한다.
+     * @param item 키워드 검색 정보
+     * @return 지정된 경우 true
+     */
+    public static boolean hasStrategies(KeywordSearchItem item) {
+        return item.getStrategies() != null && item.getStrategies().length > 0;
+    }
+
+    /**
+     * 검색어에 사용할 검색 전략을 선택한다.
+     * @param item 키워드 검색 정보
+     * @param keyword 검색어
+     * @return 검색 전략 (사용할 수 있는 전략이 없는 경우 Contains)
+     */
+    public static EnumSearchStrategy choose(KeywordSearchItem item, String keyword) {
+        boolean phoneNo = item.getKeywordSearchType() == EnumFieldSearchType.PhoneNo;
+        String normalized = normalize(keyword, phoneNo);
+
+        // 비용이 낮은 순서로 지정된 전략 중 사용할 수 있는 전략을 찾는다.
+        for (EnumSearchStrategy strategy : COST_ORDER) {
+            if(contains(item.getStrategies(), strategy) && isApplicable(item, strategy, normalized, phoneNo))
+                return strategy;
+        }
+        return EnumSearchStrategy.Contains;
+    }
+
+    /**
+     * 검색어에 대한 검색 조건을 만든다.
+     * @param item 키워드 검색 정보 (경로가 지정되어 있어야 한다.)
+     * @param target 검색할 문자열 식
+     * @param keyword 검색어
+     * @return 검색 조건 (정규화된 검색어가 없는 경우 null)
+     */
+    public static Predicate plan(KeywordSearchItem item, Expression<String> target, String keyword) {
+        boolean phoneNo = item.getKeywordSearchType() == EnumFieldSearchType.PhoneNo;
+        String normalized = normalize(keyword, phoneNo);
+
+        // 검색어가 없는 경우 ('%%' 와 같이 조건이 없는 것과 같다.)
+        if(normalized.isEmpty())
+            return null;
+
+        // 전화번호는 숫자만으로 검색한다.
+        String value = phoneNo ? normalized : keyword.trim();
+
+        switch (choose(item, keyword)) {
+            case NormalizedEqual: {
+                Path<?> normalizedPath = findNormalizedPath(item);
+                // 정규화 필드가 없는 경우 검색 필드와 비교한다.
+                if(normalizedPath == null)
+                    return Expressions.booleanOperation(Ops.EQ, target, ConstantImpl.create(value));
+                return Expressions.booleanOperation(Ops.EQ, normalizedPath, ConstantImpl.create(normalized));
+            }
+            case Prefix:
+                return Expressions.booleanOperation(Ops.LIKE, target, ConstantImpl.create(value + "%"));
+            case FullText:
+                return Expressions.numberTemplate(Double.class, "function('" + item.getFullTextFunction() + "', {0}, {1})", target, ConstantImpl.create(value)).gt(0.0);
+            default:
+                // 트라이그램 인덱스는 포함 검색 LIKE 를 그대로 사용한다.
+                return Expressions.booleanOperation(Ops.LIKE, target, ConstantImpl.create("%" + value + "%"));
+        }
+    }
+
+    /**
+     * 검색 전략을 검색어에 사용할 수 있는지 여부를 반환한다.
+     * @param item 키워드 검색 정보
+     * @param strategy 검색 전략
+     * @param normalized 정규화된 검색어
+     * @param phoneNo 전화번호 검색인지 여부
+     * @return 사용할 수 있는 경우 true
+     */
+    private static boolean isApplicable(KeywordSearchItem item, EnumSearchStrategy strategy, String normalized, boolean phoneNo) {
+        switch (strategy) {
+            case NormalizedEqual:
+                // 전화번호는 전체 번호인 경우만 일치 검색한다.
+                return !phoneNo || normalized.length() >= MIN_PHONE_NO_LENGTH;
+            case FullText:
+                return StringUtils.hasText(item.getFullTextFunction()) && normalized.length() >= MIN_TOKEN_LENGTH;
+            case Trigram:
+                return normalized.length() >= MIN_TOKEN_LENGTH;
+            default:
+                return true;
+        }
+    }
+
+    /**
+     * 정규화 필드의 경로를 찾는다. (검색 필드와 같은 엔티티의 필드)
+     * @param item 키워드 검색 정보
+     * @return 정규화 필드 경로 (없는 경우 null)
+     */
+    private static Path<?> findNormalizedPath(KeywordSearchItem item) {
+        if(!StringUtils.hasText(item.getNormalizedField()) || !(item.getPath() instanceof Path))
+            return null;
+
+        Path<?> parent = ((Path<?>) item.getPath()).getMetadata().getParent();
+        return parent == null ? null : Expressions.stringPath(parent, item.getNormalizedField());
+    }
+
+    /**
+     * 검색어를 정규화한다. (전화번호인 경우 숫자만, 그 외에는 소문자)
+     * @param keyword 검색어
+     * @param phoneNo 전화번호 검색인지 여부
+     * @return 정규화된 검색어
+     */
+    static String normalize(String keyword, boolean phoneNo) {
+        if(keyword == null)
+            return "";
+        if(phoneNo)
+            return keyword.replaceAll("[^0-9]", "");
+        return keyword.trim().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 전략 목록에 전략이 포함되어 있는지 여부를 반환한다.
+     * @param strategies 전략 목록
+     * @param strategy 전략
+     * @return 포함된 경우 true
+     */
+    private static boolean contains(EnumSearchStrategy[] strategies, EnumSearchStrategy strategy) {
+        for (EnumSearchStrategy item : strategies) {
+            if(item == strategy)
+                return true;
+        }
+        return false;
+    }
+}
@@ -0,0 +1,41 @@
+package com.john.jpahush.providers;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 가상 스레드 실행기 생성 클래스 (JDK 11 ~ 20 용)
+ * JDK 21 이상에서는 멀티 릴리즈 jar 의 META-INF/versions/21 에 포함된 같은 이름의 클래스가 사용되어 가상 스레드를 만든다.
+ * 이 버전에서는 가상 스레드를 지원하지 않으므로 데몬 플랫폼 스레드 실행기를 만든다.
+ */
+public final class VirtualThreads {
+
+    /**
+     * 생성자
+     */
+    private VirtualThreads() {
+    }
+
+    /**
+     * 가상 스레드를 지원하는지 여부를 반환한다.
+     * @return 지원하는 경우 true
+     */
+    public static boolean isSupported() {
+        return false;
+    }
+
+    /**
+     * 작업마다 스레드를 만드는 실행기를 만든다.
+     * @param name 스레드명 접두어
+     * @return 실행기 (데몬 플랫폼 스레드)
+     */
+    public static ExecutorService newExecutor(String name) {
+        AtomicInteger sequence = new AtomicInteger();
+        return Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, name + "-" + sequence.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+}
@@ -0,0 +1,241 @@
+package com.john.jpahush.streaming;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.john.jpahush.data.commondata.responses.QueryResults;
+import com.john.jpahush.data.responses.ResponseList;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * ResponseList 스트리밍 JSON 작성기
+ * 응답 결과와 페이징 값 (헤더) 을 먼저 쓰고, 결과 목록은 커서에서 읽는 대로 한 건씩 쓴다.
+ * ResponseList 를 Jackson 으로 직렬화한 것과 같은 모양의 JSON 을 만들며, 결과 목록 (data.items) 은 항상 마지막에 쓴다.
+ * 목록 전체를 메모리에 올리지 않으므로 첫 응답 시간과 메모리 사용량이 결과 수에 비례하지 않는다.
+ * 목록을 쓰는 중에 오류가 발생한 경우 JSON 이 완성되지 않은 채로 응답이 끝난다.
+ */
+@SuppressWarnings("unused")
+public class ResponseListStreamWriter {
+
+    /**
+     * 기본 출력 비우기 (flush) 간격 (레코드 수)
+     */
+    public static final int DEFAULT_FLUSH_INTERVAL = 256;
+
+    /**
+     * 데이터 필드명
+     */
+    private static final String DATA_FIELD = "data";
+
+    /**
+     * 결과 목록 필드명
+     */
+    private static final String ITEMS_FIELD = "items";
+
+    /**
+     * 결과 목록 / 데이터 / 응답 객체를 닫는 JSON
+     */
+    private static final byte[] SUFFIX = "]}}".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * 오브젝트 매퍼
+     */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 레코드 작성기 (레코드 마다 출력을 비우지 않는다.)
+     */
+    private final ObjectWriter itemWriter;
+
+    /**
+     * 출력 비우기 (flush) 간격 (레코드 수)
+     */
+    private final int flushInterval;
+
+    /**
+     * 생성자
+     */
+    public ResponseListStreamWriter() {
+        this(new ObjectMapper().findAndRegisterModules());
+    }
+
+    /**
+     * 생성자
+     * @param objectMapper 오브젝트 매퍼 (응답 직렬화에 사용하는 매퍼를 지정한다.)
+     */
+    public ResponseListStreamWriter(ObjectMapper objectMapper) {
+        this(objectMapper, DEFAULT_FLUSH_INTERVAL);
+    }
+
+    /**
+     * 생성자
+     * @param objectMapper 오브젝트 매퍼 (응답 직렬화에 사용하는 매퍼를 지정한다.)
+     * @param flushInterval 출력 비우기 (flush) 간격 (레코드 수)
+     */
+    public ResponseListStreamWriter(ObjectMapper objectMapper, int flushInterval) {
+        this.objectMapper = objectMapper;
+        this.itemWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.flushInterval = Math.max(flushInterval, 1);
+    }
+
+    /**
+     * 응답 헤더와 레코드 스트림을 JSON 으로 쓴다. (출력 스트림은 닫지 않는다.)
+     * @param out 출력 스트림
+     * @param header 응답 헤더 (응답 결과와 페이징 값, 결과 목록은 비워서 전달한다. 예 : QueryResults.adopt(new ArrayList<>(), totalCount, skip, countPerPage, pagePerSection))
+     * @param rows 레코드 스트림
+     * @param <T> 데이터 타입
+     * @throws IOException 쓰기에 실패한 경우
+     */
+    public <T> void write(OutputStream out, ResponseList<T> header, Stream<T> rows) throws IOException {
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            // 출력 스트림을 닫지 않으며, 실패한 경우 닫히지 않은 배열 / 객체를 자동으로 닫지 않는다.
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+
+            // 헤더를 먼저 내보낸다.
+            this.writeHeader(generator, header);
+            generator.flush();
+
+            // 레코드를 읽는 대로 쓴다.
+            Iterator<T> iterator = rows.iterator();
+            int count = 0;
+            while (iterator.hasNext()) {
+                itemWriter.writeValue(generator, iterator.next());
+                if(++count % flushInterval == 0)
+                    generator.flush();
+            }
+
+            generator.writeEndArray();
+            generator.writeEndObject();
+            generator.writeEndObject();
+            generator.flush();
+        }
+    }
+
+    /**
+     * Spring MVC 용 스트리밍 응답 본문을 만든다.
+     * 스트림은 응답을 쓰는 스레드에서 열리므로, 공급자는 커서에 필요한 엔티티 매니저 / 트랜잭션을 스스로 관리해야 한다.
+     * @param header 응답 헤더 (응답 결과와 페이징 값, 결과 목록은 사용하지 않는다.)
+     * @param rows 레코드 스트림 공급자 (쓰기가 끝나면 스트림을 닫는다.)
+     * @param <T> 데이터 타입
+     * @return 스트리밍 응답 본문
+     */
+    public <T> StreamingResponseBody toStreamingResponseBody(ResponseList<T> header, Supplier<Stream<T>> rows) {
+        return out -> {
+            try (Stream<T> stream = rows.get()) {
+                this.write(out, header, stream);
+            }
+        };
+    }
+
+    /**
+     * Spring MVC 용 스트리밍 응답 본문을 만든다. (ReactiveDatabaseProvider.createQueryFlux 의 결과를 사용하는 경우)
+     * 응답을 쓰는 스레드에서 요청한 만큼만 레코드를 받으며, 쓰기가 끝나거나 실패하면 구독을 취소한다.
+     * @param header 응답 헤더 (응답 결과와 페이징 값, 결과 목록은 사용하지 않는다.)
+     * @param rows 레코드 Flux
+     * @param <T> 데이터 타입
+     * @return 스트리밍 응답 본문
+     */
+    public <T> StreamingResponseBody toStreamingResponseBody(ResponseList<T> header, Flux<T> rows) {
+        return this.toStreamingResponseBody(header, () -> rows.toStream(flushInterval));
+    }
+
+    /**
+     * WebFlux 용 응답 본문 (DataBuffer Flux) 을 만든다.
+     * 헤더, 레코드 별 JSON, 닫는 JSON 순서로 발행하며, 레코드는 요청 (request) 된 만큼만 받는다.
+     * @param header 응답 헤더 (응답 결과와 페이징 값, 결과 목록은 사용하지 않는다.)
+     * @param rows 레코드 Flux
+     * @param bufferFactory 버퍼 팩토리 (ServerHttpResponse.bufferFactory())
+     * @param <T> 데이터 타입
+     * @return 응답 본문 Flux
+     */
+    public <T> Flux<DataBuffer> toDataBuffers(ResponseList<T> header, Flux<T> rows, DataBufferFactory bufferFactory) {
+        return Flux.defer(() -> {
+            // 첫번째 레코드 이후에는 구분자를 쓴다. (구독마다 상태를 가진다.)
+            AtomicBoolean first = new AtomicBoolean(true);
+
+            Flux<DataBuffer> items = rows.map(row -> {
+                DataBuffer buffer = bufferFactory.allocateBuffer(256);
+                try (OutputStream out = buffer.asOutputStream()) {
+                    if(!first.compareAndSet(true, false))
+                        out.write(',');
+                    itemWriter.writeValue(out, row);
+                } catch (IOException ex) {
+                    DataBufferUtils.release(buffer);
+                    throw Exceptions.propagate(ex);
+                }
+                return buffer;
+            });
+
+            return Flux.concat(
+                    Mono.fromCallable(() -> bufferFactory.wrap(this.writeHeader(header))),
+                    items,
+                    Mono.fromCallable(() -> bufferFactory.wrap(SUFFIX)));
+        });
+    }
+
+    /**
+     * 헤더를 결과 목록 배열의 시작까지 JSON 으로 만든다.
+     * @param header 응답 헤더
+     * @return 헤더 JSON
+     * @throws IOException 쓰기에 실패한 경우
+     */
+    private byte[] writeHeader(ResponseList<?> header) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(512);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            // 결과 목록 배열이 열린 상태로 끝나야 하므로 자동으로 닫지 않는다.
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+            this.writeHeader(generator, header);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * 응답 결과와 페이징 값을 쓰고 결과 목록 배열을 시작한다.
+     * @param generator JSON 작성기
+     * @param header 응답 헤더
+     * @throws IOException 쓰기에 실패한 경우
+     */
+    private void writeHeader(JsonGenerator generator, ResponseList<?> header) throws IOException {
+        // 응답을 트리로 만든 뒤 결과 목록을 제외한다. (Jackson 직렬화와 같은 필드명 / 형식을 사용한다.)
+        ObjectNode root = objectMapper.valueToTree(header);
+        JsonNode data = root.remove(DATA_FIELD);
+        ObjectNode dataNode = data instanceof ObjectNode ? (ObjectNode) data : objectMapper.valueToTree(new QueryResults<>());
+        dataNode.remove(ITEMS_FIELD);
+
+        generator.writeStartObject();
+        for (Iterator<Map.Entry<String, JsonNode>> fields = root.fields(); fields.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            generator.writeFieldName(field.getKey());
+            itemWriter.writeValue(generator, field.getValue());
+        }
+
+        generator.writeFieldName(DATA_FIELD);
+        generator.writeStartObject();
+        for (Iterator<Map.Entry<String, JsonNode>> fields = dataNode.fields(); fields.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            generator.writeFieldName(field.getKey());
+            itemWriter.writeValue(generator, field.getValue());
+        }
+        generator.writeArrayFieldStart(ITEMS_FIELD);
+    }
+}
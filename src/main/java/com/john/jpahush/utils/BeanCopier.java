@@ -0,0 +1,247 @@
+package com.john.jpahush.utils;
+
+import org.springframework.beans.BeanUtils;
+import org.springframework.util.ClassUtils;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 원본 타입에서 대상 타입으로 객체를 생성/복사하는 복사기
+ * 타입 쌍별로 생성자와 프로퍼티 getter/setter 를 MethodHandle 로 한번만 만들어 두고 재사용한다.
+ * ObjectUtils.createAndCopy 와 같은 규칙 (원본 타입 생성자 우선, 없는 경우 기본 생성자 후 프로퍼티 복사) 으로 동작한다.
+ */
+public final class BeanCopier {
+
+    /**
+     * 원본 타입 별, 대상 타입 별 복사기 캐시
+     */
+    private static final ClassValue<Map<Class<?>, BeanCopier>> COPIERS = new ClassValue<>() {
+        @Override
+        protected Map<Class<?>, BeanCopier> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    };
+
+    /**
+     * getter 핸들 타입 (Object)Object
+     */
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    /**
+     * setter 핸들 타입 (Object, Object)void
+     */
+    private static final MethodType SETTER_TYPE = MethodType.methodType(void.class, Object.class, Object.class);
+
+    /**
+     * 원본 타입을 인자로 받는 생성자 (없는 경우 null)
+     */
+    private final MethodHandle copyConstructor;
+
+    /**
+     * 기본 생성자 (없는 경우 null)
+     */
+    private final MethodHandle defaultConstructor;
+
+    /**
+     * 목록 간 복사인지 여부
+     */
+    private final boolean listCopy;
+
+    /**
+     * 원본 프로퍼티 getter 목록
+     */
+    private final MethodHandle[] getters;
+
+    /**
+     * 대상 프로퍼티 setter 목록
+     */
+    private final MethodHandle[] setters;
+
+    /**
+     * 대상 프로퍼티가 기본형인지 여부 목록 (null 값을 복사하지 않는다.)
+     */
+    private final boolean[] primitives;
+
+    /**
+     * 생성자
+     * @param sourceClass 원본 타입
+     * @param destClass 대상 타입
+     */
+    private BeanCopier(Class<?> sourceClass, Class<?> destClass) {
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+        this.copyConstructor = findConstructor(lookup, destClass, sourceClass);
+        this.defaultConstructor = this.copyConstructor == null ? findConstructor(lookup, destClass) : null;
+        this.listCopy = List.class.isAssignableFrom(sourceClass) && List.class.isAssignableFrom(destClass);
+
+        List<MethodHandle> getterList = new ArrayList<>();
+        List<MethodHandle> setterList = new ArrayList<>();
+        List<Boolean> primitiveList = new ArrayList<>();
+
+        // 목록 간 복사가 아닌 경우 복사할 프로퍼티 목록을 만든다.
+        if(!this.listCopy) {
+            for (PropertyDescriptor target : BeanUtils.getPropertyDescriptors(destClass)) {
+                Method writeMethod = target.getWriteMethod();
+                if(writeMethod == null)
+                    continue;
+
+                PropertyDescriptor source = BeanUtils.getPropertyDescriptor(sourceClass, target.getName());
+                Method readMethod = source == null ? null : source.getReadMethod();
+                if(readMethod == null || !ClassUtils.isAssignable(writeMethod.getParameterTypes()[0], readMethod.getReturnType()))
+                    continue;
+
+                try {
+                    getterList.add(unreflect(lookup, readMethod).asType(GETTER_TYPE));
+                    setterList.add(unreflect(lookup, writeMethod).asType(SETTER_TYPE));
+                    primitiveList.add(writeMethod.getParameterTypes()[0].isPrimitive());
+                } catch (Exception ex) {
+                    // 접근할 수 없는 프로퍼티는 복사하지 않는다.
+                    MoreExceptionHandler.Log(ex);
+                    if(getterList.size() > setterList.size())
+                        getterList.remove(getterList.size() - 1);
+                }
+            }
+        }
+
+        this.getters = getterList.toArray(new MethodHandle[0]);
+        this.setters = setterList.toArray(new MethodHandle[0]);
+        this.primitives = new boolean[primitiveList.size()];
+        for (int index = 0; index < this.primitives.length; index++)
+            this.primitives[index] = primitiveList.get(index);
+    }
+
+    /**
+     * 원본 타입에서 대상 타입으로 복사하는 복사기를 가져온다.
+     * @param sourceClass 원본 타입
+     * @param destClass 대상 타입
+     * @return 복사기
+     */
+    public static BeanCopier of(Class<?> sourceClass, Class<?> destClass) {
+        Map<Class<?>, BeanCopier> copiers = COPIERS.get(sourceClass);
+        BeanCopier result = copiers.get(destClass);
+        if(result == null) {
+            result = new BeanCopier(sourceClass, destClass);
+            BeanCopier previous = copiers.putIfAbsent(destClass, result);
+            if(previous != null)
+                result = previous;
+        }
+        return result;
+    }
+
+    /**
+     * 대상 객체를 생성하고 값을 복사한다.
+     * @param source 원본 값 객체
+     * @param <T> 생성할 타입
+     * @return 생성된 객체 (생성할 수 없는 경우 null)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T createAndCopy(Object source) {
+        try {
+            // 원본 타입 생성자가 있는 경우
+            if(copyConstructor != null)
+                return (T) (Object) copyConstructor.invokeExact(source);
+
+            // 기본 생성자도 없는 경우
+            if(defaultConstructor == null)
+                return null;
+
+            T result = (T) (Object) defaultConstructor.invokeExact();
+            return this.copy(source, result);
+        } catch (Throwable ex) {
+            log(ex);
+        }
+        return null;
+    }
+
+    /**
+     * 객체의 값을 복사한다.
+     * @param source 원본 값 객체
+     * @param target 값을 복사할 대상 객체
+     * @param <T> 대상 타입
+     * @return 대상 객체
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T copy(Object source, T target) {
+        try {
+            // 목록 간 복사인 경우
+            if(listCopy) {
+                ((List<Object>) target).addAll((List<Object>) source);
+                return target;
+            }
+
+            // 모든 프로퍼티를 복사한다.
+            for (int index = 0; index < getters.length; index++) {
+                Object value = (Object) getters[index].invokeExact(source);
+                // 기본형 프로퍼티에 null 을 복사하지 않는다.
+                if(value == null && primitives[index])
+                    continue;
+                setters[index].invokeExact(target, value);
+            }
+        } catch (Throwable ex) {
+            log(ex);
+        }
+        return target;
+    }
+
+    /**
+     * 인자 타입에 해당하는 public 생성자 핸들을 찾는다.
+     * @param lookup 룩업
+     * @param type 생성할 타입
+     * @param parameterTypes 인자 타입 목록
+     * @return 생성자 핸들 (없는 경우 null)
+     */
+    private static MethodHandle findConstructor(MethodHandles.Lookup lookup, Class<?> type, Class<?>... parameterTypes) {
+        // 생성할 수 없는 타입인 경우
+        if(type.isInterface() || Modifier.isAbstract(type.getModifiers()))
+            return null;
+
+        for (Constructor<?> constructor : type.getConstructors()) {
+            if(!Arrays.equals(constructor.getParameterTypes(), parameterTypes))
+                continue;
+
+            try {
+                if(!Modifier.isPublic(type.getModifiers()))
+                    constructor.setAccessible(true);
+                return lookup.unreflectConstructor(constructor)
+                        .asType(MethodType.methodType(Object.class, parameterTypes.length == 0 ? new Class<?>[0] : new Class<?>[] { Object.class }));
+            } catch (Exception ex) {
+                MoreExceptionHandler.Log(ex);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 메서드 핸들을 만든다. public 이 아닌 클래스의 메서드는 접근 가능하도록 설정한다.
+     * @param lookup 룩업
+     * @param method 메서드
+     * @return 메서드 핸들
+     * @throws IllegalAccessException 접근할 수 없는 경우
+     */
+    private static MethodHandle unreflect(MethodHandles.Lookup lookup, Method method) throws IllegalAccessException {
+        if(!Modifier.isPublic(method.getDeclaringClass().getModifiers()))
+            method.setAccessible(true);
+        return lookup.unreflect(method);
+    }
+
+    /**
+     * 발생한 예외를 로그로 남긴다. (Error 인 경우 다시 던진다.)
+     * @param ex 발생한 예외
+     */
+    private static void log(Throwable ex) {
+        if(ex instanceof Error)
+            throw (Error) ex;
+        MoreExceptionHandler.Log(ex instanceof Exception ? (Exception) ex : new RuntimeException(ex));
+    }
+}
@@ -6,6 +6,7 @@ import java.text.SimpleDateFormat;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoField;
+import java.time.temporal.Temporal;
 import java.util.Calendar;
 import java.util.Date;
 
@@ -227,6 +228,18 @@ public class DateUtils {
 		return result;
 	}
 
+	/**
+	 * 날짜 객체의 날짜 시작 시각 (시스템 시간대 기준 0시) 에 일수를 더한 날짜 객체를 반환한다. (Calendar / 문자열 변환 없이 계산한다.)
+	 * @param source 원본 날짜 객체
+	 * @param days 더할 일수
+	 * @return Date 객체
+	 */
+	public static Date toStartOfDay(Date source, int days) {
+		if(source == null) return null;
+		ZoneId zone = ZoneId.systemDefault();
+		return Date.from(LocalDate.ofInstant(source.toInstant(), zone).plusDays(days).atStartOfDay(zone).toInstant());
+	}
+
 	/**
 	 * 날짜 문자열을 YearMonth 타입으로 변환한다.
 	 * @param source 원본 날짜 문자열
@@ -547,6 +560,20 @@ public class DateUtils {
 		return  Date.from(DateUtils.toInstant(source));
 	}
 
+	/**
+	 * 날짜/시간 객체 (Instant / LocalDate / LocalDateTime / OffsetDateTime / ZonedDateTime) 를 Date로 변환한다.
+	 * @param source Temporal 객체
+	 * @return Date 객체 (지원하지 않는 타입인 경우 null)
+	 */
+	public static Date toDate(Temporal source) {
+		if(source instanceof Instant) return Date.from((Instant) source);
+		if(source instanceof LocalDateTime) return toDate((LocalDateTime) source);
+		if(source instanceof LocalDate) return toDate((LocalDate) source);
+		if(source instanceof OffsetDateTime) return Date.from(((OffsetDateTime) source).toInstant());
+		if(source instanceof ZonedDateTime) return Date.from(((ZonedDateTime) source).toInstant());
+		return null;
+	}
+
 	/**
 	 * 두 개의 인스턴트 파라미터를 받아 연산하고 , 연산된 결과를 총시간으로 반환한다.
 	 * @param startDate 계산될 Instant 오브젝트
@@ -0,0 +1,174 @@
+package com.john.jpahush.utils;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Enum 이름 조회 테이블
+ * Enum 타입별로 한번만 만들어지는 (ClassValue) 읽기 전용 테이블이므로 만들어진 이후에는 잠금 없이 조회한다.
+ * 대소문자를 구분하지 않고 앞뒤 공백을 무시하며, 조회 중 문자열을 새로 만들지 않고 잘못된 값은 예외 대신 null 을 반환한다.
+ */
+@SuppressWarnings("unused")
+public final class EnumLookup {
+
+    /**
+     * Enum 타입별 조회 테이블
+     */
+    private static final ClassValue<EnumLookup> LOOKUPS = new ClassValue<>() {
+        @Override
+        protected EnumLookup computeValue(Class<?> type) {
+            return new EnumLookup(type);
+        }
+    };
+
+    /**
+     * 이름 목록 (열린 주소 해시 테이블)
+     */
+    private final String[] names;
+
+    /**
+     * 이름에 해당하는 값 목록
+     */
+    private final Enum<?>[] values;
+
+    /**
+     * 테이블 크기 - 1
+     */
+    private final int mask;
+
+    /**
+     * 대소문자만 다른 이름이 있는 경우 정확히 일치하는 이름 별 값 (없는 경우 null)
+     */
+    private final Map<String, Enum<?>> exactValues;
+
+    /**
+     * 생성자
+     * @param type Enum 타입
+     */
+    private EnumLookup(Class<?> type) {
+        Object[] constants = type.isEnum() ? type.getEnumConstants() : new Object[0];
+
+        // 부하율 0.5 이하의 2의 거듭제곱 크기
+        int capacity = Integer.highestOneBit(Math.max(constants.length, 1)) << 2;
+        this.names = new String[capacity];
+        this.values = new Enum<?>[capacity];
+        this.mask = capacity - 1;
+
+        Map<String, Enum<?>> exact = null;
+        for (Object constant : constants) {
+            Enum<?> value = (Enum<?>) constant;
+            String name = value.name();
+            int index = hash(name, 0, name.length()) & mask;
+
+            while (names[index] != null) {
+                // 대소문자만 다른 이름인 경우 정확히 일치하는 이름으로 조회할 수 있도록 한다.
+                if(names[index].equalsIgnoreCase(name)) {
+                    if(exact == null)
+                        exact = new HashMap<>();
+                    exact.put(names[index], values[index]);
+                    exact.put(name, value);
+                    break;
+                }
+                index = (index + 1) & mask;
+            }
+
+            // 먼저 선언된 값을 우선한다.
+            if(names[index] == null) {
+                names[index] = name;
+                values[index] = value;
+            }
+        }
+        this.exactValues = exact;
+    }
+
+    /**
+     * 이름에 해당하는 Enum 값을 찾는다.
+     * @param type Enum 타입
+     * @param token 이름 (대소문자 구분 없음, 앞뒤 공백 무시)
+     * @param <E> Enum 타입
+     * @return Enum 값 (없는 경우 null)
+     */
+    @SuppressWarnings("unchecked")
+    public static <E extends Enum<E>> E find(Class<E> type, CharSequence token) {
+        return (E) findValue(type, token);
+    }
+
+    /**
+     * 이름에 해당하는 Enum 값을 찾는다.
+     * @param type 타입 (Enum 이 아닌 경우 null 을 반환한다.)
+     * @param token 이름 (대소문자 구분 없음, 앞뒤 공백 무시)
+     * @return Enum 값 (없는 경우 null)
+     */
+    public static Enum<?> findValue(Class<?> type, CharSequence token) {
+        if(type == null || token == null)
+            return null;
+        return LOOKUPS.get(type).lookup(token);
+    }
+
+    /**
+     * 이름에 해당하는 값을 찾는다.
+     * @param token 이름
+     * @return 값 (없는 경우 null)
+     */
+    private Enum<?> lookup(CharSequence token) {
+        // 앞뒤 공백을 제외한 범위
+        int start = 0;
+        int end = token.length();
+        while (start < end && Character.isWhitespace(token.charAt(start))) start++;
+        while (end > start && Character.isWhitespace(token.charAt(end - 1))) end--;
+        if(start == end)
+            return null;
+
+        // 대소문자만 다른 이름이 있는 경우 정확히 일치하는 이름을 우선한다.
+        if(exactValues != null) {
+            Enum<?> result = exactValues.get(token.subSequence(start, end).toString());
+            if(result != null)
+                return result;
+        }
+
+        int length = end - start;
+        int index = hash(token, start, end) & mask;
+        while (names[index] != null) {
+            if(matches(names[index], token, start, length))
+                return values[index];
+            index = (index + 1) & mask;
+        }
+        return null;
+    }
+
+    /**
+     * 대소문자를 구분하지 않는 해시 값을 계산한다.
+     * @param text 문자열
+     * @param start 시작 위치
+     * @param end 끝 위치 (포함하지 않음)
+     * @return 해시 값
+     */
+    private static int hash(CharSequence text, int start, int end) {
+        int result = 0;
+        for (int index = start; index < end; index++)
+            result = 31 * result + Character.toLowerCase(Character.toUpperCase(text.charAt(index)));
+        // 상위 비트를 섞는다.
+        return result ^ (result >>> 16);
+    }
+
+    /**
+     * 대소문자를 구분하지 않고 일치하는지 여부를 반환한다.
+     * @param name 이름
+     * @param token 비교할 문자열
+     * @param start 비교 시작 위치
+     * @param length 비교 길이
+     * @return 일치하는 경우 true
+     */
+    private static boolean matches(String name, CharSequence token, int start, int length) {
+        if(name.length() != length)
+            return false;
+
+        for (int index = 0; index < length; index++) {
+            char left = name.charAt(index);
+            char right = token.charAt(start + index);
+            if(left != right && Character.toLowerCase(Character.toUpperCase(left)) != Character.toLowerCase(Character.toUpperCase(right)))
+                return false;
+        }
+        return true;
+    }
+}
@@ -2,7 +2,9 @@ package com.john.jpahush.utils;
 
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -219,4 +221,45 @@ public class MaskingUtils {
 		}
 		return juminNo;
 	}
+
+	/**
+	 * 쿼리 파라미터 마스킹(문자열 값은 첫자와 마지막 글자를 제외한 나머지, LIKE 와일드카드는 유지)
+	 * @param value 마스킹할 파라미터 값
+	 * @return 마스킹한 파라미터 문자열
+	 */
+	public static String maskingParameter(Object value) {
+
+		try {
+			// 값이 존재하지 않는 경우
+			if(value == null) return "null";
+
+			// 목록인 경우, 모든 값을 마스킹한다.
+			if(value instanceof Collection) {
+				List<String> maskedItems = new ArrayList<>();
+				for(Object item : (Collection<?>) value)
+					maskedItems.add(maskingParameter(item));
+				return maskedItems.toString();
+			}
+
+			// 문자열이 아닌 경우, 그대로 반환 처리
+			if(!(value instanceof CharSequence)) return String.valueOf(value);
+
+			String text = value.toString();
+
+			// 앞뒤 와일드카드를 제외한 부분만 마스킹한다.
+			int start = 0;
+			int end = text.length();
+			while(start < end && text.charAt(start) == '%') start++;
+			while(end > start && text.charAt(end - 1) == '%') end--;
+
+			String target = text.substring(start, end);
+			String masked = target.length() == 1 ? "*" : maskingName(target);
+
+			return text.substring(0, start) + masked + text.substring(end);
+		}
+		catch(Exception ignored) {
+
+		}
+		return "***";
+	}
 }
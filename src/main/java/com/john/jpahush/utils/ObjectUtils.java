@@ -1,7 +1,5 @@
 package com.john.jpahush.utils;
 
-import org.springframework.beans.BeanUtils;
-
 import java.lang.reflect.Method;
 import java.util.List;
 import java.util.Map;
@@ -17,69 +15,34 @@ public class ObjectUtils {
 
     /**
      * 객체를 생성하고 값을 복사한다.
+     * 타입 쌍별로 캐시된 복사기를 사용한다. (원본 타입 생성자가 있는 경우 우선 사용한다.)
      * @param source 원본 값 객체
      * @param clazz 생성할 타입에 대한 클래스 객체
      * @param <T> 생성할 타입
      * @return 생성된 객체
      */
-    @SuppressWarnings("unchecked")
     public static <T> T createAndCopy(Object source, Class<T> clazz) {
-        T result = null;
-
-        try {
-            try {
-                // 객체를 생성
-                result = clazz.getConstructor(source.getClass()).newInstance(source);
-            } catch (Exception e) {
-                // 객체를 생성
-                result = clazz.getConstructor().newInstance();
-
-                // 원본 객체가 목록인 경우
-                if(result instanceof List && source instanceof List) {
-                    for(Object item: (List<Object>)source) {
-                        ((List<Object>)result).add(item);
-                    }
-                }
-                // 원본 객체가 목록이 아닌 경우
-                else {
-                    // 값 복사
-                    BeanUtils.copyProperties(source, result);
-                }
-            }
-        } catch (Exception e) {
-            MoreExceptionHandler.Log(e);
-        }
+        // 원본 객체 또는 타입이 없는 경우
+        if(source == null || clazz == null)
+            return null;
 
-        return result;
+        return BeanCopier.of(source.getClass(), clazz).createAndCopy(source);
     }
 
     /**
      * 객체의 값을 복사한다.
+     * 타입 쌍별로 캐시된 복사기를 사용한다.
      * @param source 원본 값 객체
      * @param target 값을 복사할 대상 객체
      * @param <T> 생성할 타입
      * @return 생성된 객체
      */
-    @SuppressWarnings("unchecked")
     public static <T> T copy(Object source, T target) {
+        // 원본 또는 대상 객체가 없는 경우
+        if(source == null || target == null)
+            return target;
 
-        try {
-            // 원본 객체가 목록인 경우
-            if(target instanceof List && source instanceof List) {
-                for(Object item: (List<Object>)source) {
-                    ((List<Object>)target).add(item);
-                }
-            }
-            // 원본 객체가 목록이 아닌 경우
-            else {
-                // 값 복사
-                BeanUtils.copyProperties(source, target);
-            }
-        } catch (Exception e) {
-            MoreExceptionHandler.Log(e);
-        }
-
-        return target;
+        return BeanCopier.of(source.getClass(), target.getClass()).copy(source, target);
     }
 
     /**
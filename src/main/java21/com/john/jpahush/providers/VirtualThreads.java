@@ -0,0 +1,33 @@
+package com.john.jpahush.providers;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * 가상 스레드 실행기 생성 클래스 (JDK 21 이상 용, 멀티 릴리즈 jar 의 META-INF/versions/21 에 포함된다.)
+ */
+public final class VirtualThreads {
+
+    /**
+     * 생성자
+     */
+    private VirtualThreads() {
+    }
+
+    /**
+     * 가상 스레드를 지원하는지 여부를 반환한다.
+     * @return 지원하는 경우 true
+     */
+    public static boolean isSupported() {
+        return true;
+    }
+
+    /**
+     * 작업마다 가상 스레드를 만드는 실행기를 만든다.
+     * @param name 스레드명 접두어
+     * @return 실행기
+     */
+    public static ExecutorService newExecutor(String name) {
+        return Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name(name + "-", 0).factory());
+    }
+}
@@ -0,0 +1,189 @@
+package com.john.jpahush.data.commondata.responses;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * QueryResults 페이징 값 테스트
+ * 한번에 계산하는 페이징 값이 기존 getter 의 계산 결과와 같은지 확인한다.
+ */
+class QueryResultsTest {
+
+    /**
+     * 전체 레코드 수 목록
+     */
+    private static final long[] TOTAL_COUNTS = { 0, 1, 19, 20, 21, 99, 100, 101, 1000, 12345 };
+
+    /**
+     * 건너뛸 레코드 수 목록
+     */
+    private static final long[] SKIPS = { 0, 1, 20, 40, 90, 100, 180, 200, 980, 12340 };
+
+    /**
+     * 페이지 당 레코드 수 목록
+     */
+    private static final int[] COUNT_PER_PAGES = { 1, 10, 20, 30, 100 };
+
+    /**
+     * 페이지 섹션 당 페이지 수 목록
+     */
+    private static final int[] PAGE_PER_SECTIONS = { 0, 1, 5, 10, 20 };
+
+    /**
+     * 모든 입력 조합에 대해 기존 계산 결과와 같다.
+     */
+    @Test
+    void matchesLegacyGetters() {
+        for (long totalCount : TOTAL_COUNTS) {
+            for (long skip : SKIPS) {
+                for (int countPerPage : COUNT_PER_PAGES) {
+                    for (int pagePerSection : PAGE_PER_SECTIONS) {
+                        QueryResults<Object> result = QueryResults.adopt(new ArrayList<>(), totalCount, skip, countPerPage, pagePerSection);
+                        assertLegacy(result, String.format("total=%d skip=%d countPerPage=%d pagePerSection=%d", totalCount, skip, countPerPage, pagePerSection));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * 페이징 입력 값이 바뀐 경우 다시 계산한다.
+     */
+    @Test
+    void recomputesWhenInputChanges() {
+        QueryResults<Object> result = QueryResults.adopt(new ArrayList<>(), 100, 0, 10, 5);
+        assertEquals(10, result.getTotalPage());
+        assertEquals(List.of(1, 2, 3, 4, 5), result.getPageNos());
+
+        result.setTotalCount(1000);
+        result.setPageNo(7);
+        assertLegacy(result, "changed");
+        assertEquals(List.of(6, 7, 8, 9, 10), result.getPageNos());
+    }
+
+    /**
+     * 지정된 페이징 값이 있는 경우 지정된 값을 사용한다.
+     */
+    @Test
+    void usesFixedValues() {
+        QueryResults<Object> result = QueryResults.adopt(new ArrayList<>(), 100, 0, 10, 5);
+        result.setTotalPage(3);
+        result.setStartPageNo(2);
+        result.setEndPageNo(3);
+
+        assertLegacy(result, "fixed");
+        assertEquals(List.of(2, 3), result.getPageNos());
+        assertArrayEquals(new int[] { 2, 3 }, result.getPageNoArray());
+    }
+
+    /**
+     * 기존 getter 의 계산 결과와 같은지 확인한다.
+     * @param result 조회 결과
+     * @param message 실패 메세지
+     */
+    private static void assertLegacy(QueryResults<?> result, String message) {
+        int totalPage = legacyTotalPage(result);
+        int startPageNo = legacyStartPageNo(result);
+        int endPageNo = legacyEndPageNo(result, startPageNo);
+
+        List<Integer> pageNos = new ArrayList<>();
+        for (int pageNo = startPageNo; pageNo <= endPageNo; pageNo++)
+            pageNos.add(pageNo);
+        int[] pageNoArray = pageNos.stream().mapToInt(Integer::intValue).toArray();
+
+        assertEquals(totalPage, result.getTotalPage(), message);
+        assertEquals(startPageNo, result.getStartPageNo(), message);
+        assertEquals(endPageNo, result.getEndPageNo(), message);
+        assertEquals(pageNos, result.getPageNos(), message);
+        assertArrayEquals(pageNoArray, result.getPageNoArray(), message);
+        assertEquals(legacyHaveNextPageSection(result, totalPage), result.isHaveNextPageSection(), message);
+        assertEquals(totalPage > 1 && result.getPageNo() > 1, result.isHavePreviousPage(), message);
+        assertEquals(result.getPageNo() < totalPage, result.isHaveNextPage(), message);
+        assertEquals(totalPage > 1 && result.getPageNo() > result.getPagePerSection(), result.isHavePreviousPageSection(), message);
+    }
+
+    /**
+     * 기존 전체 페이지 수 계산
+     * @param result 조회 결과
+     * @return 전체 페이지 수
+     */
+    private static int legacyTotalPage(QueryResults<?> result) {
+        if(result.totalPage > 0) return result.totalPage;
+
+        if (result.getTotalCount() == 0 || result.getCountPerPage() <= 0)
+            return 1;
+
+        return (int) Math.ceil(result.getTotalCount() / (double) result.getCountPerPage());
+    }
+
+    /**
+     * 기존 시작 페이지 번호 계산
+     * @param result 조회 결과
+     * @return 시작 페이지 번호
+     */
+    private static int legacyStartPageNo(QueryResults<?> result) {
+        if(result.startPageNo > 0) return result.startPageNo;
+
+        if (result.getTotalCount() <= 0)
+            return 1;
+
+        if (result.getPagePerSection() <= 0)
+            return 1;
+
+        int currentSection = result.getPageNo() / result.getPagePerSection();
+        if (result.getPageNo() % result.getPagePerSection() > 0)
+            currentSection++;
+
+        return (currentSection - 1) * result.getPagePerSection() + 1;
+    }
+
+    /**
+     * 기존 마지막 페이지 번호 계산
+     * @param result 조회 결과
+     * @param startPageNo 시작 페이지 번호
+     * @return 마지막 페이지 번호
+     */
+    private static int legacyEndPageNo(QueryResults<?> result, int startPageNo) {
+        if(result.endPageNo > 0) return result.endPageNo;
+
+        if (result.getTotalCount() <= 0)
+            return 1;
+
+        if (result.getCountPerPage() <= 0)
+            return 1;
+
+        int lastPageNo = (int)(result.getTotalCount() / result.getCountPerPage());
+        if (result.getTotalCount() % result.getCountPerPage() > 0)
+            lastPageNo++;
+
+        return Math.min(lastPageNo, startPageNo + result.getPagePerSection() - 1);
+    }
+
+    /**
+     * 기존 다음 섹션 존재 여부 계산
+     * @param result 조회 결과
+     * @param totalPage 전체 페이지 수
+     * @return 다음 섹션이 존재하는 경우 true
+     */
+    private static boolean legacyHaveNextPageSection(QueryResults<?> result, int totalPage) {
+        if (result.getTotalCount() <= 0)
+            return false;
+
+        if (result.getPagePerSection() <= 0)
+            return false;
+
+        int sectionCount = totalPage / result.getPagePerSection();
+        if (totalPage % result.getPagePerSection() > 0)
+            sectionCount++;
+
+        int currentSection = result.getPageNo() / result.getPagePerSection();
+        if (result.getPageNo() % result.getPagePerSection() > 0)
+            currentSection++;
+
+        return sectionCount != currentSection;
+    }
+}
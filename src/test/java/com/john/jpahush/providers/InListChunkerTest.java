@@ -0,0 +1,109 @@
+package com.john.jpahush.providers;
+
+import com.querydsl.core.types.*;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * InListChunker 테스트
+ */
+class InListChunkerTest {
+
+    /**
+     * 아이디 경로
+     */
+    private final NumberPath<Long> id = Expressions.numberPath(Long.class, "id");
+
+    /**
+     * IN 목록 최대 크기를 기본값으로 되돌린다.
+     */
+    @AfterEach
+    void resetChunkSize() {
+        InListChunker.setChunkSize(InListChunker.DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * 값이 없는 경우 null, 값이 하나인 경우 일치 조건을 만든다.
+     */
+    @Test
+    void emptyAndSingleValue() {
+        assertNull(InListChunker.in(id, List.of()));
+        assertEquals(id.eq(1L).toString(), InListChunker.in(id, List.of(1L, 1L)).toString());
+    }
+
+    /**
+     * 중복 값을 제외하고 목록 크기를 2의 거듭제곱으로 맞춘다. (마지막 값 반복)
+     */
+    @Test
+    void padsToPowerOfTwo() {
+        PredicateOptimizerTest.assertIn(InListChunker.in(id, List.of(1L, 2L, 2L, 3L)), id, List.of(1L, 2L, 3L, 3L));
+        PredicateOptimizerTest.assertIn(InListChunker.in(id, List.of(1L, 2L, 3L, 4L)), id, List.of(1L, 2L, 3L, 4L));
+        PredicateOptimizerTest.assertIn(InListChunker.in(id, List.of(1L, 2L, 3L, 4L, 5L)), id, List.of(1L, 2L, 3L, 4L, 5L, 5L, 5L, 5L));
+    }
+
+    /**
+     * 최대 크기를 넘는 경우 나눈 IN 조건을 OR 로 묶고, 값이 하나 남은 묶음은 일치 조건으로 만든다.
+     */
+    @Test
+    void splitsIntoChunks() {
+        InListChunker.setChunkSize(4);
+        List<Long> values = new ArrayList<>();
+        for (long value = 1; value <= 9; value++)
+            values.add(value);
+
+        List<Expression<?>> terms = new ArrayList<>();
+        flattenOr(InListChunker.in(id, values), terms);
+
+        assertEquals(3, terms.size());
+        PredicateOptimizerTest.assertIn(terms.get(0), id, List.of(1L, 2L, 3L, 4L));
+        PredicateOptimizerTest.assertIn(terms.get(1), id, List.of(5L, 6L, 7L, 8L));
+        assertEquals(id.eq(9L).toString(), terms.get(2).toString());
+    }
+
+    /**
+     * 마지막 묶음도 2의 거듭제곱으로 맞춘다.
+     */
+    @Test
+    void padsLastChunk() {
+        InListChunker.setChunkSize(4);
+
+        List<Expression<?>> terms = new ArrayList<>();
+        flattenOr(InListChunker.in(id, List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L)), terms);
+
+        assertEquals(2, terms.size());
+        PredicateOptimizerTest.assertIn(terms.get(1), id, List.of(5L, 6L, 7L, 7L));
+    }
+
+    /**
+     * 최대 크기는 2의 거듭제곱으로 내림한다.
+     */
+    @Test
+    void chunkSizeRoundsDownToPowerOfTwo() {
+        InListChunker.setChunkSize(600);
+        assertEquals(512, InListChunker.getChunkSize());
+
+        InListChunker.setChunkSize(0);
+        assertEquals(1, InListChunker.getChunkSize());
+    }
+
+    /**
+     * OR 조건을 평탄화한다.
+     * @param expression 조건
+     * @param terms 조건 목록
+     */
+    private static void flattenOr(Expression<?> expression, List<Expression<?>> terms) {
+        if(expression instanceof Operation && ((Operation<?>) expression).getOperator() == Ops.OR) {
+            for (Expression<?> arg : ((Operation<?>) expression).getArgs())
+                flattenOr(arg, terms);
+        }
+        else
+            terms.add(expression);
+    }
+}
@@ -0,0 +1,132 @@
+package com.john.jpahush.providers;
+
+import com.john.jpahush.data.commondata.enums.EnumCountMode;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.dsl.Expressions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * KeysetPaging 커서 변환 테스트
+ */
+class KeysetPagingTest {
+
+    /**
+     * 정렬 식 목록
+     */
+    private final List<OrderSpecifier<?>> orders = List.of(
+            new OrderSpecifier<>(Order.DESC, Expressions.dateTimePath(LocalDateTime.class, "createdAt")),
+            new OrderSpecifier<>(Order.ASC, Expressions.stringPath("name")),
+            new OrderSpecifier<>(Order.ASC, Expressions.enumPath(EnumCountMode.class, "mode")),
+            new OrderSpecifier<>(Order.ASC, Expressions.dateTimePath(Date.class, "updatedAt")),
+            new OrderSpecifier<>(Order.ASC, Expressions.numberPath(BigDecimal.class, "amount")),
+            new OrderSpecifier<>(Order.ASC, Expressions.comparablePath(UUID.class, "uid")),
+            new OrderSpecifier<>(Order.ASC, Expressions.numberPath(Long.class, "id")));
+
+    /**
+     * 커서로 변환한 값은 같은 정렬 식으로 원래 값으로 되돌릴 수 있다.
+     */
+    @Test
+    void roundTrip() {
+        Object[] values = {
+                LocalDateTime.of(2024, 2, 29, 13, 45, 1, 123_000_000),
+                "a:b,c 한글 12:34",
+                EnumCountMode.Estimated,
+                new Date(1_700_000_000_123L),
+                new BigDecimal("12345.6700"),
+                UUID.fromString("123e4567-e89b-12d3-a456-426614174000"),
+                Long.MAX_VALUE
+        };
+
+        String cursor = KeysetPaging.encode(orders, values);
+
+        assertNotNull(cursor);
+        assertArrayEquals(values, KeysetPaging.decode(cursor, orders));
+    }
+
+    /**
+     * 빈 문자열 값도 되돌릴 수 있다.
+     */
+    @Test
+    void roundTripEmptyString() {
+        List<OrderSpecifier<?>> nameOrders = List.of(new OrderSpecifier<>(Order.ASC, Expressions.stringPath("name")));
+        Object[] values = { "" };
+
+        assertArrayEquals(values, KeysetPaging.decode(KeysetPaging.encode(nameOrders, values), nameOrders));
+    }
+
+    /**
+     * Timestamp 값은 나노초까지 되돌릴 수 있다.
+     */
+    @Test
+    void roundTripTimestampNanos() {
+        Timestamp value = Timestamp.valueOf(LocalDateTime.of(2024, 2, 29, 13, 45, 1, 123_456_789));
+        List<OrderSpecifier<?>> timestampOrders = List.of(new OrderSpecifier<>(Order.ASC, Expressions.dateTimePath(Timestamp.class, "createdAt")));
+        List<OrderSpecifier<?>> dateOrders = List.of(new OrderSpecifier<>(Order.ASC, Expressions.dateTimePath(Date.class, "createdAt")));
+
+        Object[] decoded = KeysetPaging.decode(KeysetPaging.encode(timestampOrders, new Object[] { value }), timestampOrders);
+        assertNotNull(decoded);
+        assertEquals(value, decoded[0]);
+        assertEquals(123_456_789, ((Timestamp) decoded[0]).getNanos());
+
+        // Date 필드에서 Timestamp 로 조회된 값도 나노초를 유지한다.
+        decoded = KeysetPaging.decode(KeysetPaging.encode(dateOrders, new Object[] { value }), dateOrders);
+        assertNotNull(decoded);
+        assertEquals(value, decoded[0]);
+    }
+
+    /**
+     * null 값이 포함된 경우 커서를 만들지 않는다.
+     */
+    @Test
+    void encodeReturnsNullForNullValue() {
+        List<OrderSpecifier<?>> idOrders = List.of(new OrderSpecifier<>(Order.ASC, Expressions.numberPath(Long.class, "id")));
+
+        assertNull(KeysetPaging.encode(idOrders, new Object[] { null }));
+    }
+
+    /**
+     * 다른 정렬 정보로 만들어진 커서는 되돌리지 않는다.
+     */
+    @Test
+    void decodeRejectsCursorOfOtherOrders() {
+        List<OrderSpecifier<?>> ascending = List.of(new OrderSpecifier<>(Order.ASC, Expressions.numberPath(Long.class, "id")));
+        List<OrderSpecifier<?>> descending = List.of(new OrderSpecifier<>(Order.DESC, Expressions.numberPath(Long.class, "id")));
+
+        String cursor = KeysetPaging.encode(ascending, new Object[] { 10L });
+
+        assertNull(KeysetPaging.decode(cursor, descending));
+    }
+
+    /**
+     * 잘못된 커서는 예외 대신 null 을 반환한다.
+     */
+    @Test
+    void decodeRejectsMalformedCursor() {
+        List<OrderSpecifier<?>> idOrders = List.of(new OrderSpecifier<>(Order.ASC, Expressions.numberPath(Long.class, "id")));
+
+        assertNull(KeysetPaging.decode("%%%", idOrders));
+        assertNull(KeysetPaging.decode("", idOrders));
+    }
+
+    /**
+     * 정렬 식의 타입으로 변환할 수 없는 값을 가진 커서는 되돌리지 않는다.
+     */
+    @Test
+    void decodeRejectsValueOfOtherType() {
+        // 같은 이름의 문자열 경로로 만든 커서 (정렬 정보 서명은 같다.)
+        List<OrderSpecifier<?>> textOrders = List.of(new OrderSpecifier<>(Order.ASC, Expressions.stringPath("id")));
+        List<OrderSpecifier<?>> idOrders = List.of(new OrderSpecifier<>(Order.ASC, Expressions.numberPath(Long.class, "id")));
+
+        assertNull(KeysetPaging.decode(KeysetPaging.encode(textOrders, new Object[] { "abc" }), idOrders));
+    }
+}
@@ -0,0 +1,107 @@
+package com.john.jpahush.providers;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PeriodPredicateBuilder 기간 합치기 테스트
+ */
+class PeriodPredicateBuilderTest {
+
+    /**
+     * 겹치는 기간은 하나로 합친다.
+     */
+    @Test
+    void mergesOverlappingRanges() {
+        assertRanges(merge(range(0, 10), range(5, 15)), range(0, 15));
+    }
+
+    /**
+     * 이어지는 기간 (종료 = 다음 시작) 은 하나로 합친다.
+     */
+    @Test
+    void mergesTouchingRanges() {
+        assertRanges(merge(range(0, 10), range(10, 20)), range(0, 20));
+    }
+
+    /**
+     * 포함되는 기간은 바깥 기간으로 합친다.
+     */
+    @Test
+    void mergesContainedRanges() {
+        assertRanges(merge(range(0, 30), range(5, 10)), range(0, 30));
+    }
+
+    /**
+     * 떨어진 기간은 시작 순으로 정렬하여 각각 유지한다.
+     */
+    @Test
+    void keepsDisjointRangesSorted() {
+        assertRanges(merge(range(20, 30), range(0, 10)), range(0, 10), range(20, 30));
+    }
+
+    /**
+     * 시작 / 종료가 없는 (제한 없는) 기간도 합친다.
+     */
+    @Test
+    void mergesOpenEndedRanges() {
+        assertRanges(merge(range(null, 10), range(5, 20)), range(null, 20));
+        assertRanges(merge(range(0, null), range(5, 20)), range(0, null));
+        assertRanges(merge(range(30, 40), range(null, 10), range(0, null)), range(null, null));
+    }
+
+    /**
+     * 전달받은 기간 목록은 변경하지 않는다.
+     */
+    @Test
+    void doesNotModifyInput() {
+        Instant[] first = range(0, 10);
+        Instant[] second = range(5, 15);
+
+        merge(first, second);
+
+        assertArrayEquals(range(0, 10), first);
+        assertArrayEquals(range(5, 15), second);
+    }
+
+    /**
+     * 기간 목록을 합친다.
+     * @param ranges 기간 목록
+     * @return 합쳐진 기간 목록
+     */
+    private static List<Instant[]> merge(Instant[]... ranges) {
+        List<Instant[]> source = new ArrayList<>();
+        for (Instant[] range : ranges)
+            source.add(range);
+        return PeriodPredicateBuilder.merge(source);
+    }
+
+    /**
+     * 기간을 만든다.
+     * @param start 시작 (초, null 인 경우 제한 없음)
+     * @param end 종료 (초, null 인 경우 제한 없음)
+     * @return 기간
+     */
+    private static Instant[] range(Integer start, Integer end) {
+        return new Instant[] {
+                start == null ? null : Instant.ofEpochSecond(start),
+                end == null ? null : Instant.ofEpochSecond(end)
+        };
+    }
+
+    /**
+     * 기간 목록이 같은지 확인한다.
+     * @param actual 기간 목록
+     * @param expected 예상 기간 목록
+     */
+    private static void assertRanges(List<Instant[]> actual, Instant[]... expected) {
+        assertEquals(expected.length, actual.size());
+        for (int index = 0; index < expected.length; index++)
+            assertArrayEquals(expected[index], actual.get(index));
+    }
+}
@@ -0,0 +1,104 @@
+package com.john.jpahush.providers;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.*;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.NumberPath;
+import com.querydsl.core.types.dsl.StringPath;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PredicateOptimizer 테스트
+ */
+class PredicateOptimizerTest {
+
+    /**
+     * 아이디 경로
+     */
+    private final NumberPath<Long> id = Expressions.numberPath(Long.class, "id");
+
+    /**
+     * 이름 경로
+     */
+    private final StringPath name = Expressions.stringPath("name");
+
+    /**
+     * 중첩된 AND 조건은 평탄화되고 순서가 유지된다.
+     */
+    @Test
+    void allOfFlattensNestedAnd() {
+        Predicate result = PredicateOptimizer.allOf(List.of(id.eq(1L).and(name.eq("a")), name.isNotNull()));
+
+        assertEquals(ExpressionUtils.allOf(id.eq(1L), name.eq("a"), name.isNotNull()).toString(), result.toString());
+    }
+
+    /**
+     * 중복 조건, 빈 조건, null 조건은 제외된다.
+     */
+    @Test
+    void allOfRemovesDuplicateAndEmptyTerms() {
+        Predicate result = PredicateOptimizer.allOf(Arrays.asList(name.eq("a"), null, new BooleanBuilder(), name.eq("a"), id.gt(1L)));
+
+        assertEquals(ExpressionUtils.allOf(name.eq("a"), id.gt(1L)).toString(), result.toString());
+    }
+
+    /**
+     * 조건이 없거나 항상 참인 조건만 있는 경우 null 을 반환한다.
+     */
+    @Test
+    void allOfReturnsNullWhenNothingRemains() {
+        assertNull(PredicateOptimizer.allOf(List.of()));
+        assertNull(PredicateOptimizer.allOf(Arrays.asList(null, new BooleanBuilder(), Expressions.TRUE)));
+    }
+
+    /**
+     * AND 안의 OR 로 묶인 같은 식의 일치 / IN 조건은 하나의 IN 조건으로 합쳐진다.
+     */
+    @Test
+    void allOfFoldsEqualsIntoInInsideOr() {
+        Predicate result = PredicateOptimizer.allOf(List.of(id.eq(1L).or(id.eq(2L)).or(id.in(2L, 3L)), name.eq("a")));
+
+        assertTrue(result instanceof Operation);
+        Operation<?> and = (Operation<?>) result;
+        assertEquals(Ops.AND, and.getOperator());
+        assertIn(and.getArg(0), id, List.of(1L, 2L, 3L, 3L));
+        assertEquals(name.eq("a").toString(), and.getArg(1).toString());
+    }
+
+    /**
+     * 다른 식의 조건은 합쳐지지 않는다.
+     */
+    @Test
+    void anyOfKeepsDifferentTargets() {
+        Predicate result = PredicateOptimizer.anyOf(List.of(id.eq(1L), name.eq("a")));
+
+        assertEquals(ExpressionUtils.anyOf(id.eq(1L), name.eq("a")).toString(), result.toString());
+    }
+
+    /**
+     * 항상 참인 조건이 포함된 OR 는 null (조건 없음) 이 된다.
+     */
+    @Test
+    void anyOfWithTrueTermIsAlwaysTrue() {
+        assertNull(PredicateOptimizer.anyOf(List.of(id.eq(1L), Expressions.TRUE)));
+    }
+
+    /**
+     * IN 조건인지 확인한다.
+     * @param predicate 조건
+     * @param target 대상 식
+     * @param values 값 목록
+     */
+    static void assertIn(Expression<?> predicate, Expression<?> target, List<?> values) {
+        assertTrue(predicate instanceof Operation);
+        Operation<?> operation = (Operation<?>) predicate;
+        assertEquals(Ops.IN, operation.getOperator());
+        assertEquals(target, operation.getArg(0));
+        assertEquals(values, ((Constant<?>) operation.getArg(1)).getConstant());
+    }
+}
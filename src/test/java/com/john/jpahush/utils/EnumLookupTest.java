@@ -0,0 +1,56 @@
+package com.john.jpahush.utils;
+
+import com.john.jpahush.data.commondata.enums.EnumCountMode;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * EnumLookup 테스트
+ */
+class EnumLookupTest {
+
+    /**
+     * 대소문자만 다른 이름을 가진 Enum
+     */
+    enum MixedCase {
+        Value,
+        VALUE,
+        other
+    }
+
+    /**
+     * 대소문자를 구분하지 않고 앞뒤 공백을 무시한다.
+     */
+    @Test
+    void findsIgnoringCaseAndWhitespace() {
+        assertEquals(EnumCountMode.Exact, EnumLookup.find(EnumCountMode.class, "exact"));
+        assertEquals(EnumCountMode.None, EnumLookup.find(EnumCountMode.class, "NONE"));
+        assertEquals(EnumCountMode.Estimated, EnumLookup.find(EnumCountMode.class, "  eStImAtEd\t"));
+        assertEquals(EnumCountMode.Estimated, EnumLookup.find(EnumCountMode.class, new StringBuilder("Estimated")));
+    }
+
+    /**
+     * 잘못된 값은 예외 대신 null 을 반환한다.
+     */
+    @Test
+    void returnsNullForUnknownValues() {
+        assertNull(EnumLookup.find(EnumCountMode.class, "unknown"));
+        assertNull(EnumLookup.find(EnumCountMode.class, "exac"));
+        assertNull(EnumLookup.find(EnumCountMode.class, "   "));
+        assertNull(EnumLookup.find(EnumCountMode.class, null));
+        assertNull(EnumLookup.findValue(null, "exact"));
+        assertNull(EnumLookup.findValue(String.class, "exact"));
+    }
+
+    /**
+     * 대소문자만 다른 이름이 있는 경우 정확히 일치하는 이름을 우선하고, 그 외에는 먼저 선언된 값을 사용한다.
+     */
+    @Test
+    void prefersExactMatchForCaseOnlyDuplicates() {
+        assertEquals(MixedCase.Value, EnumLookup.find(MixedCase.class, "Value"));
+        assertEquals(MixedCase.VALUE, EnumLookup.find(MixedCase.class, "VALUE"));
+        assertEquals(MixedCase.Value, EnumLookup.find(MixedCase.class, "value"));
+        assertEquals(MixedCase.other, EnumLookup.find(MixedCase.class, "OTHER"));
+    }
+}